@@ -0,0 +1,23 @@
+package com.inktrack.core.domain;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Read-only view of a book for listings: the book's own columns plus its category id and name, without
+ * the owning user.
+ */
+public record BookSummary(
+    Long id,
+    Long categoryId,
+    String categoryName,
+    String title,
+    String author,
+    Integer totalPages,
+    Integer pagesRead,
+    Integer progress,
+    String thumbnailUrl,
+    String googleBookId,
+    OffsetDateTime createdAt,
+    OffsetDateTime updatedAt
+) {
+}
@@ -10,13 +10,19 @@ public class User {
   private String email;
   private String password;
   private LocalDateTime createdAt;
+  private int tokenVersion;
 
   public User(UUID id, String name, String email, String password, LocalDateTime createdAt) {
+    this(id, name, email, password, createdAt, 0);
+  }
+
+  public User(UUID id, String name, String email, String password, LocalDateTime createdAt, int tokenVersion) {
     this.id = id;
     this.name = name;
     this.email = email;
     this.password = password;
     this.createdAt = createdAt;
+    this.tokenVersion = tokenVersion;
   }
 
   public UUID getId() {
@@ -39,4 +45,8 @@ public class User {
     return createdAt;
   }
 
+  public int getTokenVersion() {
+    return tokenVersion;
+  }
+
 }
@@ -1,20 +1,67 @@
 package com.inktrack.core.gateway;
 
 import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.BookSummary;
+import com.inktrack.core.domain.User;
+import com.inktrack.core.usecases.book.BookCursor;
+import com.inktrack.core.usecases.book.BookPatch;
 import com.inktrack.core.usecases.book.GetBookFilter;
+import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public interface BookGateway {
 
   Book save(Book book);
 
+  /**
+   * Inserts new books in one write and returns them, with their ids, in the order given.
+   */
+  List<Book> saveAll(List<Book> books);
+
   Book findByIdAndUserId(Long id, UUID userId);
 
   Book update(Book bookUpdated);
 
-  List<Book> getUserBooksPage(UUID userId, GetBookFilter filter);
+  /**
+   * Writes only the fields set in {@code patch} and returns the updated book. Fails with
+   * {@link com.inktrack.core.exception.BookNotFoundException} when the owner has no such book, and with a
+   * field validation error when the new total is below the pages already read.
+   */
+  Book patch(Long id, User owner, BookPatch patch);
+
+  /**
+   * Moves the pages read by {@code pages}, which may be negative, with an increment done in the database, so
+   * concurrent changes to one book never overwrite each other. Returns the new pages read. Fails with a field
+   * validation error when the result would fall outside zero to the total pages.
+   */
+  int addPagesRead(Long id, UUID userId, int pages);
+
+  /**
+   * Moves the pages read of several books at once, each by its own amount, in one round trip. Books that the
+   * user does not own, or whose result would fall outside zero to the total pages, are left untouched. Returns
+   * the ids of the books that were moved.
+   */
+  Set<Long> addPagesRead(UUID userId, Map<Long, Integer> pagesByBook);
+
+  /**
+   * Returns the filter's offset page; the total is only computed when {@link GetBookFilter#includeTotal()} is set.
+   */
+  PageResult<BookSummary> getUserBooksPage(UUID userId, GetBookFilter filter);
+
+  /**
+   * Returns up to {@code limit} books that sort strictly after {@code after}, using the filter's sort.
+   */
+  List<BookSummary> getUserBooksAfter(UUID userId, GetBookFilter filter, BookCursor after, int limit);
+
+  /**
+   * Stamp over all of the user's books, whatever the listing filter.
+   */
+  VersionStamp getLibraryVersion(UUID userId);
 
   long countUserBooks(UUID userId);
 
@@ -2,6 +2,7 @@ package com.inktrack.core.gateway;
 
 import com.inktrack.core.domain.Category;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,5 +10,7 @@ public interface CategoryGateway {
 
   Optional<Category> getById(Long id);
 
+  List<Category> getByIds(Collection<Long> ids);
+
   List<Category> getAll();
 }
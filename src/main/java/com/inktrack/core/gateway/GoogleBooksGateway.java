@@ -3,6 +3,8 @@ package com.inktrack.core.gateway;
 import com.inktrack.core.usecases.book.GoogleBooksVolume;
 import com.inktrack.core.usecases.book.SearchBooksOutput;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface GoogleBooksGateway {
@@ -10,4 +12,10 @@ public interface GoogleBooksGateway {
   SearchBooksOutput searchBooks(String query);
 
   Optional<GoogleBooksVolume> getVolumeById(String volumeId);
+
+  /**
+   * Looks the volumes up concurrently and maps each id to its cover url. Ids whose lookup fails, has no
+   * cover or does not finish in time are left out.
+   */
+  Map<String, String> getThumbnailUrls(Collection<String> volumeIds);
 }
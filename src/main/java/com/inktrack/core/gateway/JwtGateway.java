@@ -1,5 +1,8 @@
 package com.inktrack.core.gateway;
 
+import com.inktrack.core.domain.User;
+
+import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
 
@@ -11,14 +14,20 @@ public interface JwtGateway {
 
   String generateAccessToken(UUID userId);
 
+  String generateAccessToken(User user);
+
   String generateRefreshToken(UUID userId);
 
+  VerifiedToken verify(String token);
+
   UUID extractUserId(String token);
 
   String extractTokenType(String token);
 
   UUID validateRefreshToken(String token);
 
+  VerifiedToken verifyRefreshToken(String token);
+
   default Date getAccessTokenExpiry() {
     return Date.from(
         java.time.Instant.now().plusSeconds(ACCESS_TOKEN_EXPIRY_SECONDS)
@@ -31,4 +40,23 @@ public interface JwtGateway {
         java.time.Instant.now().plusSeconds(REFRESH_TOKEN_EXPIRY_SECONDS)
     );
   }
+
+  /**
+   * Claims of a token whose signature and expiry were checked. {@code name}, {@code email} and
+   * {@code tokenVersion} are only present on access tokens issued with principal claims embedded.
+   */
+  record VerifiedToken(
+      UUID subject,
+      String type,
+      String jti,
+      Instant expiresAt,
+      String name,
+      String email,
+      Integer tokenVersion
+  ) {
+
+    public boolean hasPrincipalClaims() {
+      return subject != null && name != null && email != null && tokenVersion != null;
+    }
+  }
 }
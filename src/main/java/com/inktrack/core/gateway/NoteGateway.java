@@ -1,7 +1,9 @@
 package com.inktrack.core.gateway;
 
 import com.inktrack.core.domain.Note;
+import com.inktrack.core.usecases.note.NoteOutput;
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -12,7 +14,13 @@ public interface NoteGateway {
 
   Note update(Note note);
 
-  PageResult<Note> getNotesByBooidAndUserId(Long bookId, UUID userId, int page);
+  /**
+   * Reads only the columns of the output, so a page is one statement. When {@code includeTotal} is false, only
+   * {@link PageResult#hasNext()} is filled and no total is computed.
+   */
+  PageResult<NoteOutput> getNotesByBooidAndUserId(Long bookId, UUID userId, int page, boolean includeTotal);
+
+  VersionStamp getNotesVersion(Long bookId, UUID userId);
 
   Optional<Note> getNoteByIdAndBookIdAndUserId(Long bookId, Long noteId, UUID userId);
 
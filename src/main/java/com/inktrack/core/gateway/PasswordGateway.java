@@ -5,4 +5,6 @@ public interface PasswordGateway {
   String hash(String password);
 
   boolean matches(String passwordRaw, String passwordHash);
+
+  boolean needsRehash(String passwordHash);
 }
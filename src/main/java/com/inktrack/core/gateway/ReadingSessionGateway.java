@@ -1,23 +1,79 @@
 package com.inktrack.core.gateway;
 
 import com.inktrack.core.domain.ReadingSession;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionOutput;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionSyncInput;
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ReadingSessionGateway {
 
   ReadingSession save(ReadingSession readingSession);
 
-  PageResult<ReadingSession> getReadingByBookIdAndUserId(Long bookId, UUID userId, int page, int size);
+  /**
+   * Inserts the session and adds its pages to the book in one transaction, through
+   * {@link BookGateway#addPagesRead}, so nothing is written when the book would pass its total pages.
+   */
+  ReadingSession logSession(ReadingSession readingSession, UUID userId);
+
+  /**
+   * Looks up which of the sync keys the user has already synced, mapped to the session each one created.
+   * The session id is null when that session has been deleted since.
+   */
+  Map<String, Long> findSyncedSessionIds(UUID userId, Collection<String> syncKeys);
+
+  /**
+   * Claims the sync keys the user has not used yet and returns them. A key a concurrent sync is claiming is
+   * waited on, so two replays of the same batch never both claim it; the one that loses finds the key with
+   * {@link #findSyncedSessionIds} once the other commits.
+   */
+  Set<String> claimSyncKeys(UUID userId, Collection<String> syncKeys);
+
+  /**
+   * Gives back claimed keys whose sessions were rejected, so a later retry can still log them.
+   */
+  void releaseSyncKeys(UUID userId, Collection<String> syncKeys);
+
+  /**
+   * Inserts the sessions in batches and attaches them to their claimed sync keys, without touching the books.
+   * Returns the new session ids in the order given; every input must have its session date set.
+   */
+  List<Long> saveSynced(UUID userId, List<ReadingSessionSyncInput> sessions);
+
+  /**
+   * Reads only the columns of the output, so a page is one statement. When {@code includeTotal} is false, only
+   * {@link PageResult#hasNext()} is filled and no total is computed.
+   */
+  PageResult<ReadingSessionOutput> getReadingByBookIdAndUserId(
+      Long bookId,
+      UUID userId,
+      int page,
+      int size,
+      boolean includeTotal
+  );
+
+  VersionStamp getReadingSessionsVersion(Long bookId, UUID userId);
 
   Optional<ReadingSession> getByIdAndByBookIdAndUserId(Long readingSessionId, Long bookId, UUID userId);
 
-  ReadingSession update(ReadingSession readingSession);
+  /**
+   * Rewrites the session and moves the book's pages read by the difference in one transaction, with the
+   * session row locked while the difference is taken. Empty when the user has no such session on the book.
+   */
+  Optional<ReadingSession> update(ReadingSession readingSession, UUID userId);
 
+  /**
+   * Deletes the session and takes its pages off the book in one transaction. Returns the number of sessions
+   * deleted.
+   */
   int deleteReadingSession(Long sessionId, UUID userId, Long bookId);
 
   int getTotalSessionsByUserId(UUID userId);
@@ -0,0 +1,15 @@
+package com.inktrack.core.gateway;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface TokenRevocationGateway {
+
+  boolean isRevoked(String jti);
+
+  /**
+   * Records the token id as revoked. Returns {@code false} when it had already been revoked, which
+   * for a refresh token means it is being replayed.
+   */
+  boolean revoke(String jti, UUID userId, Instant expiresAt);
+}
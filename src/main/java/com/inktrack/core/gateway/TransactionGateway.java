@@ -0,0 +1,20 @@
+package com.inktrack.core.gateway;
+
+import java.util.function.Supplier;
+
+/**
+ * Unit of work for use cases that go through more than one gateway. Everything done inside {@code work} shares
+ * one transaction and one connection, commits once when it returns and rolls back when it throws. A unit of
+ * work opened inside another one joins it.
+ */
+public interface TransactionGateway {
+
+  <T> T execute(Supplier<T> work);
+
+  default void run(Runnable work) {
+    execute(() -> {
+      work.run();
+      return null;
+    });
+  }
+}
@@ -3,12 +3,22 @@ package com.inktrack.core.gateway;
 import com.inktrack.core.domain.User;
 
 import java.util.Optional;
+import java.util.UUID;
 
 public interface UserGateway {
 
     Optional<User> findByEmail(String email);
+
+    Optional<User> findById(UUID userId);
     
+    /**
+     * Inserts a new user, throwing {@code EmailAlreadyExistsException} when the email is taken.
+     */
     User save(User user);
     
     User update(User user);
-}
\ No newline at end of file
+
+    void updatePasswordHash(UUID userId, String passwordHash);
+
+    void deleteById(UUID userId);
+}
@@ -0,0 +1,21 @@
+package com.inktrack.core.usecases.book;
+
+public record BookBatchItemOutput(
+    int index,
+    BookModelOutput book,
+    String field,
+    String error
+) {
+
+  public static BookBatchItemOutput created(int index, BookModelOutput book) {
+    return new BookBatchItemOutput(index, book, null, null);
+  }
+
+  public static BookBatchItemOutput rejected(int index, String field, String error) {
+    return new BookBatchItemOutput(index, null, field, error);
+  }
+
+  public boolean isCreated() {
+    return book != null;
+  }
+}
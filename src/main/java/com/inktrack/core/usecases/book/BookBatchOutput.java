@@ -0,0 +1,10 @@
+package com.inktrack.core.usecases.book;
+
+import java.util.List;
+
+public record BookBatchOutput(
+    List<BookBatchItemOutput> items,
+    int created,
+    int rejected
+) {
+}
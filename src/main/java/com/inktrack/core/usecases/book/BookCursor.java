@@ -0,0 +1,60 @@
+package com.inktrack.core.usecases.book;
+
+import com.inktrack.core.domain.BookSummary;
+import com.inktrack.core.exception.FieldDomainValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last book a client has seen, for keyset pagination. It holds the value of the sort
+ * field and the book id as the tie-breaker. To clients it is an opaque URL-safe string bound to the sort
+ * it was issued for.
+ */
+public record BookCursor(OrderEnum order, Comparable<?> sortValue, long id) {
+
+  private static final String SEPARATOR = "\n";
+
+  public static BookCursor after(BookSummary book, OrderEnum order) {
+    Comparable<?> value = switch (order.getField()) {
+      case "createdAt" -> book.createdAt();
+      case "title" -> book.title();
+      case "progress" -> book.progress();
+      default -> throw new IllegalArgumentException("Unsupported sort field: " + order.getField());
+    };
+    return new BookCursor(order, value, book.id());
+  }
+
+  public String encode() {
+    String raw = order.name() + SEPARATOR + id + SEPARATOR + sortValue;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static BookCursor decode(String cursor, OrderEnum expectedOrder) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(SEPARATOR, 3);
+      if (parts.length != 3 || !expectedOrder.name().equals(parts[0])) {
+        throw invalidCursor();
+      }
+      return new BookCursor(expectedOrder, parseValue(expectedOrder, parts[2]), Long.parseLong(parts[1]));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw invalidCursor();
+    }
+  }
+
+  private static Comparable<?> parseValue(OrderEnum order, String value) {
+    return switch (order.getField()) {
+      case "createdAt" -> OffsetDateTime.parse(value);
+      case "title" -> value;
+      case "progress" -> Integer.parseInt(value);
+      default -> throw new IllegalArgumentException("Unsupported sort field: " + order.getField());
+    };
+  }
+
+  private static FieldDomainValidationException invalidCursor() {
+    return new FieldDomainValidationException("cursor", "Invalid cursor for the requested sort order");
+  }
+}
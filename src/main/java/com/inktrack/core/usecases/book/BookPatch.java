@@ -0,0 +1,46 @@
+package com.inktrack.core.usecases.book;
+
+/**
+ * Partial update of a book: {@code null} fields are left as they are. {@code thumbnailUrl} is never taken from
+ * the client, it is filled in from Google Books when a {@code googleBookId} is sent. {@code clearGoogleBookId}
+ * lets a full replacement unset the Google Books id, which a {@code null} alone cannot express.
+ */
+public record BookPatch(
+    String title,
+    String author,
+    Integer totalPages,
+    Long categoryId,
+    String googleBookId,
+    String thumbnailUrl,
+    boolean clearGoogleBookId
+) {
+
+  public BookPatch(String title, String author, Integer totalPages, Long categoryId, String googleBookId) {
+    this(title, author, totalPages, categoryId, googleBookId, null, false);
+  }
+
+  /**
+   * Every field a PUT replaces. The counters {@code pagesRead} and {@code progress} are not among them, so a
+   * replacement never writes them back from an earlier read.
+   */
+  public static BookPatch replacing(BookModelInput input, String thumbnailUrl) {
+    return new BookPatch(
+        input.title(),
+        input.author(),
+        input.totalPages(),
+        input.categoryId(),
+        input.googleBookId(),
+        thumbnailUrl,
+        input.googleBookId() == null
+    );
+  }
+
+  public boolean isEmpty() {
+    return title == null && author == null && totalPages == null && categoryId == null && googleBookId == null
+        && !clearGoogleBookId;
+  }
+
+  public BookPatch withThumbnailUrl(String thumbnailUrl) {
+    return new BookPatch(title, author, totalPages, categoryId, googleBookId, thumbnailUrl, clearGoogleBookId);
+  }
+}
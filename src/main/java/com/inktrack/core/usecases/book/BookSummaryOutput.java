@@ -0,0 +1,19 @@
+package com.inktrack.core.usecases.book;
+
+import java.time.OffsetDateTime;
+
+public record BookSummaryOutput(
+    Long id,
+    Long categoryId,
+    String categoryName,
+    String title,
+    String author,
+    int totalPages,
+    int pagesRead,
+    int progress,
+    String thumbnailUrl,
+    String googleBookId,
+    OffsetDateTime createdAt,
+    OffsetDateTime updatedAt
+) {
+}
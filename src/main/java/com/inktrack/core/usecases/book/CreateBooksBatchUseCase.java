@@ -0,0 +1,16 @@
+package com.inktrack.core.usecases.book;
+
+import com.inktrack.core.domain.User;
+
+import java.util.List;
+
+public interface CreateBooksBatchUseCase {
+
+  int MAX_BATCH_SIZE = 500;
+
+  /**
+   * Creates every valid book in one write and reports each input by its position. Invalid inputs are
+   * rejected individually and do not stop the rest of the batch.
+   */
+  BookBatchOutput execute(List<BookModelInput> modelInputs, User currentUser);
+}
@@ -0,0 +1,182 @@
+package com.inktrack.core.usecases.book;
+
+import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.Category;
+import com.inktrack.core.domain.User;
+import com.inktrack.core.exception.FieldDomainValidationException;
+import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.CategoryGateway;
+import com.inktrack.core.gateway.GoogleBooksGateway;
+import com.inktrack.core.usecases.category.CategoryOutput;
+import com.inktrack.core.usecases.user.UserOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class CreateBooksBatchUseCaseImpl implements CreateBooksBatchUseCase {
+
+  private final BookGateway bookGateway;
+  private final CategoryGateway categoryGateway;
+  private final GoogleBooksGateway googleBooksGateway;
+
+  public CreateBooksBatchUseCaseImpl(
+      BookGateway bookGateway,
+      CategoryGateway categoryGateway,
+      GoogleBooksGateway googleBooksGateway
+  ) {
+    this.bookGateway = bookGateway;
+    this.categoryGateway = categoryGateway;
+    this.googleBooksGateway = googleBooksGateway;
+  }
+
+  @Override
+  public BookBatchOutput execute(List<BookModelInput> modelInputs, User currentUser) {
+    validateBatch(modelInputs, currentUser);
+    Map<Long, Category> categories = resolveCategories(modelInputs);
+
+    BookBatchItemOutput[] items = new BookBatchItemOutput[modelInputs.size()];
+    List<Integer> accepted = new ArrayList<>();
+    for (int i = 0; i < modelInputs.size(); i++) {
+      BookBatchItemOutput rejection = validateItem(i, modelInputs.get(i), categories);
+      if (rejection == null) {
+        accepted.add(i);
+      } else {
+        items[i] = rejection;
+      }
+    }
+
+    Map<String, String> thumbnails = fetchThumbnails(accepted.stream().map(modelInputs::get).toList());
+    List<Book> books = accepted.stream()
+        .map(i -> createBook(modelInputs.get(i), currentUser, categories, thumbnails))
+        .toList();
+    List<Book> saved = books.isEmpty() ? List.of() : bookGateway.saveAll(books);
+    for (int i = 0; i < saved.size(); i++) {
+      items[accepted.get(i)] = BookBatchItemOutput.created(accepted.get(i), buildOutput(saved.get(i)));
+    }
+
+    return new BookBatchOutput(List.of(items), saved.size(), items.length - saved.size());
+  }
+
+  private void validateBatch(List<BookModelInput> modelInputs, User currentUser) {
+    if (currentUser == null) {
+      throw new IllegalArgumentException("User not logged in");
+    }
+    if (modelInputs == null || modelInputs.isEmpty()) {
+      throw new FieldDomainValidationException("books", "At least one book must be sent.");
+    }
+    if (modelInputs.size() > MAX_BATCH_SIZE) {
+      throw new FieldDomainValidationException(
+          "books",
+          "At most " + MAX_BATCH_SIZE + " books can be created per request."
+      );
+    }
+  }
+
+  private Map<Long, Category> resolveCategories(List<BookModelInput> modelInputs) {
+    Set<Long> categoryIds = modelInputs.stream()
+        .filter(Objects::nonNull)
+        .map(BookModelInput::categoryId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    if (categoryIds.isEmpty()) {
+      return Map.of();
+    }
+    return categoryGateway.getByIds(categoryIds).stream()
+        .collect(Collectors.toMap(Category::id, Function.identity()));
+  }
+
+  private BookBatchItemOutput validateItem(int index, BookModelInput modelInput, Map<Long, Category> categories) {
+    if (modelInput == null) {
+      return BookBatchItemOutput.rejected(index, "book", "The book must not be null.");
+    }
+    if (isBlank(modelInput.title())) {
+      return BookBatchItemOutput.rejected(index, "title", "The title must not be blank.");
+    }
+    if (isBlank(modelInput.author())) {
+      return BookBatchItemOutput.rejected(index, "author", "The author must not be blank.");
+    }
+    if (modelInput.totalPages() <= 0) {
+      return BookBatchItemOutput.rejected(index, "totalPages", "The total pages must be greater than zero.");
+    }
+    if (modelInput.categoryId() == null) {
+      return BookBatchItemOutput.rejected(index, "categoryId", "The category must not be null.");
+    }
+    if (!categories.containsKey(modelInput.categoryId())) {
+      return BookBatchItemOutput.rejected(
+          index,
+          "categoryId",
+          "Category not found with id: " + modelInput.categoryId()
+      );
+    }
+    return null;
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  /**
+   * Looks each distinct Google Books id up once, however many books of the batch share it.
+   */
+  private Map<String, String> fetchThumbnails(List<BookModelInput> modelInputs) {
+    List<String> googleBookIds = modelInputs.stream()
+        .map(BookModelInput::googleBookId)
+        .filter(id -> !isBlank(id))
+        .distinct()
+        .toList();
+    if (googleBookIds.isEmpty()) {
+      return Map.of();
+    }
+    return googleBooksGateway.getThumbnailUrls(googleBookIds);
+  }
+
+  private Book createBook(
+      BookModelInput modelInput,
+      User currentUser,
+      Map<Long, Category> categories,
+      Map<String, String> thumbnails
+  ) {
+    return Book.builder()
+        .user(currentUser)
+        .category(categories.get(modelInput.categoryId()))
+        .title(modelInput.title())
+        .author(modelInput.author())
+        .totalPages(modelInput.totalPages())
+        .thumbnailUrl(isBlank(modelInput.googleBookId()) ? null : thumbnails.get(modelInput.googleBookId()))
+        .googleBookId(modelInput.googleBookId())
+        .build();
+  }
+
+  private BookModelOutput buildOutput(Book bookSaved) {
+    UserOutput userOutput = new UserOutput(
+        bookSaved.getUser().getId(),
+        bookSaved.getUser().getName(),
+        bookSaved.getUser().getEmail(),
+        bookSaved.getUser().getCreatedAt()
+    );
+    CategoryOutput categoryOutput = new CategoryOutput(
+        bookSaved.getCategory().id(),
+        bookSaved.getCategory().name(),
+        bookSaved.getCategory().createdAt()
+    );
+    return new BookModelOutput(
+        bookSaved.getId(),
+        userOutput,
+        categoryOutput,
+        bookSaved.getTitle(),
+        bookSaved.getAuthor(),
+        bookSaved.getTotalPages(),
+        bookSaved.getPagesRead(),
+        bookSaved.getProgress(),
+        bookSaved.getThumbnailUrl(),
+        bookSaved.getGoogleBookId(),
+        bookSaved.getCreatedAt(),
+        bookSaved.getUpdatedAt()
+    );
+  }
+}
@@ -1,10 +1,51 @@
 package com.inktrack.core.usecases.book;
 
+import java.time.OffsetDateTime;
+
+/**
+ * {@code title} narrows the listing by title only, while {@code query} searches title and author and
+ * ranks the matches by similarity instead of {@code orderEnum}. Every other criterion is optional and only
+ * restricts the listing when set.
+ */
 public record GetBookFilter(
     int page,
     int size,
     String title,
+    String query,
     Long categoryId,
-    OrderEnum orderEnum
+    OrderEnum orderEnum,
+    String cursor,
+    boolean includeTotal,
+    String author,
+    Integer minProgress,
+    Integer maxProgress,
+    OffsetDateTime createdFrom,
+    OffsetDateTime createdTo,
+    Boolean hasGoogleBookId
 ) {
+
+  public GetBookFilter(int page, int size, String title, Long categoryId, OrderEnum orderEnum) {
+    this(page, size, title, null, categoryId, orderEnum, null, true);
+  }
+
+  public GetBookFilter(
+      int page,
+      int size,
+      String title,
+      String query,
+      Long categoryId,
+      OrderEnum orderEnum,
+      String cursor,
+      boolean includeTotal
+  ) {
+    this(page, size, title, query, categoryId, orderEnum, cursor, includeTotal, null, null, null, null, null, null);
+  }
+
+  public boolean hasCursor() {
+    return cursor != null && !cursor.isBlank();
+  }
+
+  public boolean hasQuery() {
+    return query != null && !query.isBlank();
+  }
 }
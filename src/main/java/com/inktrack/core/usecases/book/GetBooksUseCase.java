@@ -2,9 +2,15 @@ package com.inktrack.core.usecases.book;
 
 
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 
 import java.util.UUID;
 
 public interface GetBooksUseCase {
-  PageResult<BookModelOutput> execute(UUID userId, GetBookFilter filter);
+  PageResult<BookSummaryOutput> execute(UUID userId, GetBookFilter filter);
+
+  /**
+   * Stamp over the whole library, valid for any filter or page of it.
+   */
+  VersionStamp version(UUID userId);
 }
@@ -1,10 +1,10 @@
 package com.inktrack.core.usecases.book;
 
-import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.BookSummary;
+import com.inktrack.core.exception.FieldDomainValidationException;
 import com.inktrack.core.gateway.BookGateway;
-import com.inktrack.core.usecases.category.CategoryOutput;
-import com.inktrack.core.usecases.user.UserOutput;
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 
 import java.util.List;
 import java.util.UUID;
@@ -18,52 +18,86 @@ public class GetBooksUseCaseImpl implements GetBooksUseCase {
   }
 
   @Override
-  public PageResult<BookModelOutput> execute(UUID userId, GetBookFilter filter) {
-    List<Book> books = bookGateway.getUserBooksPage(
+  public PageResult<BookSummaryOutput> execute(UUID userId, GetBookFilter filter) {
+    validateRanges(filter);
+    if (filter.hasCursor()) {
+      if (filter.hasQuery()) {
+        throw new FieldDomainValidationException("cursor", "Cursor pagination is not available when searching");
+      }
+      return executeAfterCursor(userId, filter);
+    }
+
+    PageResult<BookSummary> books = bookGateway.getUserBooksPage(
         userId,
         filter
     );
 
-    Long total = bookGateway.countUserBooksWithFilters(userId, filter.title(), filter.categoryId());
-
-    Integer totalPages = (int) Math.ceil((double) total / filter.size());
-
-    List<BookModelOutput> output =
-        books.stream()
-            .map(b -> {
-              UserOutput userOutput = new UserOutput(
-                  b.getUser().getId(),
-                  b.getUser().getName(),
-                  b.getUser().getEmail(),
-                  b.getUser().getCreatedAt()
-              );
-              CategoryOutput categoryOutput = new CategoryOutput(
-                  b.getCategory().id(),
-                  b.getCategory().name(),
-                  b.getCategory().createdAt()
-              );
-              return new BookModelOutput(
-                  b.getId(),
-                  userOutput,
-                  categoryOutput,
-                  b.getTitle(),
-                  b.getAuthor(),
-                  b.getTotalPages(),
-                  b.getPagesRead(),
-                  b.getProgress(),
-                  b.getThumbnailUrl(),
-                  b.getGoogleBookId(),
-                  b.getCreatedAt(),
-                  b.getUpdatedAt()
-              );
-            })
-            .toList();
+    String nextCursor = books.hasNext() && !books.data().isEmpty() && !filter.hasQuery()
+        ? BookCursor.after(books.data().get(books.data().size() - 1), filter.orderEnum()).encode()
+        : null;
+
+    return books.withNextCursor(nextCursor).map(GetBooksUseCaseImpl::toOutput);
+  }
+
+  @Override
+  public VersionStamp version(UUID userId) {
+    return bookGateway.getLibraryVersion(userId);
+  }
+
+  /**
+   * Keyset mode: one extra row is fetched to know whether another page exists, and no count query is run,
+   * so {@code totalPages} is left empty.
+   */
+  private PageResult<BookSummaryOutput> executeAfterCursor(UUID userId, GetBookFilter filter) {
+    BookCursor after = BookCursor.decode(filter.cursor(), filter.orderEnum());
+    List<BookSummary> books = bookGateway.getUserBooksAfter(userId, filter, after, filter.size() + 1);
+
+    boolean hasNext = books.size() > filter.size();
+    List<BookSummary> page = hasNext ? books.subList(0, filter.size()) : books;
+    String nextCursor = hasNext ? BookCursor.after(page.get(page.size() - 1), filter.orderEnum()).encode() : null;
 
     return new PageResult<>(
         filter.size(),
-        totalPages,
+        null,
         filter.page(),
-        output
+        page.stream().map(GetBooksUseCaseImpl::toOutput).toList(),
+        hasNext,
+        nextCursor
+    );
+  }
+
+  private static void validateRanges(GetBookFilter filter) {
+    if (outsideProgressBounds(filter.minProgress()) || outsideProgressBounds(filter.maxProgress())) {
+      throw new FieldDomainValidationException("progress", "The progress range must be between 0 and 100.");
+    }
+    if (filter.minProgress() != null && filter.maxProgress() != null
+        && filter.minProgress() > filter.maxProgress()) {
+      throw new FieldDomainValidationException("progress", "The minimum progress can't be greater than the maximum.");
+    }
+    if (filter.createdFrom() != null && filter.createdTo() != null
+        && filter.createdFrom().isAfter(filter.createdTo())) {
+      throw new FieldDomainValidationException("createdFrom", "The start date can't be after the end date.");
+    }
+  }
+
+  private static boolean outsideProgressBounds(Integer progress) {
+    return progress != null && (progress < 0 || progress > 100);
+  }
+
+  private static BookSummaryOutput toOutput(BookSummary b) {
+    return new BookSummaryOutput(
+        b.id(),
+        b.categoryId(),
+        b.categoryName(),
+        b.title(),
+        b.author(),
+        b.totalPages(),
+        b.pagesRead(),
+        b.progress(),
+        b.thumbnailUrl(),
+        b.googleBookId(),
+        b.createdAt(),
+        b.updatedAt()
     );
   }
 }
@@ -0,0 +1,8 @@
+package com.inktrack.core.usecases.book;
+
+import com.inktrack.core.domain.User;
+
+public interface PatchBookUseCase {
+
+  BookModelOutput execute(Long id, BookPatch patch, User currentUser);
+}
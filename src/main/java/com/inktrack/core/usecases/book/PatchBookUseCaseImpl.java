@@ -0,0 +1,101 @@
+package com.inktrack.core.usecases.book;
+
+import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.User;
+import com.inktrack.core.exception.FieldDomainValidationException;
+import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.CategoryGateway;
+import com.inktrack.core.gateway.GoogleBooksGateway;
+import com.inktrack.core.usecases.category.CategoryOutput;
+import com.inktrack.core.usecases.user.UserOutput;
+
+import java.util.Optional;
+
+public class PatchBookUseCaseImpl implements PatchBookUseCase {
+
+  private final BookGateway bookGateway;
+  private final CategoryGateway categoryGateway;
+  private final GoogleBooksGateway googleBooksGateway;
+
+  public PatchBookUseCaseImpl(
+      BookGateway bookGateway,
+      CategoryGateway categoryGateway,
+      GoogleBooksGateway googleBooksGateway
+  ) {
+    this.bookGateway = bookGateway;
+    this.categoryGateway = categoryGateway;
+    this.googleBooksGateway = googleBooksGateway;
+  }
+
+  @Override
+  public BookModelOutput execute(Long id, BookPatch patch, User currentUser) {
+    validateInput(patch, currentUser);
+    if (patch.isEmpty()) {
+      return buildOutput(bookGateway.findByIdAndUserId(id, currentUser.getId()));
+    }
+
+    if (patch.categoryId() != null && categoryGateway.getById(patch.categoryId()).isEmpty()) {
+      throw new FieldDomainValidationException("categoryId", "Category not found with id: " + patch.categoryId());
+    }
+
+    BookPatch toApply = patch;
+    if (patch.googleBookId() != null) {
+      toApply = patch.withThumbnailUrl(fetchThumbnailFromGoogleBooks(patch.googleBookId()));
+    }
+
+    return buildOutput(bookGateway.patch(id, currentUser, toApply));
+  }
+
+  private void validateInput(BookPatch patch, User currentUser) {
+    if (currentUser == null) {
+      throw new IllegalArgumentException("User not logged in");
+    }
+    if (patch.title() != null && patch.title().isBlank()) {
+      throw new FieldDomainValidationException("title", "The title must not be blank.");
+    }
+    if (patch.author() != null && patch.author().isBlank()) {
+      throw new FieldDomainValidationException("author", "The author must not be blank.");
+    }
+    if (patch.totalPages() != null && patch.totalPages() <= 0) {
+      throw new FieldDomainValidationException("totalPages", "The total pages must be greater than zero.");
+    }
+  }
+
+  private String fetchThumbnailFromGoogleBooks(String googleBookId) {
+    try {
+      Optional<GoogleBooksVolume> volume = googleBooksGateway.getVolumeById(googleBookId);
+      return volume.map(GoogleBooksVolume::thumbnailUrl).orElse(null);
+    } catch (Exception e) {
+      System.err.println("Failed to fetch book thumbnail: " + e.getMessage());
+      return null;
+    }
+  }
+
+  private BookModelOutput buildOutput(Book book) {
+    UserOutput userOutput = new UserOutput(
+        book.getUser().getId(),
+        book.getUser().getName(),
+        book.getUser().getEmail(),
+        book.getUser().getCreatedAt()
+    );
+    CategoryOutput categoryOutput = new CategoryOutput(
+        book.getCategory().id(),
+        book.getCategory().name(),
+        book.getCategory().createdAt()
+    );
+    return new BookModelOutput(
+        book.getId(),
+        userOutput,
+        categoryOutput,
+        book.getTitle(),
+        book.getAuthor(),
+        book.getTotalPages(),
+        book.getPagesRead(),
+        book.getProgress(),
+        book.getThumbnailUrl(),
+        book.getGoogleBookId(),
+        book.getCreatedAt(),
+        book.getUpdatedAt()
+    );
+  }
+}
@@ -1,13 +1,14 @@
 package com.inktrack.core.usecases.book;
 
 import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.User;
 import com.inktrack.core.gateway.BookGateway;
 import com.inktrack.core.gateway.CategoryGateway;
 import com.inktrack.core.gateway.GoogleBooksGateway;
+import com.inktrack.core.gateway.TransactionGateway;
 import com.inktrack.core.usecases.category.CategoryOutput;
 import com.inktrack.core.usecases.user.UserOutput;
 
-import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,56 +17,53 @@ public class UpdateBookUseCaseImpl implements UpdateBookUseCase{
   private final BookGateway bookGateway;
   private final CategoryGateway categoryGateway;
   private final GoogleBooksGateway googleBooksGateway;
+  private final TransactionGateway transactionGateway;
 
   public UpdateBookUseCaseImpl(
       BookGateway bookGateway,
       CategoryGateway categoryGateway,
-      GoogleBooksGateway googleBooksGateway
+      GoogleBooksGateway googleBooksGateway,
+      TransactionGateway transactionGateway
   ) {
     this.bookGateway = bookGateway;
     this.categoryGateway = categoryGateway;
     this.googleBooksGateway = googleBooksGateway;
+    this.transactionGateway = transactionGateway;
   }
 
+  /**
+   * The Google Books lookup runs before the unit of work, so no connection is held during the remote call. The
+   * book read up front may be stale, so the replacement is written column by column and never carries
+   * {@code pagesRead} back from it.
+   */
   @Override
   public BookModelOutput execute(Long id, BookModelInput modelInput, UUID userId) {
     Book book = bookGateway.findByIdAndUserId(id, userId);
-
-    var category = categoryGateway.getById(modelInput.categoryId())
-        .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + modelInput.categoryId()));
-
     String newThumbnailUrl = fetchThumbnailIfGoogleBookIdChanged(book, modelInput.googleBookId());
-    String newGoogleBookId = modelInput.googleBookId();
-
-    Book bookUpdated = Book.builder()
-        .id(book.getId())
-        .user(book.getUser())
-        .category(category)
-        .title(modelInput.title())
-        .author(modelInput.author())
-        .totalPages(modelInput.totalPages())
-        .pagesRead(book.getPagesRead())
-        .thumbnailUrl(newThumbnailUrl)
-        .googleBookId(newGoogleBookId)
-        .createdAt(book.getCreatedAt())
-        .updatedAt(OffsetDateTime.now())
-        .build();
+    BookPatch replacement = BookPatch.replacing(modelInput, newThumbnailUrl);
+    return buildOutput(transactionGateway.execute(() -> update(id, book.getUser(), replacement)));
+  }
 
-    Book savedBook = bookGateway.update(bookUpdated);
-    return buildOutput(savedBook);
+  private Book update(Long id, User owner, BookPatch replacement) {
+    categoryGateway.getById(replacement.categoryId())
+        .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + replacement.categoryId()));
+    return bookGateway.patch(id, owner, replacement);
   }
 
+  /**
+   * Returns the new cover, or {@code null} to keep the stored one.
+   */
   private String fetchThumbnailIfGoogleBookIdChanged(Book book, String newGoogleBookId) {
     if (newGoogleBookId != null && !newGoogleBookId.equals(book.getGoogleBookId())) {
       try {
         Optional<GoogleBooksVolume> volume = googleBooksGateway.getVolumeById(newGoogleBookId);
-        return volume.map(GoogleBooksVolume::thumbnailUrl).orElse(book.getThumbnailUrl());
+        return volume.map(GoogleBooksVolume::thumbnailUrl).orElse(null);
       } catch (Exception e) {
         System.err.println("Failed to fetch book thumbnail: " + e.getMessage());
-        return book.getThumbnailUrl();
+        return null;
       }
     }
-    return book.getThumbnailUrl();
+    return null;
   }
 
   private BookModelOutput buildOutput(Book savedBook) {
@@ -1,11 +1,14 @@
 package com.inktrack.core.usecases.note;
 
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 
 import java.util.UUID;
 
 public interface GetNotePaginatorUseCase {
 
-  PageResult<NoteOutput> execute(Long bookId, UUID userId, int page);
+  PageResult<NoteOutput> execute(Long bookId, UUID userId, int page, boolean includeTotal);
+
+  VersionStamp version(Long bookId, UUID userId);
 
 }
@@ -1,10 +1,9 @@
 package com.inktrack.core.usecases.note;
 
-import com.inktrack.core.domain.Note;
 import com.inktrack.core.gateway.NoteGateway;
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 
-import java.util.List;
 import java.util.UUID;
 
 public class GetNotePaginatorUseCaseImpl implements GetNotePaginatorUseCase {
@@ -17,24 +16,12 @@ public class GetNotePaginatorUseCaseImpl implements GetNotePaginatorUseCase {
 
 
   @Override
-  public PageResult<NoteOutput> execute(Long bookId, UUID userId, int page) {
-    PageResult<Note> pageResult = noteGateway.getNotesByBooidAndUserId(bookId, userId, page);
-
-    List<NoteOutput> outputs = pageResult.data().stream()
-        .map(n -> new NoteOutput(
-            n.getId(),
-            n.getBook().getId(),
-            n.getContent(),
-            n.getCreatedAt(),
-            n.getUpdatedAt()
-        ))
-        .toList();
-
-    return new PageResult<>(
-        pageResult.pageSize(),
-        pageResult.totalPages(),
-        pageResult.currentPage(),
-        outputs
-    );
+  public PageResult<NoteOutput> execute(Long bookId, UUID userId, int page, boolean includeTotal) {
+    return noteGateway.getNotesByBooidAndUserId(bookId, userId, page, includeTotal);
+  }
+
+  @Override
+  public VersionStamp version(Long bookId, UUID userId) {
+    return noteGateway.getNotesVersion(bookId, userId);
   }
 }
@@ -5,6 +5,7 @@ import com.inktrack.core.domain.ReadingSession;
 import com.inktrack.core.exception.FieldDomainValidationException;
 import com.inktrack.core.gateway.BookGateway;
 import com.inktrack.core.gateway.ReadingSessionGateway;
+import com.inktrack.core.gateway.TransactionGateway;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
@@ -13,10 +14,16 @@ public class CreateReadingSessionUseCaseImpl implements CreateReadingSessionUseC
 
   private final ReadingSessionGateway readingSessionGateway;
   private final BookGateway bookGateway;
+  private final TransactionGateway transactionGateway;
 
-  public CreateReadingSessionUseCaseImpl(ReadingSessionGateway readingSessionGateway, BookGateway bookGateway) {
+  public CreateReadingSessionUseCaseImpl(
+      ReadingSessionGateway readingSessionGateway,
+      BookGateway bookGateway,
+      TransactionGateway transactionGateway
+  ) {
     this.readingSessionGateway = readingSessionGateway;
     this.bookGateway = bookGateway;
+    this.transactionGateway = transactionGateway;
   }
 
   @Override
@@ -24,7 +31,10 @@ public class CreateReadingSessionUseCaseImpl implements CreateReadingSessionUseC
     if (userId == null) {
       throw new FieldDomainValidationException("userId", "The user id can't be null.");
     }
+    return transactionGateway.execute(() -> logSession(input, userId));
+  }
 
+  private ReadingSessionOutput logSession(ReadingSessionInput input, UUID userId) {
     Book book = bookGateway.findByIdAndUserId(input.bookId(), userId);
 
     ReadingSession readingSession = ReadingSession.builder()
@@ -34,10 +44,7 @@ public class CreateReadingSessionUseCaseImpl implements CreateReadingSessionUseC
         .sessionDate(OffsetDateTime.now())
         .build();
 
-    book.addPagesRead(input.pagesRead());
-    bookGateway.update(book);
-
-    ReadingSession readingSessionSaved = readingSessionGateway.save(readingSession);
+    ReadingSession readingSessionSaved = readingSessionGateway.logSession(readingSession, userId);
     return new ReadingSessionOutput(
         readingSessionSaved.getId(),
         book.getId(),
@@ -1,48 +1,39 @@
 package com.inktrack.core.usecases.reading.sessions;
 
-import com.inktrack.core.domain.Book;
-import com.inktrack.core.domain.ReadingSession;
 import com.inktrack.core.exception.ResourceNotFoundException;
-import com.inktrack.core.gateway.BookGateway;
 import com.inktrack.core.gateway.ReadingSessionGateway;
+import com.inktrack.core.gateway.TransactionGateway;
 
 import java.util.UUID;
 
 public class DeleteReadingSessionUseCaseImpl implements DeleteReadingSessionUseCase {
 
   private final ReadingSessionGateway readingSessionGateway;
-  private final BookGateway bookGateway;
+  private final TransactionGateway transactionGateway;
 
-  public DeleteReadingSessionUseCaseImpl(ReadingSessionGateway readingSessionGateway, BookGateway bookGateway) {
+  public DeleteReadingSessionUseCaseImpl(
+      ReadingSessionGateway readingSessionGateway,
+      TransactionGateway transactionGateway
+  ) {
     this.readingSessionGateway = readingSessionGateway;
-    this.bookGateway = bookGateway;
+    this.transactionGateway = transactionGateway;
   }
 
   @Override
   public void execute(Long sessionId, UUID userId, Long bookId) {
-    Book book = bookGateway.findByIdAndUserId(bookId, userId);
-    ReadingSession readingSession = readingSessionGateway
-        .getByIdAndByBookIdAndUserId(sessionId, bookId, userId)
-        .orElseThrow(() -> new ResourceNotFoundException(
-            "ReadingSession",
-            "compositeId",
-            String.format(
-                "ReadingSession not found with sessionId=%d, bookId=%d, userId=%s",
-                sessionId, bookId, userId
-            )
-        ));
-
-
-    boolean deleted = readingSessionGateway
-        .deleteReadingSession(sessionId, userId, bookId) > 0;
+    boolean deleted = transactionGateway.execute(
+        () -> readingSessionGateway.deleteReadingSession(sessionId, userId, bookId) > 0
+    );
 
     if (!deleted) {
-      throw new IllegalStateException(
-          "ReadingSession was found but could not be deleted. " +
-              "Possible concurrent modification."
+      throw new ResourceNotFoundException(
+          "ReadingSession",
+          "compositeId",
+          String.format(
+              "ReadingSession not found with sessionId=%d, bookId=%d, userId=%s",
+              sessionId, bookId, userId
+          )
       );
     }
-    book.removePagesRead(readingSession.getPagesRead());
-    bookGateway.update(book);
   }
 }
@@ -2,11 +2,14 @@ package com.inktrack.core.usecases.reading.sessions;
 
 
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 
 import java.util.UUID;
 
 public interface GetReadingSessionByBookIdUseCase {
 
-  PageResult<ReadingSessionOutput> execute(Long bookId, UUID userId, int page);
+  PageResult<ReadingSessionOutput> execute(Long bookId, UUID userId, int page, boolean includeTotal);
+
+  VersionStamp version(Long bookId, UUID userId);
 
 }
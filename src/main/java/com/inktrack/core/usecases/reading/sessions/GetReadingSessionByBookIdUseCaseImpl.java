@@ -1,8 +1,8 @@
 package com.inktrack.core.usecases.reading.sessions;
 
-import com.inktrack.core.domain.ReadingSession;
 import com.inktrack.core.gateway.ReadingSessionGateway;
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 
 import java.util.UUID;
 
@@ -15,24 +15,13 @@ public class GetReadingSessionByBookIdUseCaseImpl implements GetReadingSessionBy
   }
 
   @Override
-  public PageResult<ReadingSessionOutput> execute(Long bookId, UUID userId, int page) {
+  public PageResult<ReadingSessionOutput> execute(Long bookId, UUID userId, int page, boolean includeTotal) {
     int fixedPageSize = 3;
-    PageResult<ReadingSession> sessionPageResult = readingSessionGateway
-        .getReadingByBookIdAndUserId(bookId, userId, page, fixedPageSize);
+    return readingSessionGateway.getReadingByBookIdAndUserId(bookId, userId, page, fixedPageSize, includeTotal);
+  }
 
-    return new PageResult<>(
-        sessionPageResult.pageSize(),
-        sessionPageResult.totalPages(),
-        sessionPageResult.currentPage(),
-        sessionPageResult.data().stream()
-            .map(session -> new ReadingSessionOutput(
-                session.getId(),
-                session.getBook().getId(),
-                session.getMinutes(),
-                session.getPagesRead(),
-                session.getSessionDate()
-            ))
-            .toList()
-    );
+  @Override
+  public VersionStamp version(Long bookId, UUID userId) {
+    return readingSessionGateway.getReadingSessionsVersion(bookId, userId);
   }
 }
@@ -0,0 +1,16 @@
+package com.inktrack.core.usecases.reading.sessions;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A session logged while offline. The {@code syncKey} is generated by the client once per session and sent
+ * again on every retry, so a replayed session is recognised instead of logged twice.
+ */
+public record ReadingSessionSyncInput(
+    String syncKey,
+    Long bookId,
+    Long minutes,
+    Integer pagesRead,
+    OffsetDateTime sessionDate
+) {
+}
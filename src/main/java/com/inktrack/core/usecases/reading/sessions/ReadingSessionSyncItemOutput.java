@@ -0,0 +1,32 @@
+package com.inktrack.core.usecases.reading.sessions;
+
+public record ReadingSessionSyncItemOutput(
+    int index,
+    String syncKey,
+    Status status,
+    Long sessionId,
+    String field,
+    String error
+) {
+
+  public enum Status {
+    CREATED,
+    DUPLICATE,
+    REJECTED
+  }
+
+  public static ReadingSessionSyncItemOutput created(int index, String syncKey, Long sessionId) {
+    return new ReadingSessionSyncItemOutput(index, syncKey, Status.CREATED, sessionId, null, null);
+  }
+
+  /**
+   * The session was synced before; {@code sessionId} is null when it has been deleted since.
+   */
+  public static ReadingSessionSyncItemOutput duplicate(int index, String syncKey, Long sessionId) {
+    return new ReadingSessionSyncItemOutput(index, syncKey, Status.DUPLICATE, sessionId, null, null);
+  }
+
+  public static ReadingSessionSyncItemOutput rejected(int index, String syncKey, String field, String error) {
+    return new ReadingSessionSyncItemOutput(index, syncKey, Status.REJECTED, null, field, error);
+  }
+}
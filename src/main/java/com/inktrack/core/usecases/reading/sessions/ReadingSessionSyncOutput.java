@@ -0,0 +1,11 @@
+package com.inktrack.core.usecases.reading.sessions;
+
+import java.util.List;
+
+public record ReadingSessionSyncOutput(
+    List<ReadingSessionSyncItemOutput> items,
+    int created,
+    int duplicates,
+    int rejected
+) {
+}
@@ -0,0 +1,19 @@
+package com.inktrack.core.usecases.reading.sessions;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SyncReadingSessionsUseCase {
+
+  int MAX_BATCH_SIZE = 500;
+
+  int MAX_SYNC_KEY_LENGTH = 64;
+
+  /**
+   * Logs sessions recorded offline, across any of the user's books, and reports each input by its position.
+   * Sessions whose sync key was already seen are reported as duplicates and not logged again. Each book's
+   * pages read moves once, by the sum of its new sessions; when that sum does not fit the book, all of that
+   * book's sessions are rejected and the other books still go in.
+   */
+  ReadingSessionSyncOutput execute(List<ReadingSessionSyncInput> inputs, UUID userId);
+}
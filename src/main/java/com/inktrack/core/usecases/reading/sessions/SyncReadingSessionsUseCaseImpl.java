@@ -0,0 +1,224 @@
+package com.inktrack.core.usecases.reading.sessions;
+
+import com.inktrack.core.exception.FieldDomainValidationException;
+import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.ReadingSessionGateway;
+import com.inktrack.core.gateway.TransactionGateway;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionSyncItemOutput.Status;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+public class SyncReadingSessionsUseCaseImpl implements SyncReadingSessionsUseCase {
+
+  private final ReadingSessionGateway readingSessionGateway;
+  private final BookGateway bookGateway;
+  private final TransactionGateway transactionGateway;
+
+  public SyncReadingSessionsUseCaseImpl(
+      ReadingSessionGateway readingSessionGateway,
+      BookGateway bookGateway,
+      TransactionGateway transactionGateway
+  ) {
+    this.readingSessionGateway = readingSessionGateway;
+    this.bookGateway = bookGateway;
+    this.transactionGateway = transactionGateway;
+  }
+
+  @Override
+  public ReadingSessionSyncOutput execute(List<ReadingSessionSyncInput> inputs, UUID userId) {
+    validateBatch(inputs, userId);
+
+    ReadingSessionSyncItemOutput[] items = new ReadingSessionSyncItemOutput[inputs.size()];
+    Map<String, Integer> firstIndexByKey = new HashMap<>();
+    List<Integer> candidates = new ArrayList<>();
+    for (int i = 0; i < inputs.size(); i++) {
+      ReadingSessionSyncItemOutput rejection = validateItem(i, inputs.get(i));
+      if (rejection != null) {
+        items[i] = rejection;
+      } else if (firstIndexByKey.putIfAbsent(inputs.get(i).syncKey(), i) == null) {
+        candidates.add(i);
+      }
+    }
+
+    transactionGateway.run(() -> sync(inputs, userId, candidates, items));
+
+    for (int i = 0; i < items.length; i++) {
+      if (items[i] == null) {
+        items[i] = repeated(i, items[firstIndexByKey.get(inputs.get(i).syncKey())]);
+      }
+    }
+    return summarize(items);
+  }
+
+  private void validateBatch(List<ReadingSessionSyncInput> inputs, UUID userId) {
+    if (userId == null) {
+      throw new FieldDomainValidationException("userId", "The user id can't be null.");
+    }
+    if (inputs == null || inputs.isEmpty()) {
+      throw new FieldDomainValidationException("sessions", "At least one session must be sent.");
+    }
+    if (inputs.size() > MAX_BATCH_SIZE) {
+      throw new FieldDomainValidationException(
+          "sessions",
+          "At most " + MAX_BATCH_SIZE + " sessions can be synced per request."
+      );
+    }
+  }
+
+  private static ReadingSessionSyncItemOutput validateItem(int index, ReadingSessionSyncInput input) {
+    if (input == null) {
+      return ReadingSessionSyncItemOutput.rejected(index, null, "session", "The session must not be null.");
+    }
+    String syncKey = input.syncKey();
+    if (syncKey == null || syncKey.isBlank() || syncKey.length() > MAX_SYNC_KEY_LENGTH) {
+      return ReadingSessionSyncItemOutput.rejected(
+          index,
+          syncKey,
+          "syncKey",
+          "The sync key must not be blank and must have at most " + MAX_SYNC_KEY_LENGTH + " characters."
+      );
+    }
+    if (input.bookId() == null) {
+      return ReadingSessionSyncItemOutput.rejected(index, syncKey, "bookId", "The book id must not be null.");
+    }
+    if (input.minutes() == null || input.minutes() <= 0) {
+      return ReadingSessionSyncItemOutput.rejected(index, syncKey, "minutes", "minutes must be greater than zero");
+    }
+    if (input.pagesRead() == null || input.pagesRead() <= 0) {
+      return ReadingSessionSyncItemOutput.rejected(
+          index,
+          syncKey,
+          "pagesRead",
+          "pagesRead must be greater than zero"
+      );
+    }
+    return null;
+  }
+
+  private void sync(
+      List<ReadingSessionSyncInput> inputs,
+      UUID userId,
+      List<Integer> candidates,
+      ReadingSessionSyncItemOutput[] items
+  ) {
+    if (candidates.isEmpty()) {
+      return;
+    }
+    List<String> syncKeys = candidates.stream().map(i -> inputs.get(i).syncKey()).toList();
+    Set<String> claimed = readingSessionGateway.claimSyncKeys(userId, syncKeys);
+    List<String> taken = syncKeys.stream().filter(syncKey -> !claimed.contains(syncKey)).toList();
+    Map<String, Long> synced = taken.isEmpty() ? Map.of() : readingSessionGateway.findSyncedSessionIds(userId, taken);
+
+    List<Integer> fresh = new ArrayList<>();
+    for (int i : candidates) {
+      String syncKey = inputs.get(i).syncKey();
+      if (claimed.contains(syncKey)) {
+        fresh.add(i);
+      } else {
+        items[i] = ReadingSessionSyncItemOutput.duplicate(i, syncKey, synced.get(syncKey));
+      }
+    }
+    if (!fresh.isEmpty()) {
+      log(inputs, userId, fresh, items);
+    }
+  }
+
+  /**
+   * Moves every book once, by the sum of its new sessions, then inserts the sessions of the books that moved and
+   * gives back the keys of the others. Books are updated in id order so that concurrent syncs touching the same
+   * books lock them in the same order.
+   */
+  private void log(
+      List<ReadingSessionSyncInput> inputs,
+      UUID userId,
+      List<Integer> fresh,
+      ReadingSessionSyncItemOutput[] items
+  ) {
+    Map<Long, Integer> pagesByBook = new TreeMap<>();
+    fresh.forEach(i -> pagesByBook.merge(
+        inputs.get(i).bookId(),
+        inputs.get(i).pagesRead(),
+        SyncReadingSessionsUseCaseImpl::saturatedSum
+    ));
+    Set<Long> moved = bookGateway.addPagesRead(userId, pagesByBook);
+
+    OffsetDateTime now = OffsetDateTime.now();
+    List<Integer> accepted = new ArrayList<>();
+    List<ReadingSessionSyncInput> sessions = new ArrayList<>();
+    List<String> released = new ArrayList<>();
+    for (int i : fresh) {
+      ReadingSessionSyncInput input = inputs.get(i);
+      if (moved.contains(input.bookId())) {
+        accepted.add(i);
+        sessions.add(input.sessionDate() != null ? input : withSessionDate(input, now));
+      } else {
+        released.add(input.syncKey());
+        items[i] = ReadingSessionSyncItemOutput.rejected(
+            i,
+            input.syncKey(),
+            "bookId",
+            "Book not found, or its sessions would take the pages read past the total pages."
+        );
+      }
+    }
+    if (!released.isEmpty()) {
+      readingSessionGateway.releaseSyncKeys(userId, released);
+    }
+    if (sessions.isEmpty()) {
+      return;
+    }
+
+    List<Long> ids = readingSessionGateway.saveSynced(userId, sessions);
+    for (int k = 0; k < ids.size(); k++) {
+      int index = accepted.get(k);
+      items[index] = ReadingSessionSyncItemOutput.created(index, inputs.get(index).syncKey(), ids.get(k));
+    }
+  }
+
+  /**
+   * A sum past the largest int can never fit a book, so it is clamped rather than allowed to wrap around.
+   */
+  private static int saturatedSum(int a, int b) {
+    return (int) Math.min((long) a + b, Integer.MAX_VALUE);
+  }
+
+  private static ReadingSessionSyncInput withSessionDate(ReadingSessionSyncInput input, OffsetDateTime sessionDate) {
+    return new ReadingSessionSyncInput(
+        input.syncKey(),
+        input.bookId(),
+        input.minutes(),
+        input.pagesRead(),
+        sessionDate
+    );
+  }
+
+  /**
+   * An item that repeats the sync key of an earlier item in the same batch gets that item's outcome.
+   */
+  private static ReadingSessionSyncItemOutput repeated(int index, ReadingSessionSyncItemOutput first) {
+    if (first.status() == Status.REJECTED) {
+      return ReadingSessionSyncItemOutput.rejected(index, first.syncKey(), first.field(), first.error());
+    }
+    return ReadingSessionSyncItemOutput.duplicate(index, first.syncKey(), first.sessionId());
+  }
+
+  private static ReadingSessionSyncOutput summarize(ReadingSessionSyncItemOutput[] items) {
+    Map<Status, Integer> counts = new HashMap<>();
+    for (ReadingSessionSyncItemOutput item : items) {
+      counts.merge(item.status(), 1, Integer::sum);
+    }
+    return new ReadingSessionSyncOutput(
+        List.of(items),
+        counts.getOrDefault(Status.CREATED, 0),
+        counts.getOrDefault(Status.DUPLICATE, 0),
+        counts.getOrDefault(Status.REJECTED, 0)
+    );
+  }
+}
@@ -5,6 +5,7 @@ import com.inktrack.core.domain.ReadingSession;
 import com.inktrack.core.exception.ResourceNotFoundException;
 import com.inktrack.core.gateway.BookGateway;
 import com.inktrack.core.gateway.ReadingSessionGateway;
+import com.inktrack.core.gateway.TransactionGateway;
 
 import java.time.OffsetDateTime;
 import java.util.Optional;
@@ -14,37 +15,41 @@ public class UpdateReadingSessionUseCaseImpl implements UpdateReadingSessionUseC
 
   private final ReadingSessionGateway readingSessionGateway;
   private final BookGateway bookGateway;
+  private final TransactionGateway transactionGateway;
 
-  public UpdateReadingSessionUseCaseImpl(ReadingSessionGateway readingSessionGateway, BookGateway bookGateway) {
+  public UpdateReadingSessionUseCaseImpl(
+      ReadingSessionGateway readingSessionGateway,
+      BookGateway bookGateway,
+      TransactionGateway transactionGateway
+  ) {
     this.readingSessionGateway = readingSessionGateway;
     this.bookGateway = bookGateway;
+    this.transactionGateway = transactionGateway;
   }
 
   @Override
   public ReadingSessionOutput execute(Long bookId, UUID userId, Long readingSessionId, ReadingSessionInput input) {
-    Book book = bookGateway.findByIdAndUserId(bookId, userId);
-    Optional<ReadingSession> readingSession = readingSessionGateway
-        .getByIdAndByBookIdAndUserId(readingSessionId, bookId, userId);
-
-    if (readingSession.isEmpty()) {
-      String message = "Reading session not found with id: " + readingSessionId;
-      throw new ResourceNotFoundException("reading-session", "id", message);
-    }
+    return transactionGateway.execute(() -> update(bookId, userId, readingSessionId, input));
+  }
 
-    book.removePagesRead(readingSession.get().getPagesRead());
-    book.addPagesRead(input.pagesRead());
-    bookGateway.update(book);
+  private ReadingSessionOutput update(Long bookId, UUID userId, Long readingSessionId, ReadingSessionInput input) {
+    Book book = bookGateway.findByIdAndUserId(bookId, userId);
     ReadingSession updatedReadingSession = new ReadingSession.Builder()
-        .id(readingSession.get().getId())
+        .id(readingSessionId)
         .book(book)
         .pagesRead(input.pagesRead())
         .minutes(input.minutes())
         .sessionDate(OffsetDateTime.now())
         .build();
 
-    readingSessionGateway.update(updatedReadingSession);
+    Optional<ReadingSession> readingSession = readingSessionGateway.update(updatedReadingSession, userId);
+    if (readingSession.isEmpty()) {
+      String message = "Reading session not found with id: " + readingSessionId;
+      throw new ResourceNotFoundException("reading-session", "id", message);
+    }
+
     return new ReadingSessionOutput(
-        readingSession.get().getId(),
+        readingSessionId,
         book.getId(),
         updatedReadingSession.getMinutes(),
         updatedReadingSession.getPagesRead(),
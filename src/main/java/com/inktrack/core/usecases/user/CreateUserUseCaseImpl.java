@@ -1,7 +1,6 @@
 package com.inktrack.core.usecases.user;
 
 import com.inktrack.core.domain.User;
-import com.inktrack.core.exception.EmailAlreadyExistsException;
 import com.inktrack.core.gateway.PasswordGateway;
 import com.inktrack.core.gateway.UserGateway;
 import com.inktrack.core.utils.Validation;
@@ -22,9 +21,6 @@ public class CreateUserUseCaseImpl implements CreateUserUseCase {
   @Override
   public User execute(CreateUserRequestModel requestModel) {
     Validation.validate(requestModel);
-    userGateway.findByEmail(requestModel.email()).ifPresent(u -> {
-      throw new EmailAlreadyExistsException(requestModel.email());
-    });
     String passwordHash = passwordGateway.hash(requestModel.passwordRaw());
     User user = new User(null, requestModel.name(), requestModel.email(), passwordHash, LocalDateTime.now());
     return userGateway.save(user);
@@ -34,7 +34,11 @@ public final class LoginUseCaseImpl implements LoginUseCase{
       throw new InvalidCredentialsException();
     }
 
-    String accessToken = jwtGateway.generateAccessToken(user.getId());
+    if (passwordGateway.needsRehash(user.getPassword())) {
+      userGateway.updatePasswordHash(user.getId(), passwordGateway.hash(loginRequest.passwordRaw()));
+    }
+
+    String accessToken = jwtGateway.generateAccessToken(user);
     String refreshToken = jwtGateway.generateRefreshToken(user.getId());
 
     return new AuthTokens(accessToken, refreshToken);
@@ -1,21 +1,41 @@
 package com.inktrack.core.usecases.user;
 
+import com.inktrack.core.domain.User;
+import com.inktrack.core.exception.UnauthorizedException;
 import com.inktrack.core.gateway.JwtGateway;
-
-import java.util.UUID;
+import com.inktrack.core.gateway.JwtGateway.VerifiedToken;
+import com.inktrack.core.gateway.TokenRevocationGateway;
+import com.inktrack.core.gateway.UserGateway;
 
 public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase{
 
   private final JwtGateway jwtGateway;
+  private final UserGateway userGateway;
+  private final TokenRevocationGateway tokenRevocationGateway;
 
-  public RefreshTokenUseCaseImpl(JwtGateway jwtGateway) {
+  public RefreshTokenUseCaseImpl(
+      JwtGateway jwtGateway,
+      UserGateway userGateway,
+      TokenRevocationGateway tokenRevocationGateway
+  ) {
     this.jwtGateway = jwtGateway;
+    this.userGateway = userGateway;
+    this.tokenRevocationGateway = tokenRevocationGateway;
   }
 
   @Override
   public AuthTokens execute(String refreshToken) {
-    UUID userId = jwtGateway.validateRefreshToken(refreshToken);
-    String newAccessToken = jwtGateway.generateAccessToken(userId);
-    return new AuthTokens(newAccessToken, refreshToken);
+    VerifiedToken verified = jwtGateway.verifyRefreshToken(refreshToken);
+
+    if (verified.jti() == null
+        || !tokenRevocationGateway.revoke(verified.jti(), verified.subject(), verified.expiresAt())) {
+      throw new UnauthorizedException("Refresh token has been revoked");
+    }
+
+    User user = userGateway.findById(verified.subject())
+        .orElseThrow(() -> new UnauthorizedException("User not found"));
+    String newAccessToken = jwtGateway.generateAccessToken(user);
+    String newRefreshToken = jwtGateway.generateRefreshToken(user.getId());
+    return new AuthTokens(newAccessToken, newRefreshToken);
   }
 }
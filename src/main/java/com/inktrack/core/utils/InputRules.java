@@ -0,0 +1,110 @@
+package com.inktrack.core.utils;
+
+/**
+ * Single-pass, allocation-free checks for the password and email rules. They accept exactly the
+ * same inputs as the {@link PasswordCheck} patterns and the former email regex, by classifying each
+ * character once instead of running several backtracking regexes.
+ */
+public final class InputRules {
+
+  public static final int MISSING_LOWERCASE = 1;
+  public static final int MISSING_UPPERCASE = 1 << 1;
+  public static final int MISSING_DIGIT = 1 << 2;
+  public static final int MISSING_SPECIAL_CHAR = 1 << 3;
+  public static final int TOO_SHORT = 1 << 4;
+
+  public static final int MIN_PASSWORD_LENGTH = 8;
+
+  private static final int ALL_PASSWORD_RULES =
+      MISSING_LOWERCASE | MISSING_UPPERCASE | MISSING_DIGIT | MISSING_SPECIAL_CHAR | TOO_SHORT;
+
+  private InputRules() {}
+
+  /**
+   * Returns a bitmask of the password rules that are not met, or {@code 0} for a strong password.
+   * A password containing a line break never satisfies the length rule. The length is counted in code
+   * points, as the {@code .{8,}} pattern does, so a surrogate pair counts once.
+   */
+  public static int passwordViolations(CharSequence password) {
+    int violations = ALL_PASSWORD_RULES;
+    int length = password.length();
+    int codePoints = 0;
+    boolean lineBreak = false;
+    for (int i = 0; i < length; i++) {
+      char c = password.charAt(i);
+      violations &= ~satisfiedRule(c);
+      lineBreak |= isLineBreak(c);
+      if (!Character.isLowSurrogate(c) || i == 0 || !Character.isHighSurrogate(password.charAt(i - 1))) {
+        codePoints++;
+      }
+    }
+    if (codePoints >= MIN_PASSWORD_LENGTH && !lineBreak) {
+      violations &= ~TOO_SHORT;
+    }
+    return violations;
+  }
+
+  /**
+   * Same as {@code [\w.-]+@[\w.-]+\.\w{2,}} over the whole input, with {@code \w} being ASCII
+   * letters, digits and underscore.
+   */
+  public static boolean isValidEmail(CharSequence email) {
+    int length = email.length();
+    int at = -1;
+    int lastDot = -1;
+    boolean hyphenAfterLastDot = false;
+
+    for (int i = 0; i < length; i++) {
+      char c = email.charAt(i);
+      if (c == '@') {
+        if (at >= 0) {
+          return false;
+        }
+        at = i;
+      } else if (c == '.') {
+        lastDot = i;
+        hyphenAfterLastDot = false;
+      } else if (c == '-') {
+        hyphenAfterLastDot = true;
+      } else if (!isWordChar(c)) {
+        return false;
+      }
+    }
+
+    return at > 0
+        && lastDot > at + 1
+        && length - lastDot - 1 >= 2
+        && !hyphenAfterLastDot;
+  }
+
+  private static int satisfiedRule(char c) {
+    if (c >= 'a' && c <= 'z') {
+      return MISSING_LOWERCASE;
+    }
+    if (c >= 'A' && c <= 'Z') {
+      return MISSING_UPPERCASE;
+    }
+    if (c >= '0' && c <= '9') {
+      return MISSING_DIGIT;
+    }
+    return isSpecialChar(c) ? MISSING_SPECIAL_CHAR : 0;
+  }
+
+  private static boolean isSpecialChar(char c) {
+    return switch (c) {
+      case '@', '#', '$', '%', '^', '&', '+', '=', '!' -> true;
+      default -> false;
+    };
+  }
+
+  private static boolean isWordChar(char c) {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || c == '_';
+  }
+
+  private static boolean isLineBreak(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+}
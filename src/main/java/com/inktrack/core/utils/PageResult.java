@@ -1,11 +1,31 @@
 package com.inktrack.core.utils;
 
 import java.util.List;
+import java.util.function.Function;
 
+/**
+ * {@code totalPages} is {@code null} when the total was not computed; {@code hasNext} is always known.
+ * {@code nextCursor} is set when more results follow and the listing supports keyset pagination.
+ */
 public record PageResult<T>(
     int pageSize,
-    int totalPages,
+    Integer totalPages,
     int currentPage,
-    List<T> data
+    List<T> data,
+    boolean hasNext,
+    String nextCursor
 ) {
+
+  public PageResult(int pageSize, Integer totalPages, int currentPage, List<T> data) {
+    this(pageSize, totalPages, currentPage, data, totalPages != null && currentPage + 1 < totalPages, null);
+  }
+
+  public PageResult<T> withNextCursor(String nextCursor) {
+    return new PageResult<>(pageSize, totalPages, currentPage, data, hasNext, nextCursor);
+  }
+
+  public <R> PageResult<R> map(Function<? super T, ? extends R> mapper) {
+    List<R> mapped = data.stream().<R>map(mapper).toList();
+    return new PageResult<>(pageSize, totalPages, currentPage, mapped, hasNext, nextCursor);
+  }
 }
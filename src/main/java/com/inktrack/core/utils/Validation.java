@@ -26,7 +26,7 @@ public final class Validation {
       return false;
     }
 
-    return email.matches("^[\\w\\.-]+@[\\w\\.-]+\\.\\w{2,}$");
+    return InputRules.isValidEmail(email);
   }
 
   public static boolean isStrongPassword(String password) {
@@ -34,10 +34,6 @@ public final class Validation {
       return false;
     }
 
-    return PasswordCheck.LENGTH_PATTERN.matcher(password).find()
-        && PasswordCheck.UPPERCASE_PATTERN.matcher(password).find()
-        && PasswordCheck.DIGIT_PATTERN.matcher(password).find()
-        && PasswordCheck.LOWERCASE_PATTERN.matcher(password).find()
-        && PasswordCheck.SPECIAL_CHAR_PATTERN.matcher(password).find();
+    return InputRules.passwordViolations(password) == 0;
   }
 }
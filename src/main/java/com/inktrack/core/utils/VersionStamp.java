@@ -0,0 +1,18 @@
+package com.inktrack.core.utils;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Cheap fingerprint of a resource or collection: its latest modification time and its row count, so
+ * removals change the stamp too. An empty stamp means there was nothing to fingerprint.
+ */
+public record VersionStamp(OffsetDateTime lastModified, long count) {
+
+  public static VersionStamp of(OffsetDateTime lastModified) {
+    return new VersionStamp(lastModified, lastModified == null ? 0 : 1);
+  }
+
+  public boolean isEmpty() {
+    return count == 0;
+  }
+}
@@ -7,15 +7,21 @@ import com.inktrack.core.gateway.JwtGateway;
 import com.inktrack.core.gateway.NoteGateway;
 import com.inktrack.core.gateway.PasswordGateway;
 import com.inktrack.core.gateway.ReadingSessionGateway;
+import com.inktrack.core.gateway.TokenRevocationGateway;
+import com.inktrack.core.gateway.TransactionGateway;
 import com.inktrack.core.gateway.UserGateway;
 import com.inktrack.core.usecases.book.CreateBookUseCase;
 import com.inktrack.core.usecases.book.CreateBookUseCaseImpl;
+import com.inktrack.core.usecases.book.CreateBooksBatchUseCase;
+import com.inktrack.core.usecases.book.CreateBooksBatchUseCaseImpl;
 import com.inktrack.core.usecases.book.DeleteBookUseCase;
 import com.inktrack.core.usecases.book.DeleteBookUseCaseImpl;
 import com.inktrack.core.usecases.book.GetBookByIdUseCase;
 import com.inktrack.core.usecases.book.GetBookByIdUseCaseImpl;
 import com.inktrack.core.usecases.book.GetBooksUseCase;
 import com.inktrack.core.usecases.book.GetBooksUseCaseImpl;
+import com.inktrack.core.usecases.book.PatchBookUseCase;
+import com.inktrack.core.usecases.book.PatchBookUseCaseImpl;
 import com.inktrack.core.usecases.book.SearchBooksUseCase;
 import com.inktrack.core.usecases.book.SearchBooksUseCaseImpl;
 import com.inktrack.core.usecases.book.UpdateBookUseCase;
@@ -37,6 +43,8 @@ import com.inktrack.core.usecases.reading.sessions.CreateReadingSessionUseCaseIm
 import com.inktrack.core.usecases.reading.sessions.DeleteReadingSessionUseCase;
 import com.inktrack.core.usecases.reading.sessions.DeleteReadingSessionUseCaseImpl;
 import com.inktrack.core.usecases.reading.sessions.GetReadingSessionByBookIdUseCaseImpl;
+import com.inktrack.core.usecases.reading.sessions.SyncReadingSessionsUseCase;
+import com.inktrack.core.usecases.reading.sessions.SyncReadingSessionsUseCaseImpl;
 import com.inktrack.core.usecases.reading.sessions.UpdateReadingSessionUseCase;
 import com.inktrack.core.usecases.reading.sessions.UpdateReadingSessionUseCaseImpl;
 import com.inktrack.core.usecases.user.CreateUserUseCase;
@@ -45,6 +53,7 @@ import com.inktrack.core.usecases.user.LoginUseCase;
 import com.inktrack.core.usecases.user.LoginUseCaseImpl;
 import com.inktrack.core.usecases.user.RefreshTokenUseCase;
 import com.inktrack.core.usecases.user.RefreshTokenUseCaseImpl;
+import com.inktrack.infrastructure.config.PasswordHashingConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -63,8 +72,12 @@ public class BeansConfig {
   }
 
   @Bean
-  public RefreshTokenUseCase refreshTokenUseCase(JwtGateway jwtGateway) {
-    return new RefreshTokenUseCaseImpl(jwtGateway);
+  public RefreshTokenUseCase refreshTokenUseCase(
+      JwtGateway jwtGateway,
+      UserGateway userGateway,
+      TokenRevocationGateway tokenRevocationGateway
+  ) {
+    return new RefreshTokenUseCaseImpl(jwtGateway, userGateway, tokenRevocationGateway);
   }
 
   @Bean
@@ -76,13 +89,32 @@ public class BeansConfig {
     return new CreateBookUseCaseImpl(bookGateway, categoryGateway, googleBooksGateway);
   }
 
+  @Bean
+  public CreateBooksBatchUseCase createBooksBatchUseCase(
+      BookGateway bookGateway,
+      CategoryGateway categoryGateway,
+      GoogleBooksGateway googleBooksGateway
+  ) {
+    return new CreateBooksBatchUseCaseImpl(bookGateway, categoryGateway, googleBooksGateway);
+  }
+
   @Bean
   public UpdateBookUseCase updateBookUseCase(
+      BookGateway bookGateway,
+      CategoryGateway categoryGateway,
+      GoogleBooksGateway googleBooksGateway,
+      TransactionGateway transactionGateway
+  ) {
+    return new UpdateBookUseCaseImpl(bookGateway, categoryGateway, googleBooksGateway, transactionGateway);
+  }
+
+  @Bean
+  public PatchBookUseCase patchBookUseCase(
       BookGateway bookGateway,
       CategoryGateway categoryGateway,
       GoogleBooksGateway googleBooksGateway
   ) {
-    return new UpdateBookUseCaseImpl(bookGateway, categoryGateway, googleBooksGateway);
+    return new PatchBookUseCaseImpl(bookGateway, categoryGateway, googleBooksGateway);
   }
 
   @Bean
@@ -103,9 +135,10 @@ public class BeansConfig {
   @Bean
   public CreateReadingSessionUseCase createReadingSessionUseCase(
       ReadingSessionGateway readingSessionGateway,
-      BookGateway bookGateway
+      BookGateway bookGateway,
+      TransactionGateway transactionGateway
   ) {
-    return new CreateReadingSessionUseCaseImpl(readingSessionGateway, bookGateway);
+    return new CreateReadingSessionUseCaseImpl(readingSessionGateway, bookGateway, transactionGateway);
   }
 
   @Bean
@@ -116,17 +149,27 @@ public class BeansConfig {
   @Bean
   public UpdateReadingSessionUseCase updateReadingSessionUseCase(
       BookGateway bookGateway,
-      ReadingSessionGateway readingSessionGateway
+      ReadingSessionGateway readingSessionGateway,
+      TransactionGateway transactionGateway
   ) {
-    return new UpdateReadingSessionUseCaseImpl(readingSessionGateway, bookGateway);
+    return new UpdateReadingSessionUseCaseImpl(readingSessionGateway, bookGateway, transactionGateway);
   }
 
   @Bean
   public DeleteReadingSessionUseCase readingSessionUseCase(
       ReadingSessionGateway readingSessionGateway,
-      BookGateway bookGateway
+      TransactionGateway transactionGateway
+  ) {
+    return new DeleteReadingSessionUseCaseImpl(readingSessionGateway, transactionGateway);
+  }
+
+  @Bean
+  public SyncReadingSessionsUseCase syncReadingSessionsUseCase(
+      ReadingSessionGateway readingSessionGateway,
+      BookGateway bookGateway,
+      TransactionGateway transactionGateway
   ) {
-    return new DeleteReadingSessionUseCaseImpl(readingSessionGateway, bookGateway);
+    return new SyncReadingSessionsUseCaseImpl(readingSessionGateway, bookGateway, transactionGateway);
   }
 
   @Bean
@@ -165,7 +208,7 @@ public class BeansConfig {
   }
 
   @Bean
-  public BCryptPasswordEncoder bCryptPasswordEncoder() {
-    return new BCryptPasswordEncoder();
+  public BCryptPasswordEncoder bCryptPasswordEncoder(PasswordHashingConfig passwordHashingConfig) {
+    return new BCryptPasswordEncoder(passwordHashingConfig.getStrength());
   }
 }
@@ -13,9 +13,16 @@ import org.springframework.context.annotation.Configuration;
 public class CacheConfig {
 
   public static final String GOOGLE_BOOKS_CACHE = "googleBooks";
+  public static final String PRINCIPAL_CACHE = "principals";
+  public static final String BOOK_CACHE = "books";
+  public static final String CATEGORY_CACHE = "categories";
 
   @Bean
-  public CacheManager cacheManager(GoogleBooksConfig config) {
+  public CacheManager cacheManager(
+      GoogleBooksConfig config,
+      PrincipalCacheConfig principalConfig,
+      BookCacheConfig bookConfig
+  ) {
     CaffeineCacheManager cacheManager = new CaffeineCacheManager(GOOGLE_BOOKS_CACHE);
     cacheManager.setCaffeine(
         Caffeine.newBuilder()
@@ -23,6 +30,31 @@ public class CacheConfig {
             .expireAfterWrite(config.getCacheExpirationMinutes(), TimeUnit.MINUTES)
             .recordStats()
     );
+    cacheManager.registerCustomCache(
+        PRINCIPAL_CACHE,
+        Caffeine.newBuilder()
+            .maximumSize(principalConfig.getMaxSize())
+            .expireAfterWrite(principalConfig.getExpirationSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build()
+    );
+    cacheManager.registerCustomCache(
+        BOOK_CACHE,
+        Caffeine.newBuilder()
+            .maximumSize(bookConfig.getMaxSize())
+            .expireAfterWrite(bookConfig.getExpirationSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build()
+    );
+    // Categories are seeded reference data with no write path, so they are kept for long.
+    cacheManager.registerCustomCache(
+        CATEGORY_CACHE,
+        Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(1, TimeUnit.HOURS)
+            .recordStats()
+            .build()
+    );
     return cacheManager;
   }
 }
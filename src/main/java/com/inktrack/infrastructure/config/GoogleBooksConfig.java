@@ -13,6 +13,9 @@ public class GoogleBooksConfig {
   private int timeoutMs = 5000;
   private long cacheMaxSize = 100;
   private long cacheExpirationMinutes = 5;
+  private int lookupPoolSize = 8;
+  private int lookupQueueCapacity = 1000;
+  private long lookupDeadlineMs = 10000;
 
   public String getApiKey() {
     return apiKey;
@@ -61,4 +64,28 @@ public class GoogleBooksConfig {
   public void setCacheExpirationMinutes(long cacheExpirationMinutes) {
     this.cacheExpirationMinutes = cacheExpirationMinutes;
   }
+
+  public int getLookupPoolSize() {
+    return lookupPoolSize;
+  }
+
+  public void setLookupPoolSize(int lookupPoolSize) {
+    this.lookupPoolSize = lookupPoolSize;
+  }
+
+  public int getLookupQueueCapacity() {
+    return lookupQueueCapacity;
+  }
+
+  public void setLookupQueueCapacity(int lookupQueueCapacity) {
+    this.lookupQueueCapacity = lookupQueueCapacity;
+  }
+
+  public long getLookupDeadlineMs() {
+    return lookupDeadlineMs;
+  }
+
+  public void setLookupDeadlineMs(long lookupDeadlineMs) {
+    this.lookupDeadlineMs = lookupDeadlineMs;
+  }
 }
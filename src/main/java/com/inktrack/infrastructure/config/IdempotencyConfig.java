@@ -0,0 +1,75 @@
+package com.inktrack.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyConfig {
+
+  private boolean enabled = true;
+  private long ttlHours = 24;
+  private long maxCachedBytes = 16L * 1024 * 1024;
+  private long waitTimeoutMs = 10_000;
+  private long pendingTimeoutSeconds = 60;
+  private long cleanupIntervalMs = 3_600_000;
+  private int maxRequestBytes = 1024 * 1024;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getTtlHours() {
+    return ttlHours;
+  }
+
+  public void setTtlHours(long ttlHours) {
+    this.ttlHours = ttlHours;
+  }
+
+  public long getMaxCachedBytes() {
+    return maxCachedBytes;
+  }
+
+  public void setMaxCachedBytes(long maxCachedBytes) {
+    this.maxCachedBytes = maxCachedBytes;
+  }
+
+  public long getWaitTimeoutMs() {
+    return waitTimeoutMs;
+  }
+
+  public void setWaitTimeoutMs(long waitTimeoutMs) {
+    this.waitTimeoutMs = waitTimeoutMs;
+  }
+
+  public long getPendingTimeoutSeconds() {
+    return pendingTimeoutSeconds;
+  }
+
+  public void setPendingTimeoutSeconds(long pendingTimeoutSeconds) {
+    this.pendingTimeoutSeconds = pendingTimeoutSeconds;
+  }
+
+  public long getCleanupIntervalMs() {
+    return cleanupIntervalMs;
+  }
+
+  public void setCleanupIntervalMs(long cleanupIntervalMs) {
+    this.cleanupIntervalMs = cleanupIntervalMs;
+  }
+
+  public int getMaxRequestBytes() {
+    return maxRequestBytes;
+  }
+
+  public void setMaxRequestBytes(int maxRequestBytes) {
+    this.maxRequestBytes = maxRequestBytes;
+  }
+}
@@ -0,0 +1,46 @@
+package com.inktrack.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordHashingConfig {
+
+  private int strength = 10;
+  private int poolSize = Runtime.getRuntime().availableProcessors();
+  private int queueCapacity = 64;
+  private long retryAfterSeconds = 1;
+
+  public int getStrength() {
+    return strength;
+  }
+
+  public void setStrength(int strength) {
+    this.strength = strength;
+  }
+
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  public void setPoolSize(int poolSize) {
+    this.poolSize = poolSize;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+
+  public void setRetryAfterSeconds(long retryAfterSeconds) {
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
@@ -0,0 +1,28 @@
+package com.inktrack.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.principal-cache")
+public class PrincipalCacheConfig {
+
+  private long maxSize = 10_000;
+  private long expirationSeconds = 300;
+
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public long getExpirationSeconds() {
+    return expirationSeconds;
+  }
+
+  public void setExpirationSeconds(long expirationSeconds) {
+    this.expirationSeconds = expirationSeconds;
+  }
+}
@@ -0,0 +1,82 @@
+package com.inktrack.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitConfig {
+
+  private boolean enabled = true;
+  private int ipCapacity = 30;
+  private long ipRefillPeriodSeconds = 60;
+  private int emailCapacity = 5;
+  private long emailRefillPeriodSeconds = 60;
+  private long maxTrackedKeys = 100_000;
+  private long idleExpirationMinutes = 15;
+  private int maxBodyBytes = 16 * 1024;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getIpCapacity() {
+    return ipCapacity;
+  }
+
+  public void setIpCapacity(int ipCapacity) {
+    this.ipCapacity = ipCapacity;
+  }
+
+  public long getIpRefillPeriodSeconds() {
+    return ipRefillPeriodSeconds;
+  }
+
+  public void setIpRefillPeriodSeconds(long ipRefillPeriodSeconds) {
+    this.ipRefillPeriodSeconds = ipRefillPeriodSeconds;
+  }
+
+  public int getEmailCapacity() {
+    return emailCapacity;
+  }
+
+  public void setEmailCapacity(int emailCapacity) {
+    this.emailCapacity = emailCapacity;
+  }
+
+  public long getEmailRefillPeriodSeconds() {
+    return emailRefillPeriodSeconds;
+  }
+
+  public void setEmailRefillPeriodSeconds(long emailRefillPeriodSeconds) {
+    this.emailRefillPeriodSeconds = emailRefillPeriodSeconds;
+  }
+
+  public long getMaxTrackedKeys() {
+    return maxTrackedKeys;
+  }
+
+  public void setMaxTrackedKeys(long maxTrackedKeys) {
+    this.maxTrackedKeys = maxTrackedKeys;
+  }
+
+  public long getIdleExpirationMinutes() {
+    return idleExpirationMinutes;
+  }
+
+  public void setIdleExpirationMinutes(long idleExpirationMinutes) {
+    this.idleExpirationMinutes = idleExpirationMinutes;
+  }
+
+  public int getMaxBodyBytes() {
+    return maxBodyBytes;
+  }
+
+  public void setMaxBodyBytes(int maxBodyBytes) {
+    this.maxBodyBytes = maxBodyBytes;
+  }
+}
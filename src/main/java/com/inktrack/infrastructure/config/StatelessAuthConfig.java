@@ -0,0 +1,37 @@
+package com.inktrack.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.auth")
+public class StatelessAuthConfig {
+
+  private boolean stateless = false;
+  private long tokenVersionMaxSize = 100_000;
+  private long tokenVersionRefreshSeconds = 30;
+
+  public boolean isStateless() {
+    return stateless;
+  }
+
+  public void setStateless(boolean stateless) {
+    this.stateless = stateless;
+  }
+
+  public long getTokenVersionMaxSize() {
+    return tokenVersionMaxSize;
+  }
+
+  public void setTokenVersionMaxSize(long tokenVersionMaxSize) {
+    this.tokenVersionMaxSize = tokenVersionMaxSize;
+  }
+
+  public long getTokenVersionRefreshSeconds() {
+    return tokenVersionRefreshSeconds;
+  }
+
+  public void setTokenVersionRefreshSeconds(long tokenVersionRefreshSeconds) {
+    this.tokenVersionRefreshSeconds = tokenVersionRefreshSeconds;
+  }
+}
@@ -0,0 +1,61 @@
+package com.inktrack.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "thumbnails.cache")
+public class ThumbnailCacheConfig {
+
+  private String directory = System.getProperty("java.io.tmpdir") + "/inktrack/thumbnails";
+  private long maxBytes = 256L * 1024 * 1024;
+  private long maxImageBytes = 2L * 1024 * 1024;
+  private int timeoutMs = 5000;
+  private List<String> allowedHosts = new ArrayList<>(List.of(
+      "books.google.com",
+      "books.googleusercontent.com"
+  ));
+
+  public String getDirectory() {
+    return directory;
+  }
+
+  public void setDirectory(String directory) {
+    this.directory = directory;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  public void setMaxBytes(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  public long getMaxImageBytes() {
+    return maxImageBytes;
+  }
+
+  public void setMaxImageBytes(long maxImageBytes) {
+    this.maxImageBytes = maxImageBytes;
+  }
+
+  public int getTimeoutMs() {
+    return timeoutMs;
+  }
+
+  public void setTimeoutMs(int timeoutMs) {
+    this.timeoutMs = timeoutMs;
+  }
+
+  public List<String> getAllowedHosts() {
+    return allowedHosts;
+  }
+
+  public void setAllowedHosts(List<String> allowedHosts) {
+    this.allowedHosts = allowedHosts;
+  }
+}
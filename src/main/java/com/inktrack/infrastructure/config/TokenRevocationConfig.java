@@ -0,0 +1,28 @@
+package com.inktrack.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.token-revocation")
+public class TokenRevocationConfig {
+
+  private long maxSize = 100_000;
+  private long cleanupIntervalMs = 3_600_000;
+
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public long getCleanupIntervalMs() {
+    return cleanupIntervalMs;
+  }
+
+  public void setCleanupIntervalMs(long cleanupIntervalMs) {
+    this.cleanupIntervalMs = cleanupIntervalMs;
+  }
+}
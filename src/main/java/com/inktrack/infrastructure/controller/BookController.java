@@ -1,32 +1,47 @@
 package com.inktrack.infrastructure.controller;
 
 import com.inktrack.core.domain.User;
+import com.inktrack.core.exception.ResourceNotFoundException;
+import com.inktrack.core.usecases.book.BookBatchOutput;
 import com.inktrack.core.usecases.book.BookModelInput;
 import com.inktrack.core.usecases.book.BookModelOutput;
+import com.inktrack.core.usecases.book.BookSummaryOutput;
 import com.inktrack.core.usecases.book.CreateBookUseCase;
+import com.inktrack.core.usecases.book.CreateBooksBatchUseCase;
 import com.inktrack.core.usecases.book.DeleteBookUseCase;
 import com.inktrack.core.usecases.book.GetBookByIdUseCase;
 import com.inktrack.core.usecases.book.GetBookFilter;
 import com.inktrack.core.usecases.book.GetBooksUseCase;
 import com.inktrack.core.usecases.book.OrderEnum;
+import com.inktrack.core.usecases.book.PatchBookUseCase;
 import com.inktrack.core.usecases.book.SearchBooksOutput;
 import com.inktrack.core.usecases.book.SearchBooksUseCase;
 import com.inktrack.core.usecases.book.UpdateBookUseCase;
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
+import com.inktrack.infrastructure.dtos.book.BookBatchCreateRequest;
+import com.inktrack.infrastructure.dtos.book.BookBatchResponse;
 import com.inktrack.infrastructure.dtos.book.BookCreateRequest;
+import com.inktrack.infrastructure.dtos.book.BookPatchRequest;
 import com.inktrack.infrastructure.dtos.book.BookResponse;
 import com.inktrack.infrastructure.dtos.book.BookSearchResponse;
+import com.inktrack.infrastructure.dtos.book.BookSummaryResponse;
 import com.inktrack.infrastructure.entity.UserEntity;
+import com.inktrack.infrastructure.gateway.ThumbnailStore;
 import com.inktrack.infrastructure.mapper.BookMapper;
 import com.inktrack.infrastructure.mapper.GoogleBooksMapper;
 import com.inktrack.infrastructure.mapper.UserMapper;
 import com.inktrack.infrastructure.utils.response.ApiResponse;
+import com.inktrack.infrastructure.utils.response.ConditionalGet;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -34,7 +49,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.net.URI;
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @RestController
@@ -42,7 +61,9 @@ import java.util.List;
 public class BookController {
 
   private final CreateBookUseCase createBookUseCase;
+  private final CreateBooksBatchUseCase createBooksBatchUseCase;
   private final UpdateBookUseCase updateBookUseCase;
+  private final PatchBookUseCase patchBookUseCase;
   private final GetBooksUseCase getBooksUseCase;
   private final GetBookByIdUseCase getBookByIdUseCase;
   private final DeleteBookUseCase deleteBookUseCase;
@@ -50,20 +71,26 @@ public class BookController {
   private final BookMapper bookMapper;
   private final UserMapper userMapper;
   private final GoogleBooksMapper googleBooksMapper;
+  private final ThumbnailStore thumbnailStore;
 
   public BookController(
       CreateBookUseCase createBookUseCase,
+      CreateBooksBatchUseCase createBooksBatchUseCase,
       UpdateBookUseCase updateBookUseCase,
+      PatchBookUseCase patchBookUseCase,
       GetBooksUseCase getBooksUseCase,
       GetBookByIdUseCase getBookByIdUseCase,
       DeleteBookUseCase deleteBookUseCase,
       SearchBooksUseCase searchBooksUseCase,
       BookMapper bookMapper,
       UserMapper userMapper,
-      GoogleBooksMapper googleBooksMapper
+      GoogleBooksMapper googleBooksMapper,
+      ThumbnailStore thumbnailStore
   ) {
     this.createBookUseCase = createBookUseCase;
+    this.createBooksBatchUseCase = createBooksBatchUseCase;
     this.updateBookUseCase = updateBookUseCase;
+    this.patchBookUseCase = patchBookUseCase;
     this.getBooksUseCase = getBooksUseCase;
     this.getBookByIdUseCase = getBookByIdUseCase;
     this.deleteBookUseCase = deleteBookUseCase;
@@ -71,6 +98,7 @@ public class BookController {
     this.bookMapper = bookMapper;
     this.userMapper = userMapper;
     this.googleBooksMapper = googleBooksMapper;
+    this.thumbnailStore = thumbnailStore;
   }
 
   @PostMapping
@@ -83,7 +111,24 @@ public class BookController {
     BookModelOutput bookSaved = createBookUseCase.execute(modelInput, userLogged);
     BookResponse response = bookMapper.modelOutPutToResponse(bookSaved);
     ApiResponse<BookResponse> body = ApiResponse.success(response);
-    return ResponseEntity.status(HttpStatus.CREATED).body(body);
+    URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+        .path("/books/{id}")
+        .buildAndExpand(bookSaved.id())
+        .toUri();
+    return ResponseEntity.created(location).body(body);
+  }
+
+  @PostMapping("/batch")
+  public ResponseEntity<ApiResponse<BookBatchResponse>> createBatch(
+      @Valid @RequestBody BookBatchCreateRequest request,
+      @AuthenticationPrincipal UserEntity currentUser
+  ) {
+    List<BookModelInput> modelInputs = bookMapper.batchRequestToModelInputs(request);
+    User userLogged = userMapper.entityToDomain(currentUser);
+    BookBatchOutput batchOutput = createBooksBatchUseCase.execute(modelInputs, userLogged);
+    ApiResponse<BookBatchResponse> body = ApiResponse.success(bookMapper.batchOutputToResponse(batchOutput));
+    HttpStatus status = batchOutput.rejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+    return ResponseEntity.status(status).body(body);
   }
 
   @PutMapping("/{id}")
@@ -99,33 +144,58 @@ public class BookController {
     return ResponseEntity.ok(body);
   }
 
+  @PatchMapping("/{id}")
+  public ResponseEntity<ApiResponse<BookResponse>> patch(
+      @PathVariable Long id,
+      @Valid @RequestBody BookPatchRequest request,
+      @AuthenticationPrincipal UserEntity currentUser
+  ) {
+    User userLogged = userMapper.entityToDomain(currentUser);
+    BookModelOutput bookPatched = patchBookUseCase.execute(id, bookMapper.patchRequestToPatch(request), userLogged);
+    ApiResponse<BookResponse> body = ApiResponse.success(bookMapper.modelOutPutToResponse(bookPatched));
+    return ResponseEntity.ok(body);
+  }
+
   @GetMapping
-  public ResponseEntity<ApiResponse<PageResult<BookResponse>>> getBooks(
+  public ResponseEntity<ApiResponse<PageResult<BookSummaryResponse>>> getBooks(
       @RequestParam(defaultValue = "0") Integer page,
       @RequestParam(defaultValue = "10") Integer size,
       @RequestParam(required = false, defaultValue = "") String title,
+      @RequestParam(required = false) String q,
       @RequestParam(required = false) Long categoryId,
       @RequestParam(required = false, defaultValue = "RECENT") OrderEnum sortBy,
-      @AuthenticationPrincipal UserEntity currentUser
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "true") boolean includeTotal,
+      @RequestParam(required = false) String author,
+      @RequestParam(required = false) Integer minProgress,
+      @RequestParam(required = false) Integer maxProgress,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime createdFrom,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime createdTo,
+      @RequestParam(required = false) Boolean hasGoogleBookId,
+      @AuthenticationPrincipal UserEntity currentUser,
+      ServletWebRequest webRequest
   ) {
+    if (ConditionalGet.notModified(webRequest, getBooksUseCase.version(currentUser.getId()), currentUser.getId())) {
+      return null;
+    }
     GetBookFilter filter = new GetBookFilter(
         page,
         size,
         title,
+        q,
         categoryId,
-        sortBy
-    );
-    PageResult<BookModelOutput> books = getBooksUseCase.execute(currentUser.getId(), filter);
-    List<BookResponse> bookResponseList = books.data()
-        .stream()
-        .map(bookMapper::modelOutPutToResponse)
-        .toList();
-    PageResult<BookResponse> dataResponse = new PageResult<>(
-        books.pageSize(),
-        books.totalPages(),
-        books.currentPage(),
-        bookResponseList
+        sortBy,
+        cursor,
+        includeTotal,
+        author,
+        minProgress,
+        maxProgress,
+        createdFrom,
+        createdTo,
+        hasGoogleBookId
     );
+    PageResult<BookSummaryOutput> books = getBooksUseCase.execute(currentUser.getId(), filter);
+    PageResult<BookSummaryResponse> dataResponse = books.map(bookMapper::summaryOutputToResponse);
     return ResponseEntity.ok(ApiResponse.success(dataResponse));
   }
 
@@ -141,13 +211,50 @@ public class BookController {
   @GetMapping("/{id}")
   public ResponseEntity<ApiResponse<BookResponse>> getBookById(
       @PathVariable Long id,
-      @AuthenticationPrincipal UserEntity currentUser
+      @AuthenticationPrincipal UserEntity currentUser,
+      ServletWebRequest webRequest
   ) {
     BookModelOutput bookModelOutput = getBookByIdUseCase.execute(id, currentUser.getId());
+    // The book may come from the cache, so the tag is taken from the copy being rendered.
+    boolean notModified = ConditionalGet.notModified(
+        webRequest,
+        VersionStamp.of(bookModelOutput.updatedAt()),
+        currentUser.getId(),
+        currentUser.getName(),
+        currentUser.getEmail()
+    );
+    if (notModified) {
+      return null;
+    }
     BookResponse response = bookMapper.modelOutPutToResponse(bookModelOutput);
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 
+  /**
+   * Sends the client to the locally stored copy of the cover, downloading it first if needed. The redirect
+   * itself is revalidated every time, the content-addressed target is cached for good.
+   */
+  @GetMapping("/{id}/thumbnail")
+  public ResponseEntity<Void> getThumbnail(
+      @PathVariable Long id,
+      @AuthenticationPrincipal UserEntity currentUser
+  ) {
+    BookModelOutput book = getBookByIdUseCase.execute(id, currentUser.getId());
+    String key = thumbnailStore.store(book.thumbnailUrl()).orElseThrow(() -> new ResourceNotFoundException(
+        "Thumbnail",
+        "thumbnailUrl",
+        "The book has no cover that can be served."
+    ));
+    URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+        .path("/thumbnails/{key}")
+        .buildAndExpand(key)
+        .toUri();
+    return ResponseEntity.status(HttpStatus.SEE_OTHER)
+        .location(location)
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .build();
+  }
+
   @DeleteMapping("/{id}")
   public ResponseEntity<ApiResponse<Void>> delete(
       @PathVariable Long id,
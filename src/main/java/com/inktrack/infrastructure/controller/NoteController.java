@@ -7,11 +7,13 @@ import com.inktrack.core.usecases.note.NoteInput;
 import com.inktrack.core.usecases.note.NoteOutput;
 import com.inktrack.core.usecases.note.UpdateNoteUseCase;
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 import com.inktrack.infrastructure.dtos.notes.CreateNoteRequest;
 import com.inktrack.infrastructure.dtos.notes.NoteResponse;
 import com.inktrack.infrastructure.entity.UserEntity;
 import com.inktrack.infrastructure.mapper.NoteMapper;
 import com.inktrack.infrastructure.utils.response.ApiResponse;
+import com.inktrack.infrastructure.utils.response.ConditionalGet;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/books/{bookId}/notes")
@@ -67,14 +70,17 @@ public class NoteController {
   public ResponseEntity<ApiResponse<PageResult<NoteResponse>>> getNotes(
       @PathVariable Long bookId,
       @RequestParam(defaultValue = "0") int page,
-      @AuthenticationPrincipal UserEntity currentUser
+      @RequestParam(defaultValue = "true") boolean includeTotal,
+      @AuthenticationPrincipal UserEntity currentUser,
+      ServletWebRequest webRequest
     ) {
-    PageResult<NoteOutput> outputPageResult = getNotePaginatorUseCase.execute(bookId, currentUser.getId(), page);
-    PageResult<NoteResponse> responsePageResult = new PageResult<>(
-        outputPageResult.pageSize(),
-        outputPageResult.totalPages(),
-        outputPageResult.currentPage(),
-        outputPageResult.data().stream().map(noteMapper::outputToResponse).toList());
+    VersionStamp version = getNotePaginatorUseCase.version(bookId, currentUser.getId());
+    if (ConditionalGet.notModified(webRequest, version, currentUser.getId())) {
+      return null;
+    }
+    PageResult<NoteOutput> outputPageResult =
+        getNotePaginatorUseCase.execute(bookId, currentUser.getId(), page, includeTotal);
+    PageResult<NoteResponse> responsePageResult = outputPageResult.map(noteMapper::outputToResponse);
     return ResponseEntity.ok(ApiResponse.success(responsePageResult));
   }
 
@@ -7,11 +7,13 @@ import com.inktrack.core.usecases.reading.sessions.ReadingSessionInput;
 import com.inktrack.core.usecases.reading.sessions.ReadingSessionOutput;
 import com.inktrack.core.usecases.reading.sessions.UpdateReadingSessionUseCase;
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 import com.inktrack.infrastructure.dtos.reading.session.ReadingSessionCreateRequest;
 import com.inktrack.infrastructure.dtos.reading.session.ReadingSessionResponse;
 import com.inktrack.infrastructure.entity.UserEntity;
 import com.inktrack.infrastructure.mapper.ReadingSessionMapper;
 import com.inktrack.infrastructure.utils.response.ApiResponse;
+import com.inktrack.infrastructure.utils.response.ConditionalGet;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -27,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/books/{bookId}/reading-sessions")
@@ -75,19 +78,19 @@ public class ReadingSessionController {
   public ResponseEntity<ApiResponse<PageResult<ReadingSessionResponse>>> getReadingSessionsByBookId(
       @PathVariable Long bookId,
       @RequestParam(defaultValue = "0", required = false) int page,
-      @AuthenticationPrincipal UserEntity currentUser
+      @RequestParam(defaultValue = "true", required = false) boolean includeTotal,
+      @AuthenticationPrincipal UserEntity currentUser,
+      ServletWebRequest webRequest
   ) {
+    VersionStamp version = getReadingSessionByBookIdUseCase.version(bookId, currentUser.getId());
+    if (ConditionalGet.notModified(webRequest, version, currentUser.getId())) {
+      return null;
+    }
     PageResult<ReadingSessionOutput> outputPageResult = getReadingSessionByBookIdUseCase
-        .execute(bookId, currentUser.getId(), page);
+        .execute(bookId, currentUser.getId(), page, includeTotal);
 
-    PageResult<ReadingSessionResponse> responsePageResult = new PageResult<>(
-        outputPageResult.pageSize(),
-        outputPageResult.totalPages(),
-        outputPageResult.currentPage(),
-        outputPageResult.data().stream()
-            .map(readingSessionMapper::outputToResponse)
-            .toList()
-    );
+    PageResult<ReadingSessionResponse> responsePageResult = outputPageResult
+        .map(readingSessionMapper::outputToResponse);
     return ResponseEntity.ok().body(ApiResponse.success(responsePageResult));
   }
 
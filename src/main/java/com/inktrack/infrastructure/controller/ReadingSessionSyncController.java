@@ -0,0 +1,50 @@
+package com.inktrack.infrastructure.controller;
+
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionSyncOutput;
+import com.inktrack.core.usecases.reading.sessions.SyncReadingSessionsUseCase;
+import com.inktrack.infrastructure.dtos.reading.session.ReadingSessionSyncRequest;
+import com.inktrack.infrastructure.dtos.reading.session.ReadingSessionSyncResponse;
+import com.inktrack.infrastructure.entity.UserEntity;
+import com.inktrack.infrastructure.mapper.ReadingSessionMapper;
+import com.inktrack.infrastructure.utils.response.ApiResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Takes the sessions a client logged while offline, across any of its books, in one request. Replaying the same
+ * sync is safe: sessions already synced come back as duplicates.
+ */
+@RestController
+@RequestMapping("/reading-sessions")
+public class ReadingSessionSyncController {
+
+  private final SyncReadingSessionsUseCase syncReadingSessionsUseCase;
+  private final ReadingSessionMapper readingSessionMapper;
+
+  public ReadingSessionSyncController(
+      SyncReadingSessionsUseCase syncReadingSessionsUseCase,
+      ReadingSessionMapper readingSessionMapper
+  ) {
+    this.syncReadingSessionsUseCase = syncReadingSessionsUseCase;
+    this.readingSessionMapper = readingSessionMapper;
+  }
+
+  @PostMapping("/sync")
+  public ResponseEntity<ApiResponse<ReadingSessionSyncResponse>> sync(
+      @Valid @RequestBody ReadingSessionSyncRequest request,
+      @AuthenticationPrincipal UserEntity currentUser
+  ) {
+    ReadingSessionSyncOutput output = syncReadingSessionsUseCase.execute(
+        readingSessionMapper.syncRequestToInputs(request),
+        currentUser.getId()
+    );
+    HttpStatus status = output.rejected() == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS;
+    return ResponseEntity.status(status).body(ApiResponse.success(readingSessionMapper.syncOutputToResponse(output)));
+  }
+}
@@ -0,0 +1,82 @@
+package com.inktrack.infrastructure.controller;
+
+import com.inktrack.core.exception.ResourceNotFoundException;
+import com.inktrack.infrastructure.gateway.ThumbnailStore;
+import com.inktrack.infrastructure.gateway.ThumbnailStore.StoredThumbnail;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * Serves stored covers by content key. A key never changes meaning, so responses are public and immutable.
+ * When the connector offers sendfile the kernel copies the file after the handler returns; otherwise the file
+ * channel is transferred to the response stream.
+ */
+@RestController
+@RequestMapping("/thumbnails")
+public class ThumbnailController {
+
+  static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+      .cachePublic()
+      .immutable()
+      .getHeaderValue();
+
+  private final ThumbnailStore thumbnailStore;
+
+  public ThumbnailController(ThumbnailStore thumbnailStore) {
+    this.thumbnailStore = thumbnailStore;
+  }
+
+  @GetMapping("/{key}")
+  public void getThumbnail(@PathVariable String key, ServletWebRequest webRequest) throws IOException {
+    StoredThumbnail thumbnail = thumbnailStore.open(key).orElseThrow(() -> new ResourceNotFoundException(
+        "Thumbnail",
+        "key",
+        "No thumbnail is stored under this key."
+    ));
+    HttpServletRequest request = webRequest.getRequest();
+    HttpServletResponse response = webRequest.getResponse();
+    response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+    if (webRequest.checkNotModified("\"" + thumbnail.key() + "\"")) {
+      return;
+    }
+
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      response.setContentType(thumbnail.contentType());
+      response.setContentLengthLong(thumbnail.size());
+      request.setAttribute(SENDFILE_FILENAME, thumbnail.path().toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START, 0L);
+      request.setAttribute(SENDFILE_END, thumbnail.size());
+      return;
+    }
+
+    try (FileChannel file = FileChannel.open(thumbnail.path(), StandardOpenOption.READ)) {
+      long size = file.size();
+      response.setContentType(thumbnail.contentType());
+      response.setContentLengthLong(size);
+      WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+      long position = 0;
+      while (position < size) {
+        position += file.transferTo(position, size - position, out);
+      }
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.inktrack.infrastructure.dtos.book;
+
+import com.inktrack.core.usecases.book.CreateBooksBatchUseCase;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Items are deliberately not bean-validated here: each one is checked by the use case and rejected on its own,
+ * so a single bad row does not fail the whole import.
+ */
+public record BookBatchCreateRequest(
+    @NotEmpty
+    @Size(max = CreateBooksBatchUseCase.MAX_BATCH_SIZE)
+    List<BookCreateRequest> books
+) {
+}
@@ -0,0 +1,10 @@
+package com.inktrack.infrastructure.dtos.book;
+
+public record BookBatchItemResponse(
+    int index,
+    String status,
+    BookResponse book,
+    String field,
+    String error
+) {
+}
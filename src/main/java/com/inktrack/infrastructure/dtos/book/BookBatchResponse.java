@@ -0,0 +1,10 @@
+package com.inktrack.infrastructure.dtos.book;
+
+import java.util.List;
+
+public record BookBatchResponse(
+    List<BookBatchItemResponse> items,
+    int created,
+    int rejected
+) {
+}
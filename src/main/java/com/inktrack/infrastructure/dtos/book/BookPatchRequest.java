@@ -0,0 +1,19 @@
+package com.inktrack.infrastructure.dtos.book;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Fields left out, or sent as {@code null}, keep their current value.
+ */
+public record BookPatchRequest(
+    @Pattern(regexp = ".*\\S.*")
+    String title,
+    @Pattern(regexp = ".*\\S.*")
+    String author,
+    @Positive
+    Integer totalPages,
+    Long categoryId,
+    String googleBookId
+) {
+}
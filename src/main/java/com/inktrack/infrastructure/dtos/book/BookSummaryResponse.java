@@ -0,0 +1,20 @@
+package com.inktrack.infrastructure.dtos.book;
+
+import com.inktrack.infrastructure.dtos.category.CategorySummaryResponse;
+
+import java.time.OffsetDateTime;
+
+public record BookSummaryResponse(
+    Long id,
+    CategorySummaryResponse category,
+    String title,
+    String author,
+    int totalPages,
+    int pagesRead,
+    int progress,
+    String thumbnailUrl,
+    String googleBookId,
+    OffsetDateTime createdAt,
+    OffsetDateTime updatedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.inktrack.infrastructure.dtos.category;
+
+public record CategorySummaryResponse(
+    Long id,
+    String name
+) {
+}
@@ -0,0 +1,12 @@
+package com.inktrack.infrastructure.dtos.reading.session;
+
+import java.time.OffsetDateTime;
+
+public record ReadingSessionSyncItemRequest(
+    String syncKey,
+    Long bookId,
+    Long minutes,
+    Integer pagesRead,
+    OffsetDateTime sessionDate
+) {
+}
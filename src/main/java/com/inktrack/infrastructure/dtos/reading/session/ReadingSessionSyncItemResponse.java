@@ -0,0 +1,11 @@
+package com.inktrack.infrastructure.dtos.reading.session;
+
+public record ReadingSessionSyncItemResponse(
+    int index,
+    String syncKey,
+    String status,
+    Long sessionId,
+    String field,
+    String error
+) {
+}
@@ -0,0 +1,17 @@
+package com.inktrack.infrastructure.dtos.reading.session;
+
+import com.inktrack.core.usecases.reading.sessions.SyncReadingSessionsUseCase;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Items are checked one by one in the use case, so a single bad session does not hold back the rest of a sync.
+ */
+public record ReadingSessionSyncRequest(
+    @NotEmpty
+    @Size(max = SyncReadingSessionsUseCase.MAX_BATCH_SIZE)
+    List<ReadingSessionSyncItemRequest> sessions
+) {
+}
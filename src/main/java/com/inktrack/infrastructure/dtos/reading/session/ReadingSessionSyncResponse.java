@@ -0,0 +1,11 @@
+package com.inktrack.infrastructure.dtos.reading.session;
+
+import java.util.List;
+
+public record ReadingSessionSyncResponse(
+    List<ReadingSessionSyncItemResponse> items,
+    int created,
+    int duplicates,
+    int rejected
+) {
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import java.time.OffsetDateTime;
@@ -20,7 +21,8 @@ import java.time.OffsetDateTime;
 public class BookEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_books_id_seq")
+  @SequenceGenerator(name = "tb_books_id_seq", sequenceName = "tb_books_id_seq", allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.EAGER, optional = false)
@@ -0,0 +1,112 @@
+package com.inktrack.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tb_idempotency_keys")
+@IdClass(IdempotencyKeyEntity.Key.class)
+public class IdempotencyKeyEntity {
+
+  @Id
+  @Column(name = "user_id", nullable = false)
+  private UUID userId;
+
+  @Id
+  @Column(name = "idempotency_key", nullable = false)
+  private String idempotencyKey;
+
+  @Column(name = "fingerprint", nullable = false, length = 64)
+  private String fingerprint;
+
+  @Column(name = "status")
+  private Integer status;
+
+  @Column(name = "content_type")
+  private String contentType;
+
+  @Column(name = "location", length = 2048)
+  private String location;
+
+  @Column(name = "body", columnDefinition = "bytea")
+  private byte[] body;
+
+  @Column(name = "created_at", nullable = false)
+  private OffsetDateTime createdAt;
+
+  @Column(name = "expires_at", nullable = false)
+  private OffsetDateTime expiresAt;
+
+  protected IdempotencyKeyEntity() {
+  }
+
+  public UUID getUserId() {
+    return userId;
+  }
+
+  public String getIdempotencyKey() {
+    return idempotencyKey;
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public Integer getStatus() {
+    return status;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public String getLocation() {
+    return location;
+  }
+
+  public byte[] getBody() {
+    return body;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public OffsetDateTime getExpiresAt() {
+    return expiresAt;
+  }
+
+  public static class Key implements Serializable {
+
+    private UUID userId;
+    private String idempotencyKey;
+
+    protected Key() {
+    }
+
+    public Key(UUID userId, String idempotencyKey) {
+      this.userId = userId;
+      this.idempotencyKey = idempotencyKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Key other
+          && Objects.equals(userId, other.userId)
+          && Objects.equals(idempotencyKey, other.idempotencyKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(userId, idempotencyKey);
+    }
+  }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import java.time.OffsetDateTime;
@@ -16,7 +17,8 @@ import java.time.OffsetDateTime;
 @Table(name = "tb_notes")
 public class NoteEntity {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_notes_id_seq")
+  @SequenceGenerator(name = "tb_notes_id_seq", sequenceName = "tb_notes_id_seq", allocationSize = 50)
   @Column(name = "id", nullable = false, updatable = false)
   private Long id;
 
@@ -8,6 +8,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import java.time.OffsetDateTime;
@@ -17,7 +20,12 @@ import java.time.OffsetDateTime;
 public class ReadingSessionEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_reading_sessions_id_seq")
+  @SequenceGenerator(
+      name = "tb_reading_sessions_id_seq",
+      sequenceName = "tb_reading_sessions_id_seq",
+      allocationSize = 50
+  )
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -33,6 +41,9 @@ public class ReadingSessionEntity {
   @Column(name = "session_date", nullable = false)
   private OffsetDateTime sessionDate;
 
+  @Column(name = "updated_at", nullable = false)
+  private OffsetDateTime updatedAt;
+
   protected ReadingSessionEntity() {
   }
 
@@ -44,6 +55,12 @@ public class ReadingSessionEntity {
     this.sessionDate = sessionDate;
   }
 
+  @PrePersist
+  @PreUpdate
+  protected void touch() {
+    this.updatedAt = OffsetDateTime.now();
+  }
+
   public Long getId() {
     return id;
   }
@@ -63,4 +80,8 @@ public class ReadingSessionEntity {
   public OffsetDateTime getSessionDate() {
     return sessionDate;
   }
-}
\ No newline at end of file
+
+  public OffsetDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+}
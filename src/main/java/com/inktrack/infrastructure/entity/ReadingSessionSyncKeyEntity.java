@@ -0,0 +1,75 @@
+package com.inktrack.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tb_reading_session_sync_keys")
+@IdClass(ReadingSessionSyncKeyEntity.Key.class)
+public class ReadingSessionSyncKeyEntity {
+
+  @Id
+  @Column(name = "user_id", nullable = false)
+  private UUID userId;
+
+  @Id
+  @Column(name = "sync_key", nullable = false, length = 64)
+  private String syncKey;
+
+  @Column(name = "session_id")
+  private Long sessionId;
+
+  @Column(name = "created_at", nullable = false)
+  private OffsetDateTime createdAt;
+
+  protected ReadingSessionSyncKeyEntity() {
+  }
+
+  public UUID getUserId() {
+    return userId;
+  }
+
+  public String getSyncKey() {
+    return syncKey;
+  }
+
+  public Long getSessionId() {
+    return sessionId;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public static class Key implements Serializable {
+
+    private UUID userId;
+    private String syncKey;
+
+    protected Key() {
+    }
+
+    public Key(UUID userId, String syncKey) {
+      this.userId = userId;
+      this.syncKey = syncKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Key other && Objects.equals(userId, other.userId) && Objects.equals(syncKey, other.syncKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(userId, syncKey);
+    }
+  }
+}
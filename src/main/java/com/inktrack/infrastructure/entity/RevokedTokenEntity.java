@@ -0,0 +1,53 @@
+package com.inktrack.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tb_revoked_tokens")
+public class RevokedTokenEntity {
+
+  @Id
+  @Column(length = 36)
+  private String jti;
+
+  @Column(name = "user_id", nullable = false)
+  private UUID userId;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  @Column(name = "revoked_at", nullable = false)
+  private LocalDateTime revokedAt;
+
+  protected RevokedTokenEntity() {
+  }
+
+  public RevokedTokenEntity(String jti, UUID userId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+    this.jti = jti;
+    this.userId = userId;
+    this.expiresAt = expiresAt;
+    this.revokedAt = revokedAt;
+  }
+
+  public String getJti() {
+    return jti;
+  }
+
+  public UUID getUserId() {
+    return userId;
+  }
+
+  public LocalDateTime getExpiresAt() {
+    return expiresAt;
+  }
+
+  public LocalDateTime getRevokedAt() {
+    return revokedAt;
+  }
+}
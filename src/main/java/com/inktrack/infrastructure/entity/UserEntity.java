@@ -31,6 +31,9 @@ public class UserEntity {
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
 
+  @Column(name = "token_version", nullable = false, updatable = false)
+  private int tokenVersion;
+
   @PrePersist
   public void prePersist() {
     this.createdAt = LocalDateTime.now();
@@ -91,4 +94,12 @@ public class UserEntity {
   public void setCreatedAt(LocalDateTime createdAt) {
     this.createdAt = createdAt;
   }
+
+  public int getTokenVersion() {
+    return tokenVersion;
+  }
+
+  public void setTokenVersion(int tokenVersion) {
+    this.tokenVersion = tokenVersion;
+  }
 }
@@ -11,6 +11,7 @@ import com.inktrack.core.exception.ResourceNotFoundException;
 import com.inktrack.core.exception.UnauthorizedException;
 import com.inktrack.infrastructure.utils.CustomFieldError;
 import com.inktrack.infrastructure.utils.response.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -199,6 +200,31 @@ public class RestExceptionHandler {
         ));
   }
 
+  @ExceptionHandler(ServiceBusyException.class)
+  public ResponseEntity<ApiResponse<CustomFieldError>> handleServiceBusyException(
+      ServiceBusyException ex
+  ) {
+    return ResponseEntity
+        .status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(ApiResponse.failure(
+            List.of(new CustomFieldError("service", ex.getMessage())),
+            "Service temporarily unavailable"
+        ));
+  }
+
+  @ExceptionHandler(ExternalApiException.class)
+  public ResponseEntity<ApiResponse<CustomFieldError>> handleExternalApiException(
+      ExternalApiException ex
+  ) {
+    return ResponseEntity
+        .status(HttpStatus.BAD_GATEWAY)
+        .body(ApiResponse.failure(
+            List.of(new CustomFieldError("external_api", ex.getMessage())),
+            "External service error"
+        ));
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ApiResponse<CustomFieldError>> handleGenericException(
       Exception ex
@@ -0,0 +1,165 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.inktrack.core.domain.Book;
+import com.inktrack.infrastructure.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of single books keyed by owner and id, backed by {@link CacheConfig#BOOK_CACHE}
+ * so its hit and miss counts are published with the other cache metrics.
+ * {@link Book} is mutable, so entries are copied on the way in and on the way out.
+ * Entries are local to this node, and other nodes may see a write late, up to the configured expiry.
+ * Inside a transaction, writes evict at once and apply again after commit: a read that slips in before the
+ * commit cannot cache the old row for long, and a rollback never leaves an uncommitted book behind.
+ * A read never caches a row that a write invalidated while it was loading: outside a transaction the load runs
+ * inside the cache, so a concurrent evict waits for it and then removes it, and a read inside a transaction
+ * drops its deferred put when the key's invalidation counter moved since the load started.
+ */
+@Component
+class BookCache {
+
+  private static final int INVALIDATION_STRIPES = 64;
+
+  private final Cache cache;
+  private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+  BookCache(CacheManager cacheManager) {
+    this.cache = cacheManager.getCache(CacheConfig.BOOK_CACHE);
+  }
+
+  Book get(UUID userId, Long bookId, Supplier<Book> loader) {
+    Key key = new Key(userId, bookId);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return copyOf(load(key, loader));
+    }
+    Book cached = cache.get(key, Book.class);
+    if (cached != null) {
+      return copyOf(cached);
+    }
+    long stamp = invalidations.get(stripe(key));
+    Book loaded = loader.get();
+    Book copy = copyOf(loaded);
+    afterCommit(() -> putUnlessInvalidated(key, copy, stamp));
+    return loaded;
+  }
+
+  void put(Book book) {
+    Key key = new Key(book.getUser().getId(), book.getId());
+    Book copy = copyOf(book);
+    invalidate(key);
+    afterCommit(() -> {
+      invalidations.incrementAndGet(stripe(key));
+      cache.put(key, copy);
+    });
+  }
+
+  void evict(UUID userId, Long bookId) {
+    Key key = new Key(userId, bookId);
+    invalidate(key);
+    afterCommit(() -> invalidate(key));
+  }
+
+  /**
+   * Drops every book of the user, for changes to the owner embedded in each cached book.
+   */
+  void evictUser(UUID userId) {
+    invalidateAll(userId);
+    afterCommit(() -> invalidateAll(userId));
+  }
+
+  private Book load(Key key, Supplier<Book> loader) {
+    try {
+      return cache.get(key, () -> copyOf(loader.get()));
+    } catch (Cache.ValueRetrievalException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Caches a book read inside a transaction, unless a write invalidated its key after the read began. The check
+   * runs inside the entry's compute, so an invalidation cannot slip in between the check and the put.
+   */
+  private void putUnlessInvalidated(Key key, Book copy, long stamp) {
+    int stripe = stripe(key);
+    if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+      @SuppressWarnings("unchecked")
+      Map<Object, Object> entries = (Map<Object, Object>) caffeine.asMap();
+      entries.compute(key, (k, current) -> invalidations.get(stripe) == stamp ? copy : current);
+    } else if (invalidations.get(stripe) == stamp) {
+      cache.put(key, copy);
+    }
+  }
+
+  private void invalidate(Key key) {
+    invalidations.incrementAndGet(stripe(key));
+    cache.evict(key);
+  }
+
+  private void invalidateAll(UUID userId) {
+    for (int i = 0; i < INVALIDATION_STRIPES; i++) {
+      invalidations.incrementAndGet(i);
+    }
+    evictAll(userId);
+  }
+
+  private static int stripe(Key key) {
+    return Math.floorMod(key.hashCode(), INVALIDATION_STRIPES);
+  }
+
+  private void evictAll(UUID userId) {
+    if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+      Map<?, ?> entries = caffeine.asMap();
+      entries.keySet().removeIf(key -> key instanceof Key bookKey && bookKey.userId().equals(userId));
+    } else {
+      cache.clear();
+    }
+  }
+
+  /**
+   * Runs the action once the current transaction commits, and drops it on rollback. Without a transaction it
+   * runs at once.
+   */
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private static Book copyOf(Book book) {
+    return Book.builder()
+        .id(book.getId())
+        .user(book.getUser())
+        .category(book.getCategory())
+        .title(book.getTitle())
+        .author(book.getAuthor())
+        .totalPages(book.getTotalPages())
+        .pagesRead(book.getPagesRead())
+        .thumbnailUrl(book.getThumbnailUrl())
+        .googleBookId(book.getGoogleBookId())
+        .createdAt(book.getCreatedAt())
+        .updatedAt(book.getUpdatedAt())
+        .build();
+  }
+
+  record Key(UUID userId, Long bookId) {
+  }
+}
@@ -1,44 +1,83 @@
 package com.inktrack.infrastructure.gateway;
 
 import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.BookSummary;
+import com.inktrack.core.domain.Category;
+import com.inktrack.core.domain.User;
 import com.inktrack.core.exception.BookNotFoundException;
+import com.inktrack.core.exception.FieldDomainValidationException;
 import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.CategoryGateway;
+import com.inktrack.core.usecases.book.BookCursor;
+import com.inktrack.core.usecases.book.BookPatch;
 import com.inktrack.core.usecases.book.GetBookFilter;
 import com.inktrack.core.usecases.book.OrderEnum;
 import com.inktrack.infrastructure.entity.BookEntity;
 import com.inktrack.infrastructure.mapper.BookMapper;
+import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 import com.inktrack.infrastructure.persistence.BookRepository;
+import com.inktrack.infrastructure.persistence.BookSpecifications;
+import com.inktrack.infrastructure.persistence.UpdatedBookRow;
 import jakarta.transaction.Transactional;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Component
 public class BookGatewayImpl implements BookGateway {
 
   private final BookRepository bookRepository;
   private final BookMapper bookMapper;
+  private final BookCache bookCache;
+  private final CategoryGateway categoryGateway;
 
-  public BookGatewayImpl(BookRepository bookRepository, BookMapper bookMapper) {
+  public BookGatewayImpl(
+      BookRepository bookRepository,
+      BookMapper bookMapper,
+      BookCache bookCache,
+      CategoryGateway categoryGateway
+  ) {
     this.bookRepository = bookRepository;
     this.bookMapper = bookMapper;
+    this.bookCache = bookCache;
+    this.categoryGateway = categoryGateway;
   }
 
-@Override
+  @Override
   @Transactional
   public Book save(Book book) {
     BookEntity bookEntity = bookMapper.domainToEntity(book);
     BookEntity savedBookEntity = bookRepository.save(bookEntity);
-    return bookMapper.entityToDomain(savedBookEntity);
+    Book saved = bookMapper.entityToDomain(savedBookEntity);
+    bookCache.put(saved);
+    return saved;
+  }
+
+  @Override
+  @Transactional
+  public List<Book> saveAll(List<Book> books) {
+    List<BookEntity> entities = books.stream().map(bookMapper::domainToEntity).toList();
+    List<Book> saved = bookRepository.saveAll(entities).stream().map(bookMapper::entityToDomain).toList();
+    saved.forEach(bookCache::put);
+    return saved;
   }
 
   @Override
   public Book findByIdAndUserId(Long id, UUID userId) {
+    return bookCache.get(userId, id, () -> loadByIdAndUserId(id, userId));
+  }
+
+  private Book loadByIdAndUserId(Long id, UUID userId) {
     Optional<BookEntity> optionalBook = bookRepository.findByIdAndUserId(id, userId);
     if(optionalBook.isEmpty()) {
       throw new BookNotFoundException("id", "Book not found with this id: " + id + " and user id: " + userId);
@@ -53,40 +92,170 @@ public class BookGatewayImpl implements BookGateway {
   }
 
   @Override
-  public List<Book> getUserBooksPage(UUID userId, GetBookFilter filter) {
-    Sort sort = Sort.by(
-        filter.orderEnum().getDirection() == OrderEnum.Direction.ASC
-            ? Sort.Direction.ASC
-            : Sort.Direction.DESC,
-        filter.orderEnum().getField()
-    );
+  @Transactional
+  public Book patch(Long id, User owner, BookPatch patch) {
+    Optional<UpdatedBookRow> row = bookRepository.patch(id, owner.getId(), patch, OffsetDateTime.now());
+    if (row.isEmpty()) {
+      throw rejected(id, owner.getId(), "totalPages", "The total pages cannot be less than the pages already read.");
+    }
+    Book patched = toDomain(row.get(), owner);
+    bookCache.put(patched);
+    return patched;
+  }
+
+  @Override
+  @Transactional
+  public int addPagesRead(Long id, UUID userId, int pages) {
+    Optional<UpdatedBookRow> row = bookRepository.addPagesRead(id, userId, pages, OffsetDateTime.now());
+    bookCache.evict(userId, id);
+    if (row.isEmpty()) {
+      throw rejected(id, userId, "pagesRead", "The pages read must stay between zero and the total pages.");
+    }
+    return row.get().pagesRead();
+  }
+
+  @Override
+  @Transactional
+  public Set<Long> addPagesRead(UUID userId, Map<Long, Integer> pagesByBook) {
+    Set<Long> moved = bookRepository.addPagesRead(userId, pagesByBook, OffsetDateTime.now());
+    moved.forEach(id -> bookCache.evict(userId, id));
+    return moved;
+  }
+
+  /**
+   * Tells a conditional update that matched no row because of its condition apart from one that found no book.
+   */
+  private RuntimeException rejected(Long id, UUID userId, String field, String message) {
+    if (bookRepository.findUpdatedAtByIdAndUserId(id, userId).isPresent()) {
+      return new FieldDomainValidationException(field, message);
+    }
+    return new BookNotFoundException("id", "Book not found with this id: " + id + " and user id: " + userId);
+  }
+
+  private Book toDomain(UpdatedBookRow row, User owner) {
+    Category category = categoryGateway.getById(row.categoryId())
+        .orElseThrow(() -> new IllegalStateException("Category not found with id: " + row.categoryId()));
+    return Book.builder()
+        .id(row.id())
+        .user(owner)
+        .category(category)
+        .title(row.title())
+        .author(row.author())
+        .totalPages(row.totalPages())
+        .pagesRead(row.pagesRead())
+        .thumbnailUrl(row.thumbnailUrl())
+        .googleBookId(row.googleBookId())
+        .createdAt(row.createdAt())
+        .updatedAt(row.updatedAt())
+        .build();
+  }
 
-    Pageable pageable = PageRequest.of(
+  @Override
+  public PageResult<BookSummary> getUserBooksPage(UUID userId, GetBookFilter filter) {
+    Specification<BookEntity> specification = filterSpecification(userId, filter);
+    // Search results are ranked by the query specification itself.
+    Sort sort = filter.hasQuery() ? Sort.unsorted() : sortFor(filter.orderEnum());
+    long offset = (long) filter.page() * filter.size();
+
+    if (!filter.includeTotal()) {
+      List<BookSummary> rows = bookRepository.findSummaries(specification, sort, offset, filter.size() + 1);
+      return PageResults.fromLookahead(rows, filter.page(), filter.size(), Function.identity());
+    }
+
+    List<Object[]> rows = bookRepository.findSummariesWithTotal(specification, sort, offset, filter.size());
+    return PageResults.fromCountedRows(
+        rows,
         filter.page(),
         filter.size(),
-        sort
+        Function.<BookSummary>identity(),
+        () -> bookRepository.count(specification)
     );
+  }
 
-    return bookRepository.getUserBookPage(userId, filter.title(), filter.categoryId(), pageable)
-        .stream()
-        .map(bookMapper::entityToDomain)
-        .toList();
+  @Override
+  public List<BookSummary> getUserBooksAfter(UUID userId, GetBookFilter filter, BookCursor after, int limit) {
+    Specification<BookEntity> specification = filterSpecification(userId, filter)
+        .and(BookSpecifications.after(after));
+
+    return bookRepository.findSummaries(specification, sortFor(after.order()), 0, limit);
+  }
+
+  /**
+   * Builds the listing filter from only the criteria that are set, so each combination of filters gets its
+   * own selective statement instead of one catch-all {@code :param IS NULL OR ...} plan.
+   */
+  private static Specification<BookEntity> filterSpecification(UUID userId, GetBookFilter filter) {
+    List<Specification<BookEntity>> specifications = new ArrayList<>();
+    specifications.add(BookSpecifications.ownedBy(userId));
+    addTextFilters(specifications, filter);
+    addRangeFilters(specifications, filter);
+    if (filter.categoryId() != null) {
+      specifications.add(BookSpecifications.inCategory(filter.categoryId()));
+    }
+    if (filter.hasGoogleBookId() != null) {
+      specifications.add(BookSpecifications.linkedToGoogleBooks(filter.hasGoogleBookId()));
+    }
+    return Specification.allOf(specifications);
+  }
+
+  private static void addTextFilters(List<Specification<BookEntity>> specifications, GetBookFilter filter) {
+    if (filter.hasQuery()) {
+      specifications.add(BookSpecifications.matchesQuery(filter.query().strip()));
+    }
+    if (hasText(filter.title())) {
+      specifications.add(BookSpecifications.titleContains(filter.title()));
+    }
+    if (hasText(filter.author())) {
+      specifications.add(BookSpecifications.authorContains(filter.author()));
+    }
+  }
+
+  private static void addRangeFilters(List<Specification<BookEntity>> specifications, GetBookFilter filter) {
+    if (filter.minProgress() != null) {
+      specifications.add(BookSpecifications.progressAtLeast(filter.minProgress()));
+    }
+    if (filter.maxProgress() != null) {
+      specifications.add(BookSpecifications.progressAtMost(filter.maxProgress()));
+    }
+    if (filter.createdFrom() != null) {
+      specifications.add(BookSpecifications.createdFrom(filter.createdFrom()));
+    }
+    if (filter.createdTo() != null) {
+      specifications.add(BookSpecifications.createdTo(filter.createdTo()));
+    }
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+
+  private static Sort sortFor(OrderEnum order) {
+    Sort.Direction direction = order.getDirection() == OrderEnum.Direction.ASC
+        ? Sort.Direction.ASC
+        : Sort.Direction.DESC;
+    return Sort.by(direction, order.getField()).and(Sort.by(direction, "id"));
+  }
+
+  @Override
+  public VersionStamp getLibraryVersion(UUID userId) {
+    return bookRepository.getLibraryVersion(userId);
   }
 
   @Override
   public long countUserBooks(UUID userId) {
-    return bookRepository.countUserBooks(userId, null, null);
+    return bookRepository.count(BookSpecifications.ownedBy(userId));
   }
 
   @Override
   public long countUserBooksWithFilters(UUID userId, String title, Long categoryId) {
-    return bookRepository.countUserBooks(userId, title, categoryId);
+    return bookRepository.count(filterSpecification(userId, new GetBookFilter(0, 1, title, categoryId, null)));
   }
 
   @Override
   @Transactional
   public boolean deleteByIdAndUserId(Long bookId, UUID userId) {
     int linesAffected = bookRepository.deleteByIdAndUserId(bookId, userId);
+    bookCache.evict(userId, bookId);
     return linesAffected > 0;
   }
 
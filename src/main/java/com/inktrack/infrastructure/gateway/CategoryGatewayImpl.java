@@ -2,11 +2,14 @@ package com.inktrack.infrastructure.gateway;
 
 import com.inktrack.core.domain.Category;
 import com.inktrack.core.gateway.CategoryGateway;
+import com.inktrack.infrastructure.config.CacheConfig;
 import com.inktrack.infrastructure.entity.CategoryEntity;
 import com.inktrack.infrastructure.mapper.CategoryMapper;
 import com.inktrack.infrastructure.persistence.CategoryRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,11 +25,17 @@ public class CategoryGatewayImpl implements CategoryGateway {
   }
 
   @Override
+  @Cacheable(value = CacheConfig.CATEGORY_CACHE, key = "#id")
   public Optional<Category> getById(Long id) {
     Optional<CategoryEntity> optionalCategory = categoryRepository.findById(id);
     return optionalCategory.map(categoryMapper::entityToDomain);
   }
 
+  @Override
+  public List<Category> getByIds(Collection<Long> ids) {
+    return categoryRepository.findAllById(ids).stream().map(categoryMapper::entityToDomain).toList();
+  }
+
   @Override
   public List<Category> getAll() {
     List<CategoryEntity> categoryEntityList = categoryRepository.findAll();
@@ -8,24 +8,80 @@ import com.inktrack.core.usecases.book.SearchBooksOutput;
 import com.inktrack.infrastructure.config.CacheConfig;
 import com.inktrack.infrastructure.config.GoogleBooksConfig;
 import com.inktrack.infrastructure.exception.ExternalApiException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.support.NoOpCacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Batch cover lookups run on a small dedicated pool and share one deadline, so a large import waits for
+ * the slowest volume at most once instead of once per id. Lookups still running at the deadline are
+ * cancelled and their books are created without a cover.
+ */
 @Component
 public class GoogleBooksGatewayImpl implements GoogleBooksGateway {
 
   private final RestClient restClient;
+  private final Cache cache;
+  private final ThreadPoolExecutor executor;
+  private final long lookupDeadlineMs;
 
   public GoogleBooksGatewayImpl(GoogleBooksConfig config) {
+    this(config, new NoOpCacheManager());
+  }
+
+  @Autowired
+  public GoogleBooksGatewayImpl(GoogleBooksConfig config, CacheManager cacheManager) {
+    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+    requestFactory.setConnectTimeout(config.getTimeoutMs());
+    requestFactory.setReadTimeout(config.getTimeoutMs());
     this.restClient = RestClient.builder()
         .baseUrl(config.getBaseUrl())
+        .requestFactory(requestFactory)
         .build();
+    this.cache = cacheManager.getCache(CacheConfig.GOOGLE_BOOKS_CACHE);
+    this.lookupDeadlineMs = config.getLookupDeadlineMs();
+    this.executor = new ThreadPoolExecutor(
+        config.getLookupPoolSize(),
+        config.getLookupPoolSize(),
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(config.getLookupQueueCapacity()),
+        lookupThreadFactory(),
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+  }
+
+  private static ThreadFactory lookupThreadFactory() {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "google-books-lookup-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
   }
 
 
@@ -90,6 +146,54 @@ public class GoogleBooksGatewayImpl implements GoogleBooksGateway {
     return Optional.ofNullable(response).map(this::toDomain);
   }
 
+  @Override
+  public Map<String, String> getThumbnailUrls(Collection<String> volumeIds) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lookupDeadlineMs);
+    Map<String, Future<Optional<GoogleBooksVolume>>> lookups = new LinkedHashMap<>();
+    for (String volumeId : volumeIds) {
+      try {
+        lookups.put(volumeId, executor.submit(() -> getCachedVolume(volumeId)));
+      } catch (RejectedExecutionException e) {
+        System.err.println("Skipped book thumbnail lookup, the lookup pool is full: " + volumeId);
+      }
+    }
+
+    Map<String, String> thumbnails = new HashMap<>();
+    lookups.forEach((volumeId, lookup) -> awaitVolume(lookup, deadline)
+        .map(GoogleBooksVolume::thumbnailUrl)
+        .ifPresent(thumbnailUrl -> thumbnails.put(volumeId, thumbnailUrl)));
+    return thumbnails;
+  }
+
+  /**
+   * Shares the entries {@link #getVolumeById} caches, which hold the unwrapped volume; the pool threads
+   * call it directly, bypassing the proxy.
+   */
+  private Optional<GoogleBooksVolume> getCachedVolume(String volumeId) {
+    return Optional.ofNullable(cache.get("volume:" + volumeId, () -> getVolumeById(volumeId).orElse(null)));
+  }
+
+  private Optional<GoogleBooksVolume> awaitVolume(Future<Optional<GoogleBooksVolume>> lookup, long deadline) {
+    try {
+      return lookup.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      lookup.cancel(true);
+      return Optional.empty();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      lookup.cancel(true);
+      return Optional.empty();
+    } catch (ExecutionException e) {
+      System.err.println("Failed to fetch book thumbnail from Google Books: " + e.getCause().getMessage());
+      return Optional.empty();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
   private GoogleBooksVolume toDomain(GoogleBooksItemResponse item) {
     return new GoogleBooksVolume(
         item.id(),
@@ -0,0 +1,197 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inktrack.infrastructure.config.IdempotencyConfig;
+import com.inktrack.infrastructure.entity.IdempotencyKeyEntity;
+import com.inktrack.infrastructure.persistence.IdempotencyKeyRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Remembers, per user and Idempotency-Key, the response a request produced so a retry gets that response back
+ * instead of running again. Completed responses stay in a bounded in-memory LRU in front of
+ * {@code tb_idempotency_keys}. A pending row in the table claims a key across nodes; on this node a duplicate
+ * that arrives while the first request runs waits for its response instead.
+ */
+@Component
+public class IdempotencyStore {
+
+  private final IdempotencyKeyRepository repository;
+  private final IdempotencyConfig config;
+  private final Cache<String, StoredResponse> responses;
+  private final ConcurrentMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+  public IdempotencyStore(IdempotencyKeyRepository repository, IdempotencyConfig config) {
+    this.repository = repository;
+    this.config = config;
+    this.responses = Caffeine.newBuilder()
+        .maximumWeight(config.getMaxCachedBytes())
+        .weigher((String id, StoredResponse response) -> id.length() + response.body().length)
+        .expireAfterWrite(Duration.ofHours(config.getTtlHours()))
+        .build();
+  }
+
+  public record StoredResponse(String fingerprint, int status, String contentType, String location, byte[] body) {
+  }
+
+  public enum Outcome {
+    /** The caller holds the key: it must run the request, then {@link #complete} or {@link #release} it. */
+    PROCEED,
+    /** The key already has a response for the same request. */
+    REPLAY,
+    /** The key was used before for a different request. */
+    MISMATCH,
+    /** Another request with the key is still running and did not finish in time. */
+    BUSY
+  }
+
+  public record Claim(
+      Outcome outcome,
+      StoredResponse response,
+      UUID userId,
+      String key,
+      String fingerprint,
+      CompletableFuture<StoredResponse> running
+  ) {
+
+    private String id() {
+      return IdempotencyStore.id(userId, key);
+    }
+  }
+
+  private static String id(UUID userId, String key) {
+    return userId + ":" + key;
+  }
+
+  /**
+   * {@code fingerprint} identifies the request itself, so a key reused for another request is told apart from
+   * a retry.
+   */
+  public Claim begin(UUID userId, String key, String fingerprint) {
+    String id = id(userId, key);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getWaitTimeoutMs());
+    while (true) {
+      StoredResponse stored = responses.getIfPresent(id);
+      if (stored != null) {
+        return answered(stored, fingerprint);
+      }
+      CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+      CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(id, mine);
+      if (running == null) {
+        return claim(userId, key, fingerprint, mine);
+      }
+      try {
+        StoredResponse finished = running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        if (finished != null) {
+          return answered(finished, fingerprint);
+        }
+      } catch (TimeoutException | ExecutionException e) {
+        return busy();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return busy();
+      }
+      // The first request released the key without a response, so this one tries to claim it.
+    }
+  }
+
+  private Claim claim(UUID userId, String key, String fingerprint, CompletableFuture<StoredResponse> mine) {
+    String id = id(userId, key);
+    try {
+      OffsetDateTime now = OffsetDateTime.now();
+      OffsetDateTime expiresAt = now.plusHours(config.getTtlHours());
+      OffsetDateTime staleBefore = now.minusSeconds(config.getPendingTimeoutSeconds());
+      if (repository.insertPending(userId, key, fingerprint, now, expiresAt) == 1
+          || repository.takeOver(userId, key, fingerprint, now, staleBefore, expiresAt) == 1) {
+        return new Claim(Outcome.PROCEED, null, userId, key, fingerprint, mine);
+      }
+
+      Optional<IdempotencyKeyEntity> row = repository.findById(new IdempotencyKeyEntity.Key(userId, key));
+      if (row.isPresent() && row.get().getStatus() != null) {
+        StoredResponse stored = toResponse(row.get());
+        responses.put(id, stored);
+        finish(id, mine, stored);
+        return answered(stored, fingerprint);
+      }
+      finish(id, mine, null);
+      boolean otherRequest = row.isPresent() && !row.get().getFingerprint().equals(fingerprint);
+      return otherRequest ? mismatch() : busy();
+    } catch (RuntimeException e) {
+      finish(id, mine, null);
+      throw e;
+    }
+  }
+
+  /**
+   * Keeps the response for later retries and hands it to the duplicates waiting on this node. Server errors
+   * are not kept: the key is released so the request can be tried again.
+   */
+  public void complete(Claim claim, int status, String contentType, String location, byte[] body) {
+    if (status >= 500) {
+      release(claim);
+      return;
+    }
+    StoredResponse stored = new StoredResponse(claim.fingerprint(), status, contentType, location, body);
+    responses.put(claim.id(), stored);
+    try {
+      repository.complete(claim.userId(), claim.key(), status, contentType, location, body);
+    } catch (RuntimeException e) {
+      System.err.println("Failed to store the idempotent response: " + e.getMessage());
+    } finally {
+      finish(claim.id(), claim.running(), stored);
+    }
+  }
+
+  /**
+   * Gives the key up without a response, for a request that failed before answering.
+   */
+  public void release(Claim claim) {
+    try {
+      repository.deletePending(claim.userId(), claim.key());
+    } finally {
+      finish(claim.id(), claim.running(), null);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:3600000}")
+  public void deleteExpired() {
+    repository.deleteExpired(OffsetDateTime.now());
+  }
+
+  private void finish(String id, CompletableFuture<StoredResponse> running, StoredResponse stored) {
+    inFlight.remove(id, running);
+    running.complete(stored);
+  }
+
+  private static Claim answered(StoredResponse stored, String fingerprint) {
+    if (!stored.fingerprint().equals(fingerprint)) {
+      return mismatch();
+    }
+    return new Claim(Outcome.REPLAY, stored, null, null, fingerprint, null);
+  }
+
+  private static Claim mismatch() {
+    return new Claim(Outcome.MISMATCH, null, null, null, null, null);
+  }
+
+  private static Claim busy() {
+    return new Claim(Outcome.BUSY, null, null, null, null, null);
+  }
+
+  private static StoredResponse toResponse(IdempotencyKeyEntity row) {
+    byte[] body = row.getBody() != null ? row.getBody() : new byte[0];
+    return new StoredResponse(row.getFingerprint(), row.getStatus(), row.getContentType(), row.getLocation(), body);
+  }
+}
@@ -1,15 +1,27 @@
 package com.inktrack.infrastructure.gateway;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.inktrack.core.domain.User;
 import com.inktrack.core.exception.UnauthorizedException;
 import com.inktrack.core.gateway.JwtGateway;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.UUID;
 
 @Component
@@ -17,13 +29,54 @@ public class JwtGatewayImpl implements JwtGateway {
 
   private final Algorithm algorithm;
   private final JWTVerifier verifier;
+  private final Cache<String, VerifiedToken> verifiedTokens;
+  private final boolean embedPrincipalClaims;
 
-  public JwtGatewayImpl(@Value("${api.secret.key}") String secret) {
+  public JwtGatewayImpl(String secret) {
+    this(secret, 0, 0, false);
+  }
+
+  /**
+   * When {@code cacheTtlSeconds} is positive, successfully verified tokens are kept in memory keyed by
+   * a SHA-256 digest of the token, for at most that long and never past the token's own expiry.
+   * When {@code embedPrincipalClaims} is set, access tokens issued for a {@link User} also carry the
+   * name, email and token version so the principal can be built without a database lookup.
+   */
+  @Autowired
+  public JwtGatewayImpl(
+      @Value("${api.secret.key}") String secret,
+      @Value("${security.jwt.verified-cache.max-size:10000}") long cacheMaxSize,
+      @Value("${security.jwt.verified-cache.ttl-seconds:30}") long cacheTtlSeconds,
+      @Value("${security.auth.stateless:false}") boolean embedPrincipalClaims
+  ) {
+    this.embedPrincipalClaims = embedPrincipalClaims;
     this.algorithm = Algorithm.HMAC256(secret);
 
     this.verifier = JWT.require(algorithm)
         .withIssuer("Ink-auth-security")
         .build();
+
+    this.verifiedTokens = cacheTtlSeconds > 0
+        ? buildVerifiedTokenCache(cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds))
+        : null;
+  }
+
+  private static Cache<String, VerifiedToken> buildVerifiedTokenCache(long maxSize, Duration ttl) {
+    return Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(Expiry.creating((String key, VerifiedToken token) -> timeToLive(token, ttl)))
+        .build();
+  }
+
+  private static Duration timeToLive(VerifiedToken token, Duration ttl) {
+    if (token.expiresAt() == null) {
+      return ttl;
+    }
+    Duration untilExpiry = Duration.between(Instant.now(), token.expiresAt());
+    if (untilExpiry.isNegative()) {
+      return Duration.ZERO;
+    }
+    return untilExpiry.compareTo(ttl) < 0 ? untilExpiry : ttl;
   }
 
   @Override
@@ -31,48 +84,96 @@ public class JwtGatewayImpl implements JwtGateway {
     return generateToken(userId, getAccessTokenExpiry(), "access");
   }
 
+  @Override
+  public String generateAccessToken(User user) {
+    if (!embedPrincipalClaims) {
+      return generateAccessToken(user.getId());
+    }
+    return tokenBuilder(user.getId(), getAccessTokenExpiry(), "access")
+        .withClaim("name", user.getName())
+        .withClaim("email", user.getEmail())
+        .withClaim("ver", user.getTokenVersion())
+        .sign(algorithm);
+  }
+
   @Override
   public String generateRefreshToken(UUID userId) {
     return generateToken(userId, getRefreshTokenExpiry(), "refresh");
   }
 
   private String generateToken(UUID userId, Date expiresAt, String type) {
+    return tokenBuilder(userId, expiresAt, type).sign(algorithm);
+  }
+
+  private JWTCreator.Builder tokenBuilder(UUID userId, Date expiresAt, String type) {
     return JWT.create()
         .withIssuer("Ink-auth-security")
         .withSubject(userId.toString())
         .withClaim("token_type", type)
         .withAudience("inktrack-api")
         .withJWTId(UUID.randomUUID().toString())
-        .withExpiresAt(expiresAt)
-        .sign(algorithm);
+        .withExpiresAt(expiresAt);
   }
 
   @Override
-  public UUID extractUserId(String token) {
+  public VerifiedToken verify(String token) {
+    if (verifiedTokens == null) {
+      return decode(token);
+    }
+    return verifiedTokens.get(digest(token), key -> decode(token));
+  }
+
+  private VerifiedToken decode(String token) {
     DecodedJWT decoded = verifier.verify(token);
-    return UUID.fromString(decoded.getSubject());
+    String subject = decoded.getSubject();
+    return new VerifiedToken(
+        subject != null ? UUID.fromString(subject) : null,
+        decoded.getClaim("token_type").asString(),
+        decoded.getId(),
+        decoded.getExpiresAtAsInstant(),
+        decoded.getClaim("name").asString(),
+        decoded.getClaim("email").asString(),
+        decoded.getClaim("ver").asInt()
+    );
+  }
+
+  private static String digest(String token) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  @Override
+  public UUID extractUserId(String token) {
+    return verify(token).subject();
   }
 
   @Override
   public String extractTokenType(String token) {
-    DecodedJWT decoded = verifier.verify(token);
-    return decoded.getClaim("token_type").asString();
+    return verify(token).type();
   }
 
   @Override
   public UUID validateRefreshToken(String token) {
-    DecodedJWT decoded = verifier.verify(token);
+    return verifyRefreshToken(token).subject();
+  }
+
+  @Override
+  public VerifiedToken verifyRefreshToken(String token) {
+    VerifiedToken verified = verify(token);
 
-    String tokenType = decoded.getClaim("token_type").asString();
+    String tokenType = verified.type();
     if (tokenType == null || !tokenType.equals("refresh")) {
       throw new UnauthorizedException("Invalid token type: expected refresh token");
     }
 
-    String userIdStr = decoded.getSubject();
-    if (userIdStr == null) {
+    if (verified.subject() == null) {
       throw new UnauthorizedException("User ID missing in refresh token");
     }
 
-    return UUID.fromString(userIdStr);
+    return verified;
   }
 }
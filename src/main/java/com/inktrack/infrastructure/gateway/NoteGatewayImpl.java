@@ -2,22 +2,28 @@ package com.inktrack.infrastructure.gateway;
 
 import com.inktrack.core.domain.Note;
 import com.inktrack.core.gateway.NoteGateway;
+import com.inktrack.core.usecases.note.NoteOutput;
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 import com.inktrack.infrastructure.entity.NoteEntity;
 import com.inktrack.infrastructure.mapper.NoteMapper;
+import com.inktrack.infrastructure.persistence.LookaheadPageRequest;
 import com.inktrack.infrastructure.persistence.NoteRepository;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Component
 public class NoteGatewayImpl implements NoteGateway {
 
+  private static final int NOTES_PAGE_SIZE = 5;
+
   private final NoteRepository noteRepository;
   private final NoteMapper noteMapper;
 
@@ -38,20 +44,30 @@ public class NoteGatewayImpl implements NoteGateway {
   }
 
   @Override
-  public PageResult<Note> getNotesByBooidAndUserId(Long bookId, UUID userId, int page) {
-    Pageable pageRequest = PageRequest.of(page, 5, Sort.by(Sort.Direction.DESC, "updatedAt"));
-    Page<NoteEntity> pageEntity = noteRepository.findByBookIdAndUserId(bookId, userId, pageRequest);
+  public PageResult<NoteOutput> getNotesByBooidAndUserId(Long bookId, UUID userId, int page, boolean includeTotal) {
+    Sort sort = Sort.by(Sort.Direction.DESC, "updatedAt").and(Sort.by(Sort.Direction.DESC, "id"));
+    if (!includeTotal) {
+      List<NoteOutput> rows = noteRepository.findByBookIdAndUserId(
+          bookId, userId, LookaheadPageRequest.of(page, NOTES_PAGE_SIZE, sort));
+      return PageResults.fromLookahead(rows, page, NOTES_PAGE_SIZE, Function.identity());
+    }
 
-    return new PageResult<>(
-        5,
-        pageEntity.getTotalPages(),
+    Pageable pageRequest = PageRequest.of(page, NOTES_PAGE_SIZE, sort);
+    List<Object[]> rows = noteRepository.findByBookIdAndUserIdWithTotal(bookId, userId, pageRequest);
+    return PageResults.fromCountedRows(
+        rows,
         page,
-        pageEntity.getContent().stream()
-            .map(noteMapper::entityToDomain)
-            .toList()
+        NOTES_PAGE_SIZE,
+        Function.<NoteOutput>identity(),
+        () -> noteRepository.countByBookIdAndUserId(bookId, userId)
     );
   }
 
+  @Override
+  public VersionStamp getNotesVersion(Long bookId, UUID userId) {
+    return noteRepository.getNotesVersion(bookId, userId);
+  }
+
   @Override
   public Optional<Note> getNoteByIdAndBookIdAndUserId(Long bookId, Long noteId, UUID userId) {
     Optional<NoteEntity> entityOptional = noteRepository.findByNoteIdBookIdUserId(noteId, bookId, userId);
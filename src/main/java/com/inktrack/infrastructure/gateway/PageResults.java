@@ -0,0 +1,46 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.inktrack.core.utils.PageResult;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Builds {@link PageResult}s from the two single-statement page queries: a lookahead query that reads
+ * {@code size + 1} rows, and a query that selects {@code COUNT(*) OVER ()} next to each row.
+ */
+final class PageResults {
+
+  private PageResults() {
+  }
+
+  static <E, T> PageResult<T> fromLookahead(List<E> rows, int page, int size, Function<E, T> mapper) {
+    boolean hasNext = rows.size() > size;
+    List<T> data = (hasNext ? rows.subList(0, size) : rows).stream().map(mapper).toList();
+    return new PageResult<>(size, null, page, data, hasNext, null);
+  }
+
+  /**
+   * A page past the end has no rows to carry the window count, so only then is {@code countFallback}
+   * queried.
+   */
+  @SuppressWarnings("unchecked")
+  static <E, T> PageResult<T> fromCountedRows(
+      List<Object[]> rows,
+      int page,
+      int size,
+      Function<E, T> mapper,
+      LongSupplier countFallback
+  ) {
+    long total;
+    if (!rows.isEmpty()) {
+      total = ((Number) rows.get(0)[1]).longValue();
+    } else {
+      total = page == 0 ? 0 : countFallback.getAsLong();
+    }
+    int totalPages = (int) Math.ceil((double) total / size);
+    List<T> data = rows.stream().map(row -> mapper.apply((E) row[0])).toList();
+    return new PageResult<>(size, totalPages, page, data);
+  }
+}
@@ -1,25 +1,123 @@
 package com.inktrack.infrastructure.gateway;
 
 import com.inktrack.core.gateway.PasswordGateway;
+import com.inktrack.infrastructure.config.PasswordHashingConfig;
+import com.inktrack.infrastructure.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt work runs on a dedicated pool sized to the available cores, so a burst of logins is capped
+ * at that much CPU instead of occupying every request thread. When the pool queue is full the call
+ * fails fast with {@link ServiceBusyException}, which is answered with 503 and Retry-After.
+ */
 @Component
 public class PasswordGatewayImpl implements PasswordGateway {
 
   private final BCryptPasswordEncoder encoder;
+  private final ThreadPoolExecutor executor;
+  private final long retryAfterSeconds;
+  private final Timer hashTimer;
+  private final Timer matchTimer;
 
   public PasswordGatewayImpl(BCryptPasswordEncoder encoder) {
+    this(encoder, new PasswordHashingConfig(), new SimpleMeterRegistry());
+  }
+
+  @Autowired
+  public PasswordGatewayImpl(
+      BCryptPasswordEncoder encoder,
+      PasswordHashingConfig config,
+      MeterRegistry meterRegistry
+  ) {
     this.encoder = encoder;
+    this.retryAfterSeconds = config.getRetryAfterSeconds();
+    this.executor = new ThreadPoolExecutor(
+        config.getPoolSize(),
+        config.getPoolSize(),
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(config.getQueueCapacity()),
+        hashingThreadFactory(),
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+    this.hashTimer = Timer.builder("inktrack.password.hashing")
+        .description("Time spent computing BCrypt hashes")
+        .tag("operation", "hash")
+        .register(meterRegistry);
+    this.matchTimer = Timer.builder("inktrack.password.hashing")
+        .description("Time spent computing BCrypt hashes")
+        .tag("operation", "matches")
+        .register(meterRegistry);
+    Gauge.builder("inktrack.password.hashing.queue", executor, pool -> pool.getQueue().size())
+        .description("BCrypt tasks waiting for a hashing thread")
+        .register(meterRegistry);
+  }
+
+  private static ThreadFactory hashingThreadFactory() {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
   }
 
   @Override
   public String hash(String password) {
-    return encoder.encode(password);
+    return runOnHashingPool(() -> hashTimer.record(() -> encoder.encode(password)));
   }
 
   @Override
   public boolean matches(String passwordRaw, String passwordHash) {
-    return encoder.matches(passwordRaw, passwordHash);
+    return runOnHashingPool(() -> matchTimer.record(() -> encoder.matches(passwordRaw, passwordHash)));
+  }
+
+  @Override
+  public boolean needsRehash(String passwordHash) {
+    return encoder.upgradeEncoding(passwordHash);
+  }
+
+  private <T> T runOnHashingPool(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      throw new ServiceBusyException("Too many authentication requests", retryAfterSeconds);
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
   }
 }
@@ -1,12 +1,18 @@
 package com.inktrack.infrastructure.gateway;
 
 import com.inktrack.core.domain.ReadingSession;
+import com.inktrack.core.gateway.BookGateway;
 import com.inktrack.core.gateway.ReadingSessionGateway;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionOutput;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionSyncInput;
 import com.inktrack.core.utils.PageResult;
+import com.inktrack.core.utils.VersionStamp;
 import com.inktrack.infrastructure.entity.ReadingSessionEntity;
 import com.inktrack.infrastructure.mapper.ReadingSessionMapper;
+import com.inktrack.infrastructure.persistence.BookRepository;
+import com.inktrack.infrastructure.persistence.LookaheadPageRequest;
 import com.inktrack.infrastructure.persistence.ReadingSessionRepository;
-import org.springframework.data.domain.Page;
+import com.inktrack.infrastructure.persistence.ReadingSessionSyncKeyRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -14,22 +20,37 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Component
 public class ReadingSessionGatewayImpl implements ReadingSessionGateway {
 
   private final ReadingSessionRepository readingSessionRepository;
   private final ReadingSessionMapper readingSessionMapper;
+  private final ReadingSessionSyncKeyRepository syncKeyRepository;
+  private final BookRepository bookRepository;
+  private final BookGateway bookGateway;
 
   public ReadingSessionGatewayImpl(
       ReadingSessionRepository readingSessionRepository,
-      ReadingSessionMapper readingSessionMapper
+      ReadingSessionMapper readingSessionMapper,
+      ReadingSessionSyncKeyRepository syncKeyRepository,
+      BookRepository bookRepository,
+      BookGateway bookGateway
   ) {
     this.readingSessionRepository = readingSessionRepository;
     this.readingSessionMapper = readingSessionMapper;
+    this.syncKeyRepository = syncKeyRepository;
+    this.bookRepository = bookRepository;
+    this.bookGateway = bookGateway;
   }
 
   @Override
@@ -41,27 +62,87 @@ public class ReadingSessionGatewayImpl implements ReadingSessionGateway {
   }
 
   @Override
-  public PageResult<ReadingSession> getReadingByBookIdAndUserId(Long bookId, UUID userId, int page, int size) {
-    Pageable pageable = PageRequest.of(
-        page,
-        size,
-        Sort.by(Sort.Direction.DESC, "sessionDate")
-    );
+  @Transactional
+  public ReadingSession logSession(ReadingSession readingSession, UUID userId) {
+    bookGateway.addPagesRead(readingSession.getBook().getId(), userId, readingSession.getPagesRead());
+    return save(readingSession);
+  }
+
+  @Override
+  public Map<String, Long> findSyncedSessionIds(UUID userId, Collection<String> syncKeys) {
+    Map<String, Long> synced = new HashMap<>();
+    syncKeyRepository.findByUserIdAndSyncKeyIn(userId, syncKeys)
+        .forEach(key -> synced.put(key.getSyncKey(), key.getSessionId()));
+    return synced;
+  }
 
-    Page<ReadingSessionEntity> readingSessionEntityPage = readingSessionRepository
-        .getReadingSession(bookId, userId, pageable);
+  @Override
+  @Transactional
+  public Set<String> claimSyncKeys(UUID userId, Collection<String> syncKeys) {
+    return syncKeyRepository.claimAll(userId, List.copyOf(syncKeys), OffsetDateTime.now());
+  }
 
-    return new PageResult<>(
-        size,
-        readingSessionEntityPage.getTotalPages(),
+  @Override
+  @Transactional
+  public void releaseSyncKeys(UUID userId, Collection<String> syncKeys) {
+    syncKeyRepository.deleteUnattached(userId, syncKeys);
+  }
+
+  /**
+   * Sessions are persisted through Hibernate's JDBC batching, with ids from the pooled sequence, and flushed
+   * before the key rows reference them. Books are only referenced, never loaded.
+   */
+  @Override
+  @Transactional
+  public List<Long> saveSynced(UUID userId, List<ReadingSessionSyncInput> sessions) {
+    List<ReadingSessionEntity> entities = sessions.stream()
+        .map(session -> new ReadingSessionEntity(
+            null,
+            bookRepository.getReferenceById(session.bookId()),
+            session.pagesRead(),
+            session.minutes(),
+            session.sessionDate()
+        ))
+        .toList();
+    List<Long> ids = readingSessionRepository.saveAllAndFlush(entities).stream()
+        .map(ReadingSessionEntity::getId)
+        .toList();
+    List<String> syncKeys = sessions.stream().map(ReadingSessionSyncInput::syncKey).toList();
+    syncKeyRepository.attachSessions(userId, syncKeys, ids);
+    return ids;
+  }
+
+  @Override
+  public PageResult<ReadingSessionOutput> getReadingByBookIdAndUserId(
+      Long bookId,
+      UUID userId,
+      int page,
+      int size,
+      boolean includeTotal
+  ) {
+    Sort sort = Sort.by(Sort.Direction.DESC, "sessionDate").and(Sort.by(Sort.Direction.DESC, "id"));
+    if (!includeTotal) {
+      List<ReadingSessionOutput> rows = readingSessionRepository
+          .getReadingSession(bookId, userId, LookaheadPageRequest.of(page, size, sort));
+      return PageResults.fromLookahead(rows, page, size, Function.identity());
+    }
+
+    Pageable pageable = PageRequest.of(page, size, sort);
+    List<Object[]> rows = readingSessionRepository.getReadingSessionWithTotal(bookId, userId, pageable);
+    return PageResults.fromCountedRows(
+        rows,
         page,
-        readingSessionEntityPage.getContent()
-            .stream()
-            .map(readingSessionMapper::entityToDomain)
-            .toList()
+        size,
+        Function.<ReadingSessionOutput>identity(),
+        () -> readingSessionRepository.countReadingSession(bookId, userId)
     );
   }
 
+  @Override
+  public VersionStamp getReadingSessionsVersion(Long bookId, UUID userId) {
+    return readingSessionRepository.getReadingSessionsVersion(bookId, userId);
+  }
+
   @Override
   public Optional<ReadingSession> getByIdAndByBookIdAndUserId(Long readingSessionId, Long bookId, UUID userId) {
     Optional<ReadingSessionEntity> optionalEntity = readingSessionRepository
@@ -70,14 +151,32 @@ public class ReadingSessionGatewayImpl implements ReadingSessionGateway {
   }
 
   @Override
-  public ReadingSession update(ReadingSession readingSession) {
-    return save(readingSession);
+  @Transactional
+  public Optional<ReadingSession> update(ReadingSession readingSession, UUID userId) {
+    Long bookId = readingSession.getBook().getId();
+    Optional<ReadingSessionEntity> current = readingSessionRepository
+        .lockByIdAndBookIdAndUserId(readingSession.getId(), bookId, userId);
+    if (current.isEmpty()) {
+      return Optional.empty();
+    }
+    int difference = readingSession.getPagesRead() - current.get().getPagesRead();
+    if (difference != 0) {
+      bookGateway.addPagesRead(bookId, userId, difference);
+    }
+    return Optional.of(save(readingSession));
   }
 
   @Override
   @Transactional
   public int deleteReadingSession(Long sessionId, UUID userId, Long bookId) {
-    return readingSessionRepository.deleteByIdAndUserId(sessionId, bookId, userId);
+    Optional<ReadingSessionEntity> current = readingSessionRepository
+        .lockByIdAndBookIdAndUserId(sessionId, bookId, userId);
+    if (current.isEmpty()) {
+      return 0;
+    }
+    int deleted = readingSessionRepository.deleteByIdAndUserId(sessionId, bookId, userId);
+    bookGateway.addPagesRead(bookId, userId, -current.get().getPagesRead());
+    return deleted;
   }
 
   @Override
@@ -0,0 +1,420 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.inktrack.infrastructure.config.ThumbnailCacheConfig;
+import com.inktrack.infrastructure.exception.ExternalApiException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Local copy of remote book covers. Each cover is downloaded once and stored under the SHA-256 of its bytes,
+ * so a key always names the same image and clients may cache it for good. Covers are evicted least recently
+ * served first once the disk budget is exceeded; recency is kept in the files' modification times, so it
+ * survives restarts. Only the configured hosts are fetched, which keeps book data from steering the server
+ * at arbitrary addresses.
+ */
+@Component
+public class ThumbnailStore {
+
+  private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}\\.(jpg|png|gif|webp)");
+  private static final Map<String, String> EXTENSIONS = Map.of(
+      "image/jpeg", "jpg",
+      "image/png", "png",
+      "image/gif", "gif",
+      "image/webp", "webp"
+  );
+  private static final int MAX_REDIRECTS = 3;
+  private static final int BAD_GATEWAY = HttpStatus.BAD_GATEWAY.value();
+
+  private final ThumbnailCacheConfig config;
+  private final HttpClient httpClient;
+  private final Path objects;
+  private final Path sources;
+  private final Path incoming;
+  private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, CompletableFuture<String>> downloads = new ConcurrentHashMap<>();
+  private long totalBytes;
+
+  public ThumbnailStore(ThumbnailCacheConfig config) {
+    this.config = config;
+    this.httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofMillis(config.getTimeoutMs()))
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .build();
+    Path root = Path.of(config.getDirectory());
+    this.objects = root.resolve("objects");
+    this.sources = root.resolve("sources");
+    this.incoming = root.resolve("incoming");
+    try {
+      Files.createDirectories(objects);
+      Files.createDirectories(sources);
+      Files.createDirectories(incoming);
+      loadExistingObjects();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open the thumbnail cache at " + root, e);
+    }
+  }
+
+  public record StoredThumbnail(String key, Path path, long size, String contentType) {
+  }
+
+  /**
+   * Returns the key of the cover at {@code sourceUrl}, downloading it on first use. Concurrent requests for the
+   * same cover share one download. Empty when there is no cover or its host is not allowed.
+   */
+  public Optional<String> store(String sourceUrl) {
+    Optional<URI> source = allowed(sourceUrl);
+    if (source.isEmpty()) {
+      return Optional.empty();
+    }
+    String url = source.get().toString();
+    Path index = sources.resolve(sha256Hex(url.getBytes(StandardCharsets.UTF_8)));
+    String known = readKey(index);
+    if (known != null && isStored(known)) {
+      return Optional.of(known);
+    }
+
+    CompletableFuture<String> mine = new CompletableFuture<>();
+    CompletableFuture<String> running = downloads.putIfAbsent(url, mine);
+    if (running != null) {
+      return Optional.of(await(running));
+    }
+    try {
+      String key = download(source.get());
+      writeKey(index, key);
+      mine.complete(key);
+      return Optional.of(key);
+    } catch (RuntimeException e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      downloads.remove(url, mine);
+    }
+  }
+
+  /**
+   * Looks a stored cover up by key and marks it as recently used. Empty for unknown or evicted keys.
+   */
+  public Optional<StoredThumbnail> open(String key) {
+    if (key == null || !KEY.matcher(key).matches()) {
+      return Optional.empty();
+    }
+    Long size;
+    synchronized (sizes) {
+      size = sizes.get(key);
+    }
+    if (size == null) {
+      return Optional.empty();
+    }
+    Path path = objectPath(key);
+    try {
+      Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+    } catch (NoSuchFileException e) {
+      forget(key);
+      return Optional.empty();
+    } catch (IOException e) {
+      // Recency is only an eviction hint, so the cover is served anyway.
+    }
+    return Optional.of(new StoredThumbnail(key, path, size, contentType(key)));
+  }
+
+  long totalBytes() {
+    synchronized (sizes) {
+      return totalBytes;
+    }
+  }
+
+  private Optional<URI> allowed(String url) {
+    if (url == null || url.isBlank()) {
+      return Optional.empty();
+    }
+    try {
+      return allowed(new URI(url.trim()));
+    } catch (URISyntaxException e) {
+      return Optional.empty();
+    }
+  }
+
+  private Optional<URI> allowed(URI uri) {
+    String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+    String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+    boolean web = scheme.equals("http") || scheme.equals("https");
+    return web && config.getAllowedHosts().contains(host) ? Optional.of(uri) : Optional.empty();
+  }
+
+  /**
+   * The whole download, redirects and body included, must finish within the configured timeout.
+   */
+  private String download(URI source) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getTimeoutMs());
+    Path temp = null;
+    try {
+      HttpResponse<InputStream> response = fetch(source, deadline);
+      String extension = EXTENSIONS.get(mediaType(response));
+      if (extension == null) {
+        response.body().close();
+        throw new ExternalApiException("The thumbnail origin did not return an image", BAD_GATEWAY);
+      }
+      temp = Files.createTempFile(incoming, "cover", ".part");
+      MessageDigest sha256 = sha256();
+      long size;
+      try (InputStream in = new DigestInputStream(response.body(), sha256);
+           OutputStream out = Files.newOutputStream(temp)) {
+        size = copyCapped(in, out, deadline);
+      }
+      String key = HexFormat.of().formatHex(sha256.digest()) + "." + extension;
+      Path target = objectPath(key);
+      Files.createDirectories(target.getParent());
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      added(key, size);
+      return key;
+    } catch (IOException e) {
+      throw new ExternalApiException("Could not download the thumbnail", BAD_GATEWAY, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExternalApiException("Interrupted while downloading the thumbnail", BAD_GATEWAY, e);
+    } finally {
+      deleteQuietly(temp);
+    }
+  }
+
+  /**
+   * Follows redirects by hand so every hop is checked against the allowed hosts.
+   */
+  private HttpResponse<InputStream> fetch(URI source, long deadline) throws IOException, InterruptedException {
+    URI current = source;
+    for (int hop = 0; hop <= MAX_REDIRECTS; hop++) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        throw timedOut();
+      }
+      HttpRequest request = HttpRequest.newBuilder(current)
+          .timeout(Duration.ofNanos(remaining))
+          .GET()
+          .build();
+      HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+      int status = response.statusCode();
+      if (status == HttpStatus.OK.value()) {
+        return response;
+      }
+      response.body().close();
+      Optional<String> location = response.headers().firstValue("Location");
+      if (status / 100 != 3 || location.isEmpty()) {
+        throw new ExternalApiException("The thumbnail origin answered " + status, BAD_GATEWAY);
+      }
+      current = allowed(current.resolve(location.get())).orElseThrow(() -> new ExternalApiException(
+          "The thumbnail origin redirected to a host that is not allowed",
+          BAD_GATEWAY
+      ));
+    }
+    throw new ExternalApiException("The thumbnail origin redirected too many times", BAD_GATEWAY);
+  }
+
+  private static String mediaType(HttpResponse<?> response) {
+    return response.headers().firstValue("Content-Type")
+        .map(value -> value.split(";", 2)[0].trim().toLowerCase(Locale.ROOT))
+        .orElse("");
+  }
+
+  /**
+   * The request timeout only covers the wait for headers, so the body is held to the deadline here: a slowly
+   * dribbling origin fails the elapsed-time check, and one that stalls has its stream closed at the deadline.
+   */
+  private long copyCapped(InputStream in, OutputStream out, long deadline) throws IOException {
+    CompletableFuture<Void> watchdog = CompletableFuture.runAsync(() -> closeQuietly(in),
+        CompletableFuture.delayedExecutor(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+    byte[] buffer = new byte[8192];
+    long size = 0;
+    int read;
+    try {
+      while ((read = in.read(buffer)) != -1) {
+        if (System.nanoTime() - deadline > 0) {
+          throw timedOut();
+        }
+        size += read;
+        if (size > config.getMaxImageBytes()) {
+          throw new ExternalApiException("The thumbnail is larger than the allowed size", BAD_GATEWAY);
+        }
+        out.write(buffer, 0, read);
+      }
+      return size;
+    } catch (IOException e) {
+      if (System.nanoTime() - deadline > 0) {
+        throw timedOut();
+      }
+      throw e;
+    } finally {
+      watchdog.cancel(false);
+    }
+  }
+
+  private static ExternalApiException timedOut() {
+    return new ExternalApiException("The thumbnail origin took too long to send the cover", BAD_GATEWAY);
+  }
+
+  private static void closeQuietly(InputStream in) {
+    try {
+      in.close();
+    } catch (IOException e) {
+      // The read it was meant to release fails either way.
+    }
+  }
+
+  private boolean isStored(String key) {
+    synchronized (sizes) {
+      return sizes.get(key) != null;
+    }
+  }
+
+  private void added(String key, long size) {
+    List<String> evicted = new ArrayList<>();
+    synchronized (sizes) {
+      Long previous = sizes.put(key, size);
+      totalBytes += size - (previous == null ? 0 : previous);
+      Iterator<Map.Entry<String, Long>> eldest = sizes.entrySet().iterator();
+      while (totalBytes > config.getMaxBytes() && eldest.hasNext()) {
+        Map.Entry<String, Long> entry = eldest.next();
+        if (!entry.getKey().equals(key)) {
+          totalBytes -= entry.getValue();
+          evicted.add(entry.getKey());
+          eldest.remove();
+        }
+      }
+    }
+    evicted.forEach(victim -> deleteQuietly(objectPath(victim)));
+  }
+
+  private void forget(String key) {
+    synchronized (sizes) {
+      Long size = sizes.remove(key);
+      if (size != null) {
+        totalBytes -= size;
+      }
+    }
+  }
+
+  private void loadExistingObjects() throws IOException {
+    try (Stream<Path> leftovers = Files.list(incoming)) {
+      leftovers.forEach(ThumbnailStore::deleteQuietly);
+    }
+    List<Path> stored;
+    try (Stream<Path> files = Files.walk(objects, 2)) {
+      stored = files
+          .filter(path -> KEY.matcher(path.getFileName().toString()).matches())
+          .sorted(Comparator.comparing(ThumbnailStore::lastModified))
+          .toList();
+    }
+    for (Path path : stored) {
+      added(path.getFileName().toString(), Files.size(path));
+    }
+  }
+
+  private Path objectPath(String key) {
+    return objects.resolve(key.substring(0, 2)).resolve(key);
+  }
+
+  private static String contentType(String key) {
+    String extension = key.substring(key.indexOf('.') + 1);
+    return EXTENSIONS.entrySet().stream()
+        .filter(entry -> entry.getValue().equals(extension))
+        .map(Map.Entry::getKey)
+        .findFirst()
+        .orElse("application/octet-stream");
+  }
+
+  private static String readKey(Path index) {
+    try {
+      String key = Files.readString(index).trim();
+      return KEY.matcher(key).matches() ? key : null;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private void writeKey(Path index, String key) {
+    try {
+      Path temp = Files.createTempFile(incoming, "source", ".part");
+      Files.writeString(temp, key);
+      Files.move(temp, index, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not record the thumbnail source", e);
+    }
+  }
+
+  private static String await(CompletableFuture<String> download) {
+    try {
+      return download.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private static FileTime lastModified(Path path) {
+    try {
+      return Files.getLastModifiedTime(path);
+    } catch (IOException e) {
+      return FileTime.from(Instant.EPOCH);
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      // Downloads left in incoming are removed on the next start.
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private static String sha256Hex(byte[] bytes) {
+    return HexFormat.of().formatHex(sha256().digest(bytes));
+  }
+}
@@ -0,0 +1,98 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.inktrack.core.gateway.TokenRevocationGateway;
+import com.inktrack.infrastructure.config.TokenRevocationConfig;
+import com.inktrack.infrastructure.entity.RevokedTokenEntity;
+import com.inktrack.infrastructure.persistence.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Keeps the ids of revoked tokens in memory until the tokens themselves expire, so
+ * {@link #isRevoked(String)} never touches the database. The set is loaded from
+ * {@code tb_revoked_tokens} at startup. The insert in {@link #revoke} is the authority
+ * when several nodes race to revoke the same id. Expired rows are purged on a schedule.
+ * The set is capped at the configured size; once it has had to drop a live id, ids it does not
+ * hold are checked against the table, so a revoked token is never accepted again.
+ */
+@Component
+public class TokenRevocationGatewayImpl implements TokenRevocationGateway {
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final Cache<String, Instant> revokedTokens;
+  private volatile boolean overflowed;
+
+  public TokenRevocationGatewayImpl(RevokedTokenRepository revokedTokenRepository) {
+    this(revokedTokenRepository, new TokenRevocationConfig());
+  }
+
+  @Autowired
+  public TokenRevocationGatewayImpl(RevokedTokenRepository revokedTokenRepository, TokenRevocationConfig config) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.revokedTokens = Caffeine.newBuilder()
+        .maximumSize(config.getMaxSize())
+        .expireAfter(Expiry.creating((String jti, Instant expiresAt) -> untilExpiry(expiresAt)))
+        .evictionListener((String jti, Instant expiresAt, RemovalCause cause) -> {
+          if (cause == RemovalCause.SIZE) {
+            overflowed = true;
+          }
+        })
+        .executor(Runnable::run)
+        .build();
+  }
+
+  private static Duration untilExpiry(Instant expiresAt) {
+    Duration remaining = Duration.between(Instant.now(), expiresAt);
+    return remaining.isNegative() ? Duration.ZERO : remaining;
+  }
+
+  @PostConstruct
+  public void loadRevokedTokens() {
+    LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+    deleteExpired();
+    for (RevokedTokenEntity token : revokedTokenRepository.findAllActive(now)) {
+      revokedTokens.put(token.getJti(), token.getExpiresAt().toInstant(ZoneOffset.UTC));
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${security.token-revocation.cleanup-interval-ms:3600000}")
+  public void deleteExpired() {
+    revokedTokenRepository.deleteExpired(LocalDateTime.now(ZoneOffset.UTC));
+  }
+
+  @Override
+  public boolean isRevoked(String jti) {
+    if (revokedTokens.getIfPresent(jti) != null) {
+      return true;
+    }
+    return overflowed && revokedTokenRepository.existsByJtiAndExpiresAtAfter(jti, LocalDateTime.now(ZoneOffset.UTC));
+  }
+
+  @Override
+  public boolean revoke(String jti, UUID userId, Instant expiresAt) {
+    if (isRevoked(jti)) {
+      return false;
+    }
+
+    int inserted = revokedTokenRepository.insertIfAbsent(
+        jti,
+        userId,
+        LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC),
+        LocalDateTime.now(ZoneOffset.UTC)
+    );
+    revokedTokens.put(jti, expiresAt);
+    return inserted == 1;
+  }
+}
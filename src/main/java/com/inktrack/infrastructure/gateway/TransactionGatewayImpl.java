@@ -0,0 +1,28 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.inktrack.core.gateway.TransactionGateway;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the work in a Spring-managed transaction, so JPA repositories and {@code JdbcTemplate} calls inside it
+ * borrow a single pooled connection and the {@code @Transactional} gateways join instead of committing on
+ * their own.
+ */
+@Component
+public class TransactionGatewayImpl implements TransactionGateway {
+
+  private final TransactionTemplate transactionTemplate;
+
+  public TransactionGatewayImpl(PlatformTransactionManager transactionManager) {
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  public <T> T execute(Supplier<T> work) {
+    return transactionTemplate.execute(status -> work.get());
+  }
+}
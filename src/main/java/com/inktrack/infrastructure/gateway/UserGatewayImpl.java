@@ -1,23 +1,45 @@
 package com.inktrack.infrastructure.gateway;
 
 import com.inktrack.core.domain.User;
+import com.inktrack.core.exception.EmailAlreadyExistsException;
 import com.inktrack.core.gateway.UserGateway;
+import com.inktrack.infrastructure.config.CacheConfig;
 import com.inktrack.infrastructure.entity.UserEntity;
 import com.inktrack.infrastructure.mapper.UserMapper;
 import com.inktrack.infrastructure.persistence.UserRepository;
+import com.inktrack.infrastructure.security.TokenVersionRegistry;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.SQLException;
 import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class UserGatewayImpl implements UserGateway {
 
+  private static final String UNIQUE_VIOLATION = "23505";
+
   private final UserRepository userRepository;
   private final UserMapper userMapper;
+  private final TokenVersionRegistry tokenVersionRegistry;
+  private final BookCache bookCache;
 
-  public UserGatewayImpl(UserRepository userRepository, UserMapper userMapper) {
+  public UserGatewayImpl(
+      UserRepository userRepository,
+      UserMapper userMapper,
+      TokenVersionRegistry tokenVersionRegistry,
+      BookCache bookCache
+  ) {
     this.userRepository = userRepository;
     this.userMapper = userMapper;
+    this.tokenVersionRegistry = tokenVersionRegistry;
+    this.bookCache = bookCache;
   }
 
   @Override
@@ -26,14 +48,79 @@ public class UserGatewayImpl implements UserGateway {
         .map(userMapper::entityToDomain);
   }
 
+  @Override
+  public Optional<User> findById(UUID userId) {
+    return userRepository.findById(userId)
+        .map(userMapper::entityToDomain);
+  }
+
   @Override
   public User save(User user) {
-    UserEntity userEntity = userRepository.save(userMapper.domainToEntity(user));
-    return userMapper.entityToDomain(userEntity);
+    try {
+      UserEntity userEntity = userRepository.saveAndFlush(userMapper.domainToEntity(user));
+      return userMapper.entityToDomain(userEntity);
+    } catch (DataIntegrityViolationException e) {
+      if (isUniqueViolation(e)) {
+        throw new EmailAlreadyExistsException(user.getEmail());
+      }
+      throw e;
+    }
+  }
+
+  private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+    return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlException
+        && UNIQUE_VIOLATION.equals(sqlException.getSQLState());
   }
 
+  /**
+   * Saves the new details and bumps the token version in one transaction, so tokens carrying the old claims
+   * stop being accepted exactly when the new details commit. Returns the user with the bumped version.
+   */
   @Override
+  @Transactional
+  @CacheEvict(value = CacheConfig.PRINCIPAL_CACHE, key = "#user.id")
   public User update(User user) {
-    return null;
+    UserEntity userEntity = userRepository.save(userMapper.domainToEntity(user));
+    userRepository.incrementTokenVersion(user.getId());
+    int tokenVersion = userRepository.findTokenVersionById(user.getId()).orElseThrow();
+    invalidateTokenVersion(user.getId());
+    bookCache.evictUser(user.getId());
+    return new User(
+        userEntity.getId(),
+        userEntity.getName(),
+        userEntity.getEmail(),
+        userEntity.getPassword(),
+        userEntity.getCreatedAt(),
+        tokenVersion
+    );
+  }
+
+  /**
+   * Invalidates now and again after commit, so a version reloaded before the bump commits is not kept.
+   */
+  private void invalidateTokenVersion(UUID userId) {
+    tokenVersionRegistry.invalidate(userId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          tokenVersionRegistry.invalidate(userId);
+        }
+      });
+    }
+  }
+
+  @Override
+  @CacheEvict(value = CacheConfig.PRINCIPAL_CACHE, key = "#userId")
+  public void updatePasswordHash(UUID userId, String passwordHash) {
+    userRepository.updatePassword(userId, passwordHash);
+  }
+
+  @Override
+  @CacheEvict(value = CacheConfig.PRINCIPAL_CACHE, key = "#userId")
+  public void deleteById(UUID userId) {
+    userRepository.deleteById(userId);
+    tokenVersionRegistry.invalidate(userId);
+    bookCache.evictUser(userId);
   }
 }
@@ -3,17 +3,29 @@ package com.inktrack.infrastructure.mapper;
 import com.inktrack.core.domain.Book;
 import com.inktrack.core.domain.Category;
 import com.inktrack.core.domain.User;
+import com.inktrack.core.usecases.book.BookBatchItemOutput;
+import com.inktrack.core.usecases.book.BookBatchOutput;
 import com.inktrack.core.usecases.book.BookModelInput;
 import com.inktrack.core.usecases.book.BookModelOutput;
+import com.inktrack.core.usecases.book.BookPatch;
+import com.inktrack.core.usecases.book.BookSummaryOutput;
+import com.inktrack.infrastructure.dtos.book.BookBatchCreateRequest;
+import com.inktrack.infrastructure.dtos.book.BookBatchItemResponse;
+import com.inktrack.infrastructure.dtos.book.BookBatchResponse;
 import com.inktrack.infrastructure.dtos.book.BookCreateRequest;
+import com.inktrack.infrastructure.dtos.book.BookPatchRequest;
 import com.inktrack.infrastructure.dtos.book.BookResponse;
+import com.inktrack.infrastructure.dtos.book.BookSummaryResponse;
 import com.inktrack.infrastructure.dtos.category.CategoryResponse;
+import com.inktrack.infrastructure.dtos.category.CategorySummaryResponse;
 import com.inktrack.infrastructure.dtos.user.UserResponse;
 import com.inktrack.infrastructure.entity.BookEntity;
 import com.inktrack.infrastructure.entity.CategoryEntity;
 import com.inktrack.infrastructure.entity.UserEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class BookMapper {
 
@@ -78,6 +90,36 @@ public class BookMapper {
     );
   }
 
+  public BookPatch patchRequestToPatch(BookPatchRequest patchRequest) {
+    return new BookPatch(
+        patchRequest.title(),
+        patchRequest.author(),
+        patchRequest.totalPages(),
+        patchRequest.categoryId(),
+        patchRequest.googleBookId()
+    );
+  }
+
+  public List<BookModelInput> batchRequestToModelInputs(BookBatchCreateRequest batchRequest) {
+    return batchRequest.books().stream()
+        .map(request -> request == null ? null : requestDtoToModelInput(request))
+        .toList();
+  }
+
+  public BookBatchResponse batchOutputToResponse(BookBatchOutput batchOutput) {
+    List<BookBatchItemResponse> items = batchOutput.items().stream()
+        .map(this::batchItemOutputToResponse)
+        .toList();
+    return new BookBatchResponse(items, batchOutput.created(), batchOutput.rejected());
+  }
+
+  private BookBatchItemResponse batchItemOutputToResponse(BookBatchItemOutput item) {
+    if (item.isCreated()) {
+      return new BookBatchItemResponse(item.index(), "CREATED", modelOutPutToResponse(item.book()), null, null);
+    }
+    return new BookBatchItemResponse(item.index(), "REJECTED", null, item.field(), item.error());
+  }
+
   public BookResponse domainToResponse(Book book) {
     UserResponse userResponse = userMapper.userDomainToResponse(book.getUser());
     CategoryResponse categoryResponse = new CategoryResponse(
@@ -133,4 +175,20 @@ public class BookMapper {
         bookModelOutPut.updatedAt()
     );
   }
+
+  public BookSummaryResponse summaryOutputToResponse(BookSummaryOutput summary) {
+    return new BookSummaryResponse(
+        summary.id(),
+        new CategorySummaryResponse(summary.categoryId(), summary.categoryName()),
+        summary.title(),
+        summary.author(),
+        summary.totalPages(),
+        summary.pagesRead(),
+        summary.progress(),
+        summary.thumbnailUrl(),
+        summary.googleBookId(),
+        summary.createdAt(),
+        summary.updatedAt()
+    );
+  }
 }
@@ -4,12 +4,20 @@ import com.inktrack.core.domain.Book;
 import com.inktrack.core.domain.ReadingSession;
 import com.inktrack.core.usecases.reading.sessions.ReadingSessionInput;
 import com.inktrack.core.usecases.reading.sessions.ReadingSessionOutput;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionSyncInput;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionSyncOutput;
 import com.inktrack.infrastructure.dtos.reading.session.ReadingSessionCreateRequest;
 import com.inktrack.infrastructure.dtos.reading.session.ReadingSessionResponse;
+import com.inktrack.infrastructure.dtos.reading.session.ReadingSessionSyncItemRequest;
+import com.inktrack.infrastructure.dtos.reading.session.ReadingSessionSyncItemResponse;
+import com.inktrack.infrastructure.dtos.reading.session.ReadingSessionSyncRequest;
+import com.inktrack.infrastructure.dtos.reading.session.ReadingSessionSyncResponse;
 import com.inktrack.infrastructure.entity.BookEntity;
 import com.inktrack.infrastructure.entity.ReadingSessionEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class ReadingSessionMapper {
 
@@ -54,4 +62,34 @@ public class ReadingSessionMapper {
         output.sessionDate()
     );
   }
+
+  public List<ReadingSessionSyncInput> syncRequestToInputs(ReadingSessionSyncRequest request) {
+    return request.sessions().stream()
+        .map(item -> item == null ? null : syncItemRequestToInput(item))
+        .toList();
+  }
+
+  private ReadingSessionSyncInput syncItemRequestToInput(ReadingSessionSyncItemRequest item) {
+    return new ReadingSessionSyncInput(
+        item.syncKey(),
+        item.bookId(),
+        item.minutes(),
+        item.pagesRead(),
+        item.sessionDate()
+    );
+  }
+
+  public ReadingSessionSyncResponse syncOutputToResponse(ReadingSessionSyncOutput output) {
+    List<ReadingSessionSyncItemResponse> items = output.items().stream()
+        .map(item -> new ReadingSessionSyncItemResponse(
+            item.index(),
+            item.syncKey(),
+            item.status().name(),
+            item.sessionId(),
+            item.field(),
+            item.error()
+        ))
+        .toList();
+    return new ReadingSessionSyncResponse(items, output.created(), output.duplicates(), output.rejected());
+  }
 }
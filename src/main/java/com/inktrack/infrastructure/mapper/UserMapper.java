@@ -22,7 +22,9 @@ public class UserMapper {
   }
 
   public User entityToDomain(UserEntity user){
-    return new User(user.getId(), user.getName(), user.getEmail(), user.getPassword(),user.getCreatedAt());
+    return new User(
+        user.getId(), user.getName(), user.getEmail(), user.getPassword(), user.getCreatedAt(), user.getTokenVersion()
+    );
   }
 
   public UserResponse userDomainToResponse(User user) {
@@ -1,46 +1,33 @@
 package com.inktrack.infrastructure.persistence;
 
+import com.inktrack.core.utils.VersionStamp;
 import com.inktrack.infrastructure.entity.BookEntity;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface BookRepository extends JpaRepository<BookEntity, Long> {
+public interface BookRepository
+    extends JpaRepository<BookEntity, Long>, JpaSpecificationExecutor<BookEntity>, BookSummaryRepository,
+    BookUpdateRepository {
   @Query("SELECT b FROM BookEntity b WHERE b.user.id = :userId AND b.id = :id")
   Optional<BookEntity> findByIdAndUserId(@Param("id") Long id,@Param("userId") UUID userId);
 
-  @Query("""
-        SELECT b
-        FROM BookEntity b
-        WHERE b.user.id = :userId
-          AND (:title IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%')))
-          AND (:categoryId IS NULL OR b.category.id = :categoryId)
-      """)
-  List<BookEntity> getUserBookPage(
-      @Param("userId") UUID userId,
-      @Param("title") String title,
-      @Param("categoryId") Long categoryId,
-      Pageable pageable
-  );
+  @Query("SELECT b.updatedAt FROM BookEntity b WHERE b.id = :id AND b.user.id = :userId")
+  Optional<OffsetDateTime> findUpdatedAtByIdAndUserId(@Param("id") Long id, @Param("userId") UUID userId);
 
   @Query("""
-        SELECT COUNT(b)
+        SELECT new com.inktrack.core.utils.VersionStamp(MAX(b.updatedAt), COUNT(b))
         FROM BookEntity b
         WHERE b.user.id = :userId
-          AND (:title IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%')))
-          AND (:categoryId IS NULL OR b.category.id = :categoryId)
       """)
-  long countUserBooks(
-      @Param("userId") UUID userId,
-      @Param("title") String title,
-      @Param("categoryId") Long categoryId
-  );
+  VersionStamp getLibraryVersion(@Param("userId") UUID userId);
 
   @Modifying
   @Query("""
@@ -0,0 +1,96 @@
+package com.inktrack.infrastructure.persistence;
+
+import com.inktrack.core.usecases.book.BookCursor;
+import com.inktrack.core.usecases.book.OrderEnum;
+import com.inktrack.infrastructure.entity.BookEntity;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public final class BookSpecifications {
+
+  private BookSpecifications() {
+  }
+
+  public static Specification<BookEntity> ownedBy(UUID userId) {
+    return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+  }
+
+  public static Specification<BookEntity> titleContains(String title) {
+    return (root, query, cb) -> cb.like(cb.lower(root.get("title")), "%" + title.toLowerCase() + "%");
+  }
+
+  public static Specification<BookEntity> authorContains(String author) {
+    return (root, query, cb) -> cb.like(cb.lower(root.get("author")), "%" + author.toLowerCase() + "%");
+  }
+
+  public static Specification<BookEntity> inCategory(Long categoryId) {
+    return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+  }
+
+  public static Specification<BookEntity> progressAtLeast(int progress) {
+    return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("progress"), progress);
+  }
+
+  public static Specification<BookEntity> progressAtMost(int progress) {
+    return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("progress"), progress);
+  }
+
+  public static Specification<BookEntity> createdFrom(OffsetDateTime from) {
+    return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+  }
+
+  public static Specification<BookEntity> createdTo(OffsetDateTime to) {
+    return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("createdAt"), to);
+  }
+
+  public static Specification<BookEntity> linkedToGoogleBooks(boolean linked) {
+    return (root, query, cb) -> linked ? cb.isNotNull(root.get("googleBookId")) : cb.isNull(root.get("googleBookId"));
+  }
+
+  /**
+   * Matches the query against title or author, which the trigram indexes on {@code LOWER(title)} and
+   * {@code LOWER(author)} serve, and ranks the rows by the better of the two similarities, id breaking ties.
+   * The ranking is skipped for count queries.
+   */
+  public static Specification<BookEntity> matchesQuery(String text) {
+    String needle = text.toLowerCase();
+    return (root, query, cb) -> {
+      Expression<String> title = cb.lower(root.get("title"));
+      Expression<String> author = cb.lower(root.get("author"));
+      if (!Long.class.equals(query.getResultType())) {
+        Expression<Double> rank = cb.function(
+            "greatest",
+            Double.class,
+            cb.function("similarity", Double.class, title, cb.literal(needle)),
+            cb.function("similarity", Double.class, author, cb.literal(needle))
+        );
+        query.orderBy(cb.desc(rank), cb.desc(root.get("id")));
+      }
+      return cb.or(cb.like(title, "%" + needle + "%"), cb.like(author, "%" + needle + "%"));
+    };
+  }
+
+  /**
+   * Keyset predicate: rows strictly after the cursor in the cursor's sort order, with the id breaking ties.
+   * The redundant bound on the sort field alone is what Postgres can use as a range on the
+   * {@code (user_id, field, id)} index, so a deep page starts at the cursor instead of filtering every earlier
+   * row; the OR then only settles ties.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static Specification<BookEntity> after(BookCursor cursor) {
+    boolean ascending = cursor.order().getDirection() == OrderEnum.Direction.ASC;
+    Comparable value = cursor.sortValue();
+    return (root, query, cb) -> {
+      Expression<Comparable> field = root.get(cursor.order().getField());
+      Expression<Long> id = root.get("id");
+      Predicate bound = ascending ? cb.greaterThanOrEqualTo(field, value) : cb.lessThanOrEqualTo(field, value);
+      Predicate beyond = ascending ? cb.greaterThan(field, value) : cb.lessThan(field, value);
+      Predicate tieBroken = ascending ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+      return cb.and(bound, cb.or(beyond, cb.and(cb.equal(field, value), tieBroken)));
+    };
+  }
+}
@@ -0,0 +1,23 @@
+package com.inktrack.infrastructure.persistence;
+
+import com.inktrack.core.domain.BookSummary;
+import com.inktrack.infrastructure.entity.BookEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface BookSummaryRepository {
+
+  /**
+   * Selects only the {@link BookSummary} columns, joining the category but never the owning user.
+   * An unsorted {@code sort} keeps whatever ordering the specification applied.
+   */
+  List<BookSummary> findSummaries(Specification<BookEntity> specification, Sort sort, long offset, int limit);
+
+  /**
+   * Same as {@link #findSummaries}, with each row paired with the total number of matches as
+   * {@code [BookSummary, Long]}, counted by the same statement.
+   */
+  List<Object[]> findSummariesWithTotal(Specification<BookEntity> specification, Sort sort, long offset, int limit);
+}
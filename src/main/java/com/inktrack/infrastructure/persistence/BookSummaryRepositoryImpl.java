@@ -0,0 +1,96 @@
+package com.inktrack.infrastructure.persistence;
+
+import com.inktrack.core.domain.BookSummary;
+import com.inktrack.infrastructure.entity.BookEntity;
+import com.inktrack.infrastructure.entity.CategoryEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+class BookSummaryRepositoryImpl implements BookSummaryRepository {
+
+  private final EntityManager entityManager;
+
+  BookSummaryRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public List<BookSummary> findSummaries(Specification<BookEntity> specification, Sort sort, long offset, int limit) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<BookSummary> query = cb.createQuery(BookSummary.class);
+    Root<BookEntity> book = query.from(BookEntity.class);
+
+    query.select(summaryOf(book, cb));
+    restrict(query, book, cb, specification, sort);
+
+    return entityManager.createQuery(query)
+        .setFirstResult(Math.toIntExact(offset))
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  @Override
+  public List<Object[]> findSummariesWithTotal(
+      Specification<BookEntity> specification,
+      Sort sort,
+      long offset,
+      int limit
+  ) {
+    HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+    CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+    Root<BookEntity> book = query.from(BookEntity.class);
+
+    query.multiselect(
+        summaryOf(book, cb),
+        cb.windowFunction("count", Long.class, cb.createWindow(), cb.literal(1))
+    );
+    restrict(query, book, cb, specification, sort);
+
+    return entityManager.createQuery(query)
+        .setFirstResult(Math.toIntExact(offset))
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  private static CompoundSelection<BookSummary> summaryOf(Root<BookEntity> book, CriteriaBuilder cb) {
+    Join<BookEntity, CategoryEntity> category = book.join("category");
+    return cb.construct(
+        BookSummary.class,
+        book.get("id"),
+        category.get("id"),
+        category.get("name"),
+        book.get("title"),
+        book.get("author"),
+        book.get("totalPages"),
+        book.get("pagesRead"),
+        book.get("progress"),
+        book.get("thumbnailUrl"),
+        book.get("googleBookId"),
+        book.get("createdAt"),
+        book.get("updatedAt")
+    );
+  }
+
+  private static void restrict(
+      CriteriaQuery<?> query,
+      Root<BookEntity> book,
+      CriteriaBuilder cb,
+      Specification<BookEntity> specification,
+      Sort sort
+  ) {
+    query.where(specification.toPredicate(book, query, cb));
+    if (sort.isSorted()) {
+      query.orderBy(QueryUtils.toOrders(sort, book, cb));
+    }
+  }
+}
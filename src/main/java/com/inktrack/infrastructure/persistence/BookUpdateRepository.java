@@ -0,0 +1,32 @@
+package com.inktrack.infrastructure.persistence;
+
+import com.inktrack.core.usecases.book.BookPatch;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface BookUpdateRepository {
+
+  /**
+   * Sets only the columns of the fields present in {@code patch} and reads the row back from the same
+   * statement ({@code UPDATE ... RETURNING} on Postgres). Empty when no book of the user matched, or when the
+   * new total pages would fall below the pages already read.
+   */
+  Optional<UpdatedBookRow> patch(Long id, UUID userId, BookPatch patch, OffsetDateTime updatedAt);
+
+  /**
+   * Adds {@code pages}, which may be negative, to the pages read and recomputes the progress in the same
+   * statement. Empty when no book of the user matched, or when the result would fall outside zero to the
+   * total pages.
+   */
+  Optional<UpdatedBookRow> addPagesRead(Long id, UUID userId, int pages, OffsetDateTime updatedAt);
+
+  /**
+   * Sends one conditional increment per book as a single JDBC batch, in the map's iteration order. Returns the
+   * ids of the books that matched: owned by the user, with the result between zero and the total pages.
+   */
+  Set<Long> addPagesRead(UUID userId, Map<Long, Integer> pagesByBook, OffsetDateTime updatedAt);
+}
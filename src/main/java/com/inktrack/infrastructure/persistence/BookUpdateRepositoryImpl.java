@@ -0,0 +1,133 @@
+package com.inktrack.infrastructure.persistence;
+
+import com.inktrack.core.usecases.book.BookPatch;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Single-statement updates of {@code tb_books}. The updated row is read back through JDBC generated keys, which
+ * the Postgres driver sends as a {@code RETURNING} clause, so no SELECT is needed before or after the write.
+ */
+class BookUpdateRepositoryImpl implements BookUpdateRepository {
+
+  private static final String[] RETURNED_COLUMNS = {
+      "id", "category_id", "title", "author", "total_pages", "pages_read",
+      "thumbnail_url", "google_book_id", "created_at", "updated_at"
+  };
+
+  private final JdbcTemplate jdbcTemplate;
+
+  BookUpdateRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public Optional<UpdatedBookRow> patch(Long id, UUID userId, BookPatch patch, OffsetDateTime updatedAt) {
+    List<String> assignments = new ArrayList<>();
+    List<Object> values = new ArrayList<>();
+    assign(assignments, values, "title", patch.title());
+    assign(assignments, values, "author", patch.author());
+    assign(assignments, values, "category_id", patch.categoryId());
+    assign(assignments, values, "google_book_id", patch.googleBookId());
+    if (patch.clearGoogleBookId()) {
+      assignments.add("google_book_id = NULL");
+    }
+    assign(assignments, values, "thumbnail_url", patch.thumbnailUrl());
+    if (patch.totalPages() != null) {
+      assignments.add("total_pages = ?");
+      assignments.add("progress = pages_read * 100 / ?");
+      values.add(patch.totalPages());
+      values.add(patch.totalPages());
+    }
+    assign(assignments, values, "updated_at", updatedAt);
+
+    StringBuilder sql = new StringBuilder("UPDATE tb_books SET ")
+        .append(String.join(", ", assignments))
+        .append(" WHERE id = ? AND user_id = ?");
+    values.add(id);
+    values.add(userId);
+    if (patch.totalPages() != null) {
+      sql.append(" AND pages_read <= ?");
+      values.add(patch.totalPages());
+    }
+    return updateReturning(sql.toString(), values);
+  }
+
+  @Override
+  public Optional<UpdatedBookRow> addPagesRead(Long id, UUID userId, int pages, OffsetDateTime updatedAt) {
+    String sql = "UPDATE tb_books"
+        + " SET pages_read = pages_read + ?, progress = (pages_read + ?) * 100 / total_pages, updated_at = ?"
+        + " WHERE id = ? AND user_id = ? AND pages_read + ? BETWEEN 0 AND total_pages";
+    return updateReturning(sql, List.of(pages, pages, updatedAt, id, userId, pages));
+  }
+
+  @Override
+  public Set<Long> addPagesRead(UUID userId, Map<Long, Integer> pagesByBook, OffsetDateTime updatedAt) {
+    String sql = "UPDATE tb_books"
+        + " SET pages_read = pages_read + ?, progress = (pages_read + ?) * 100 / total_pages, updated_at = ?"
+        + " WHERE id = ? AND user_id = ? AND ? BETWEEN -pages_read AND total_pages - pages_read";
+    List<Long> ids = new ArrayList<>(pagesByBook.keySet());
+    List<Object[]> rows = ids.stream()
+        .map(id -> {
+          int pages = pagesByBook.get(id);
+          return new Object[]{pages, pages, updatedAt, id, userId, pages};
+        })
+        .toList();
+    int[] counts = jdbcTemplate.batchUpdate(sql, rows);
+    Set<Long> updated = new HashSet<>();
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] > 0) {
+        updated.add(ids.get(i));
+      }
+    }
+    return updated;
+  }
+
+  private static void assign(List<String> assignments, List<Object> values, String column, Object value) {
+    if (value != null) {
+      assignments.add(column + " = ?");
+      values.add(value);
+    }
+  }
+
+  private Optional<UpdatedBookRow> updateReturning(String sql, List<Object> values) {
+    return jdbcTemplate.execute(
+        connection -> connection.prepareStatement(sql, RETURNED_COLUMNS),
+        (PreparedStatement statement) -> {
+          for (int i = 0; i < values.size(); i++) {
+            statement.setObject(i + 1, values.get(i));
+          }
+          statement.executeUpdate();
+          try (ResultSet row = statement.getGeneratedKeys()) {
+            return row.next() ? Optional.of(toRow(row)) : Optional.empty();
+          }
+        }
+    );
+  }
+
+  private static UpdatedBookRow toRow(ResultSet row) throws SQLException {
+    return new UpdatedBookRow(
+        row.getLong("id"),
+        row.getLong("category_id"),
+        row.getString("title"),
+        row.getString("author"),
+        row.getInt("total_pages"),
+        row.getInt("pages_read"),
+        row.getString("thumbnail_url"),
+        row.getString("google_book_id"),
+        row.getObject("created_at", OffsetDateTime.class),
+        row.getObject("updated_at", OffsetDateTime.class)
+    );
+  }
+}
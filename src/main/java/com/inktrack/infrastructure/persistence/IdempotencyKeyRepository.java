@@ -0,0 +1,87 @@
+package com.inktrack.infrastructure.persistence;
+
+import com.inktrack.infrastructure.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, IdempotencyKeyEntity.Key> {
+
+  /**
+   * Claims the key with a pending row. Returns 0 when the user already has a row for the key.
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      INSERT INTO tb_idempotency_keys (user_id, idempotency_key, fingerprint, created_at, expires_at)
+      VALUES (:userId, :key, :fingerprint, :now, :expiresAt)
+      ON CONFLICT DO NOTHING
+      """, nativeQuery = true)
+  int insertPending(
+      @Param("userId") UUID userId,
+      @Param("key") String key,
+      @Param("fingerprint") String fingerprint,
+      @Param("now") OffsetDateTime now,
+      @Param("expiresAt") OffsetDateTime expiresAt
+  );
+
+  /**
+   * Claims the key over a row that has expired, or that stayed pending since before {@code staleBefore}
+   * because the node handling it went away.
+   */
+  @Modifying
+  @Transactional
+  @Query("""
+      UPDATE IdempotencyKeyEntity k
+      SET k.fingerprint = :fingerprint, k.status = NULL, k.contentType = NULL, k.body = NULL,
+          k.createdAt = :now, k.expiresAt = :expiresAt
+      WHERE k.userId = :userId
+      AND k.idempotencyKey = :key
+      AND (k.expiresAt <= :now OR (k.status IS NULL AND k.createdAt < :staleBefore))
+      """)
+  int takeOver(
+      @Param("userId") UUID userId,
+      @Param("key") String key,
+      @Param("fingerprint") String fingerprint,
+      @Param("now") OffsetDateTime now,
+      @Param("staleBefore") OffsetDateTime staleBefore,
+      @Param("expiresAt") OffsetDateTime expiresAt
+  );
+
+  @Modifying
+  @Transactional
+  @Query("""
+      UPDATE IdempotencyKeyEntity k
+      SET k.status = :status, k.contentType = :contentType, k.location = :location, k.body = :body
+      WHERE k.userId = :userId
+      AND k.idempotencyKey = :key
+      """)
+  int complete(
+      @Param("userId") UUID userId,
+      @Param("key") String key,
+      @Param("status") int status,
+      @Param("contentType") String contentType,
+      @Param("location") String location,
+      @Param("body") byte[] body
+  );
+
+  @Modifying
+  @Transactional
+  @Query("""
+      DELETE FROM IdempotencyKeyEntity k
+      WHERE k.userId = :userId
+      AND k.idempotencyKey = :key
+      AND k.status IS NULL
+      """)
+  int deletePending(@Param("userId") UUID userId, @Param("key") String key);
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.expiresAt <= :now")
+  int deleteExpired(@Param("now") OffsetDateTime now);
+}
@@ -0,0 +1,76 @@
+package com.inktrack.infrastructure.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Offset page that reads one row past the requested size, so callers can tell whether another page
+ * exists without running a count query.
+ */
+public final class LookaheadPageRequest implements Pageable {
+
+  private final int page;
+  private final int size;
+  private final Sort sort;
+
+  private LookaheadPageRequest(int page, int size, Sort sort) {
+    if (page < 0) {
+      throw new IllegalArgumentException("Page index must not be negative");
+    }
+    if (size < 1) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+    this.page = page;
+    this.size = size;
+    this.sort = sort;
+  }
+
+  public static LookaheadPageRequest of(int page, int size, Sort sort) {
+    return new LookaheadPageRequest(page, size, sort);
+  }
+
+  @Override
+  public int getPageNumber() {
+    return page;
+  }
+
+  @Override
+  public int getPageSize() {
+    return size + 1;
+  }
+
+  @Override
+  public long getOffset() {
+    return (long) page * size;
+  }
+
+  @Override
+  public Sort getSort() {
+    return sort;
+  }
+
+  @Override
+  public Pageable next() {
+    return new LookaheadPageRequest(page + 1, size, sort);
+  }
+
+  @Override
+  public Pageable previousOrFirst() {
+    return hasPrevious() ? new LookaheadPageRequest(page - 1, size, sort) : first();
+  }
+
+  @Override
+  public Pageable first() {
+    return new LookaheadPageRequest(0, size, sort);
+  }
+
+  @Override
+  public Pageable withPage(int pageNumber) {
+    return new LookaheadPageRequest(pageNumber, size, sort);
+  }
+
+  @Override
+  public boolean hasPrevious() {
+    return page > 0;
+  }
+}
@@ -1,7 +1,8 @@
 package com.inktrack.infrastructure.persistence;
 
+import com.inktrack.core.usecases.note.NoteOutput;
+import com.inktrack.core.utils.VersionStamp;
 import com.inktrack.infrastructure.entity.NoteEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,23 +10,49 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface NoteRepository extends JpaRepository<NoteEntity, Long> {
 
     @Query("""
-                SELECT n
+                SELECT new com.inktrack.core.usecases.note.NoteOutput(
+                    n.id, n.book.id, n.content, n.createdAt, n.updatedAt)
                 FROM NoteEntity n
                 WHERE n.book.id = :bookId
                 AND n.book.user.id = :userId
             """)
-    Page<NoteEntity> findByBookIdAndUserId(
+    List<NoteOutput> findByBookIdAndUserId(
             @Param("bookId") Long bookId,
             @Param("userId") UUID userId,
             Pageable pageable
     );
 
+    @Query("""
+                SELECT new com.inktrack.core.usecases.note.NoteOutput(
+                    n.id, n.book.id, n.content, n.createdAt, n.updatedAt), COUNT(*) OVER ()
+                FROM NoteEntity n
+                WHERE n.book.id = :bookId
+                AND n.book.user.id = :userId
+            """)
+    List<Object[]> findByBookIdAndUserIdWithTotal(
+            @Param("bookId") Long bookId,
+            @Param("userId") UUID userId,
+            Pageable pageable
+    );
+
+    @Query("SELECT COUNT(n) FROM NoteEntity n WHERE n.book.id = :bookId AND n.book.user.id = :userId")
+    long countByBookIdAndUserId(@Param("bookId") Long bookId, @Param("userId") UUID userId);
+
+    @Query("""
+                SELECT new com.inktrack.core.utils.VersionStamp(MAX(n.updatedAt), COUNT(n))
+                FROM NoteEntity n
+                WHERE n.book.id = :bookId
+                AND n.book.user.id = :userId
+            """)
+    VersionStamp getNotesVersion(@Param("bookId") Long bookId, @Param("userId") UUID userId);
+
     @Query("""
                SELECT n
                FROM NoteEntity n
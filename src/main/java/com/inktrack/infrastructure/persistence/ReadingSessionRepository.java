@@ -1,9 +1,12 @@
 package com.inktrack.infrastructure.persistence;
 
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionOutput;
+import com.inktrack.core.utils.VersionStamp;
 import com.inktrack.infrastructure.entity.ReadingSessionEntity;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,15 +19,38 @@ import java.util.UUID;
 public interface ReadingSessionRepository extends JpaRepository<ReadingSessionEntity, Long> {
 
   @Query("""
-          SELECT r
+          SELECT new com.inktrack.core.usecases.reading.sessions.ReadingSessionOutput(
+              r.id, r.book.id, r.minutes, r.pagesRead, r.sessionDate)
           FROM ReadingSessionEntity r
           WHERE r.book.id = :bookId
           AND r.book.user.id = :userId
       """)
-  Page<ReadingSessionEntity> getReadingSession(@Param("bookId") Long bookId,
+  List<ReadingSessionOutput> getReadingSession(@Param("bookId") Long bookId,
                                                @Param("userId") UUID userId,
                                                Pageable pageable);
 
+  @Query("""
+          SELECT new com.inktrack.core.usecases.reading.sessions.ReadingSessionOutput(
+              r.id, r.book.id, r.minutes, r.pagesRead, r.sessionDate), COUNT(*) OVER ()
+          FROM ReadingSessionEntity r
+          WHERE r.book.id = :bookId
+          AND r.book.user.id = :userId
+      """)
+  List<Object[]> getReadingSessionWithTotal(@Param("bookId") Long bookId,
+                                            @Param("userId") UUID userId,
+                                            Pageable pageable);
+
+  @Query("SELECT COUNT(r) FROM ReadingSessionEntity r WHERE r.book.id = :bookId AND r.book.user.id = :userId")
+  long countReadingSession(@Param("bookId") Long bookId, @Param("userId") UUID userId);
+
+  @Query("""
+          SELECT new com.inktrack.core.utils.VersionStamp(MAX(r.updatedAt), COUNT(r))
+          FROM ReadingSessionEntity r
+          WHERE r.book.id = :bookId
+          AND r.book.user.id = :userId
+      """)
+  VersionStamp getReadingSessionsVersion(@Param("bookId") Long bookId, @Param("userId") UUID userId);
+
   @Query("""
           SELECT r
           FROM ReadingSessionEntity r
@@ -38,6 +64,20 @@ public interface ReadingSessionRepository extends JpaRepository<ReadingSessionEn
       @Param("userId") UUID userId
   );
 
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("""
+          SELECT r
+          FROM ReadingSessionEntity r
+          WHERE r.id = :readingId
+          AND r.book.id = :bookId
+          AND r.book.user.id = :userId
+      """)
+  Optional<ReadingSessionEntity> lockByIdAndBookIdAndUserId(
+      @Param("readingId") Long readingSessionId,
+      @Param("bookId") Long bookId,
+      @Param("userId") UUID userId
+  );
+
   @Modifying
   @Query("""
           DELETE FROM ReadingSessionEntity r
@@ -0,0 +1,22 @@
+package com.inktrack.infrastructure.persistence;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ReadingSessionSyncKeyClaimRepository {
+
+  /**
+   * Inserts a key row without a session for every key the user does not have yet, as a single JDBC batch of
+   * {@code INSERT ... ON CONFLICT DO NOTHING}, and returns the keys that were inserted. A key another
+   * transaction has just inserted is waited on, and only counts as claimed here if that transaction rolls back.
+   */
+  Set<String> claimAll(UUID userId, List<String> syncKeys, OffsetDateTime createdAt);
+
+  /**
+   * Points claimed keys at their sessions in a single JDBC batch; {@code syncKeys} and {@code sessionIds} are
+   * paired by position.
+   */
+  void attachSessions(UUID userId, List<String> syncKeys, List<Long> sessionIds);
+}
@@ -0,0 +1,51 @@
+package com.inktrack.infrastructure.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Key rows carry assigned ids, so writing them as entities would cost a SELECT each before the insert. The
+ * update count of each batched insert tells whether that key was claimed, which Postgres and H2 both report.
+ * Keys are claimed in sorted order, so two batches that share keys wait on each other instead of deadlocking.
+ */
+class ReadingSessionSyncKeyClaimRepositoryImpl implements ReadingSessionSyncKeyClaimRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  ReadingSessionSyncKeyClaimRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public Set<String> claimAll(UUID userId, List<String> syncKeys, OffsetDateTime createdAt) {
+    String sql = "INSERT INTO tb_reading_session_sync_keys (user_id, sync_key, created_at)"
+        + " VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+    List<String> sorted = syncKeys.stream().sorted().toList();
+    List<Object[]> rows = sorted.stream()
+        .map(syncKey -> new Object[]{userId, syncKey, createdAt})
+        .toList();
+    int[] counts = jdbcTemplate.batchUpdate(sql, rows);
+    Set<String> claimed = new HashSet<>();
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] > 0) {
+        claimed.add(sorted.get(i));
+      }
+    }
+    return claimed;
+  }
+
+  @Override
+  public void attachSessions(UUID userId, List<String> syncKeys, List<Long> sessionIds) {
+    String sql = "UPDATE tb_reading_session_sync_keys SET session_id = ? WHERE user_id = ? AND sync_key = ?";
+    List<Object[]> rows = IntStream.range(0, syncKeys.size())
+        .mapToObj(i -> new Object[]{sessionIds.get(i), userId, syncKeys.get(i)})
+        .toList();
+    jdbcTemplate.batchUpdate(sql, rows);
+  }
+}
@@ -0,0 +1,36 @@
+package com.inktrack.infrastructure.persistence;
+
+import com.inktrack.infrastructure.entity.ReadingSessionSyncKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReadingSessionSyncKeyRepository
+    extends JpaRepository<ReadingSessionSyncKeyEntity, ReadingSessionSyncKeyEntity.Key>,
+    ReadingSessionSyncKeyClaimRepository {
+
+  @Query("""
+          SELECT k
+          FROM ReadingSessionSyncKeyEntity k
+          WHERE k.userId = :userId
+          AND k.syncKey IN :syncKeys
+      """)
+  List<ReadingSessionSyncKeyEntity> findByUserIdAndSyncKeyIn(
+      @Param("userId") UUID userId,
+      @Param("syncKeys") Collection<String> syncKeys
+  );
+
+  @Modifying
+  @Query("""
+          DELETE FROM ReadingSessionSyncKeyEntity k
+          WHERE k.userId = :userId
+          AND k.syncKey IN :syncKeys
+          AND k.sessionId IS NULL
+      """)
+  int deleteUnattached(@Param("userId") UUID userId, @Param("syncKeys") Collection<String> syncKeys);
+}
@@ -0,0 +1,39 @@
+package com.inktrack.infrastructure.persistence;
+
+import com.inktrack.infrastructure.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+  @Query("SELECT r FROM RevokedTokenEntity r WHERE r.expiresAt > :now")
+  List<RevokedTokenEntity> findAllActive(@Param("now") LocalDateTime now);
+
+  boolean existsByJtiAndExpiresAtAfter(String jti, LocalDateTime now);
+
+  @Modifying
+  @Transactional
+  @Query(value = """
+      INSERT INTO tb_revoked_tokens (jti, user_id, expires_at, revoked_at)
+      VALUES (:jti, :userId, :expiresAt, :revokedAt)
+      ON CONFLICT DO NOTHING
+      """, nativeQuery = true)
+  int insertIfAbsent(
+      @Param("jti") String jti,
+      @Param("userId") UUID userId,
+      @Param("expiresAt") LocalDateTime expiresAt,
+      @Param("revokedAt") LocalDateTime revokedAt
+  );
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt <= :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
+}
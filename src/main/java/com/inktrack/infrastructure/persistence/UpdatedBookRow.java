@@ -0,0 +1,20 @@
+package com.inktrack.infrastructure.persistence;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Columns of {@code tb_books} as returned by an update, without the owner and category joins.
+ */
+public record UpdatedBookRow(
+    Long id,
+    Long categoryId,
+    String title,
+    String author,
+    int totalPages,
+    int pagesRead,
+    String thumbnailUrl,
+    String googleBookId,
+    OffsetDateTime createdAt,
+    OffsetDateTime updatedAt
+) {
+}
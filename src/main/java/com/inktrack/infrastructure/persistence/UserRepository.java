@@ -2,10 +2,28 @@ package com.inktrack.infrastructure.persistence;
 
 import com.inktrack.infrastructure.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<UserEntity, UUID> {
-  Optional<UserEntity> findByEmail(String email);
+  @Query("SELECT u FROM UserEntity u WHERE LOWER(u.email) = LOWER(:email)")
+  Optional<UserEntity> findByEmail(@Param("email") String email);
+
+  @Query("SELECT u.tokenVersion FROM UserEntity u WHERE u.id = :userId")
+  Optional<Integer> findTokenVersionById(@Param("userId") UUID userId);
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE UserEntity u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+  int incrementTokenVersion(@Param("userId") UUID userId);
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE UserEntity u SET u.password = :password WHERE u.id = :userId")
+  int updatePassword(@Param("userId") UUID userId, @Param("password") String password);
 }
@@ -0,0 +1,137 @@
+package com.inktrack.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inktrack.infrastructure.config.RateLimitConfig;
+import com.inktrack.infrastructure.utils.CustomFieldError;
+import com.inktrack.infrastructure.utils.response.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles the unauthenticated auth endpoints with one token bucket per client IP and, for login and
+ * register, one per email. Idle buckets are evicted and the number of tracked keys is bounded.
+ */
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+  private static final Set<String> LIMITED_PATHS = Set.of("/auth/login", "/auth/register", "/auth/refresh");
+  private static final Set<String> EMAIL_PATHS = Set.of("/auth/login", "/auth/register");
+
+  private final RateLimitConfig config;
+  private final ObjectMapper objectMapper;
+  private final Cache<String, TokenBucket> buckets;
+
+  public AuthRateLimitFilter(RateLimitConfig config, ObjectMapper objectMapper) {
+    this.config = config;
+    this.objectMapper = objectMapper;
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(config.getMaxTrackedKeys())
+        .expireAfterAccess(config.getIdleExpirationMinutes(), TimeUnit.MINUTES)
+        .build();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !config.isEnabled()
+        || !HttpMethod.POST.matches(request.getMethod())
+        || !LIMITED_PATHS.contains(pathWithinApplication(request));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain
+  ) throws ServletException, IOException {
+    long waitNanos = acquire("ip:" + request.getRemoteAddr(), config.getIpCapacity(),
+        config.getIpRefillPeriodSeconds());
+    HttpServletRequest forwarded = request;
+
+    if (waitNanos == 0 && EMAIL_PATHS.contains(pathWithinApplication(request))) {
+      CachedBodyHttpServletRequest cachedRequest;
+      try {
+        cachedRequest = new CachedBodyHttpServletRequest(request, config.getMaxBodyBytes());
+      } catch (CachedBodyHttpServletRequest.BodyTooLargeException e) {
+        rejectTooLarge(response);
+        return;
+      }
+      String email = extractEmail(cachedRequest.getBody());
+      if (email != null) {
+        waitNanos = acquire("email:" + email, config.getEmailCapacity(), config.getEmailRefillPeriodSeconds());
+      }
+      forwarded = cachedRequest;
+    }
+
+    if (waitNanos > 0) {
+      reject(response, waitNanos);
+      return;
+    }
+
+    filterChain.doFilter(forwarded, response);
+  }
+
+  private long acquire(String key, int capacity, long refillPeriodSeconds) {
+    long now = System.nanoTime();
+    TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, Duration.ofSeconds(refillPeriodSeconds), now));
+    return bucket.tryAcquire(now);
+  }
+
+  private String extractEmail(byte[] body) {
+    if (body.length == 0) {
+      return null;
+    }
+    try {
+      JsonNode email = objectMapper.readTree(body).path("email");
+      return email.isString() ? email.stringValue().trim().toLowerCase(Locale.ROOT) : null;
+    } catch (JacksonException e) {
+      return null;
+    }
+  }
+
+  private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+    long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    ApiResponse<Object> body = ApiResponse.failure(
+        List.of(new CustomFieldError("rate_limit", "Too many attempts, try again later")),
+        "Too many requests"
+    );
+
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.getWriter().write(objectMapper.writeValueAsString(body));
+  }
+
+  private void rejectTooLarge(HttpServletResponse response) throws IOException {
+    ApiResponse<Object> body = ApiResponse.failure(
+        List.of(new CustomFieldError("body", "The request body is too large")),
+        "Payload too large"
+    );
+
+    response.setStatus(HttpStatus.CONTENT_TOO_LARGE.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.getWriter().write(objectMapper.writeValueAsString(body));
+  }
+
+  private static String pathWithinApplication(HttpServletRequest request) {
+    return request.getRequestURI().substring(request.getContextPath().length());
+  }
+}
@@ -0,0 +1,104 @@
+package com.inktrack.infrastructure.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the request body up front so a filter can inspect it and the controller can still read it. At most
+ * {@code maxBytes} are buffered: a larger body, declared or actually sent, fails with
+ * {@link BodyTooLargeException} before the rest is read.
+ */
+final class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+  private final byte[] body;
+
+  CachedBodyHttpServletRequest(HttpServletRequest request, int maxBytes) throws IOException {
+    super(request);
+    if (request.getContentLengthLong() > maxBytes) {
+      throw new BodyTooLargeException(maxBytes);
+    }
+    byte[] read = request.getInputStream().readNBytes(maxBytes + 1);
+    if (read.length > maxBytes) {
+      throw new BodyTooLargeException(maxBytes);
+    }
+    this.body = read;
+  }
+
+  byte[] getBody() {
+    return body;
+  }
+
+  @Override
+  public ServletInputStream getInputStream() {
+    ByteArrayInputStream stream = new ByteArrayInputStream(body);
+    return new ServletInputStream() {
+      @Override
+      public boolean isFinished() {
+        return stream.available() == 0;
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      /**
+       * The whole body is already in memory, so it is available at once.
+       */
+      @Override
+      public void setReadListener(ReadListener readListener) {
+        try {
+          readListener.onDataAvailable();
+          if (isFinished()) {
+            readListener.onAllDataRead();
+          }
+        } catch (IOException e) {
+          readListener.onError(e);
+        }
+      }
+
+      @Override
+      public int read() {
+        return stream.read();
+      }
+
+      @Override
+      public int read(byte[] buffer, int offset, int length) {
+        return stream.read(buffer, offset, length);
+      }
+    };
+  }
+
+  @Override
+  public BufferedReader getReader() {
+    String encoding = getCharacterEncoding();
+    Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+  }
+
+  @Override
+  public int getContentLength() {
+    return body.length;
+  }
+
+  @Override
+  public long getContentLengthLong() {
+    return body.length;
+  }
+
+  static final class BodyTooLargeException extends IOException {
+
+    BodyTooLargeException(int maxBytes) {
+      super("The request body exceeds " + maxBytes + " bytes");
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package com.inktrack.infrastructure.security;
+
+import com.inktrack.infrastructure.config.IdempotencyConfig;
+import com.inktrack.infrastructure.entity.UserEntity;
+import com.inktrack.infrastructure.gateway.IdempotencyStore;
+import com.inktrack.infrastructure.gateway.IdempotencyStore.Claim;
+import com.inktrack.infrastructure.gateway.IdempotencyStore.StoredResponse;
+import com.inktrack.infrastructure.utils.CustomFieldError;
+import com.inktrack.infrastructure.utils.response.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Makes authenticated POSTs that carry an {@value #HEADER} header safe to retry: the first request with a key
+ * runs, and every later one with the same key and the same body gets its response back, marked with
+ * {@value #REPLAYED_HEADER}, without reaching the controller. The replay keeps the status, content type,
+ * {@code Location} header and body. Bodies over the configured limit are refused with 413 rather than buffered.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  static final String HEADER = "Idempotency-Key";
+  static final String REPLAYED_HEADER = "Idempotent-Replayed";
+  static final int MAX_KEY_LENGTH = 255;
+
+  private final IdempotencyConfig config;
+  private final IdempotencyStore store;
+  private final ObjectMapper objectMapper;
+
+  public IdempotencyFilter(IdempotencyConfig config, IdempotencyStore store, ObjectMapper objectMapper) {
+    this.config = config;
+    this.store = store;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !config.isEnabled()
+        || !HttpMethod.POST.matches(request.getMethod())
+        || request.getHeader(HEADER) == null;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain
+  ) throws ServletException, IOException {
+    UUID userId = currentUserId();
+    if (userId == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    String key = request.getHeader(HEADER);
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      reject(response, HttpStatus.BAD_REQUEST, "The " + HEADER + " header must have 1 to " + MAX_KEY_LENGTH
+          + " characters.");
+      return;
+    }
+
+    CachedBodyHttpServletRequest cachedRequest;
+    try {
+      cachedRequest = new CachedBodyHttpServletRequest(request, config.getMaxRequestBytes());
+    } catch (CachedBodyHttpServletRequest.BodyTooLargeException e) {
+      reject(response, HttpStatus.CONTENT_TOO_LARGE, "The request body is too large to be made idempotent.");
+      return;
+    }
+    Claim claim = store.begin(userId, key, fingerprint(cachedRequest));
+    switch (claim.outcome()) {
+      case PROCEED -> proceed(cachedRequest, response, filterChain, claim);
+      case REPLAY -> replay(response, claim.response());
+      case MISMATCH -> reject(response, HttpStatus.UNPROCESSABLE_CONTENT, "This " + HEADER
+          + " was already used for a different request.");
+      case BUSY -> {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        reject(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is still being processed.");
+      }
+    }
+  }
+
+  private void proceed(
+      CachedBodyHttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain,
+      Claim claim
+  ) throws ServletException, IOException {
+    ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+    try {
+      filterChain.doFilter(request, wrapper);
+    } catch (IOException | ServletException | RuntimeException e) {
+      store.release(claim);
+      throw e;
+    }
+    store.complete(
+        claim,
+        wrapper.getStatus(),
+        wrapper.getContentType(),
+        wrapper.getHeader(HttpHeaders.LOCATION),
+        wrapper.getContentAsByteArray()
+    );
+    wrapper.copyBodyToResponse();
+  }
+
+  private static void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+    response.setStatus(stored.status());
+    response.setHeader(REPLAYED_HEADER, "true");
+    if (stored.contentType() != null) {
+      response.setContentType(stored.contentType());
+    }
+    if (stored.location() != null) {
+      response.setHeader(HttpHeaders.LOCATION, stored.location());
+    }
+    response.setContentLength(stored.body().length);
+    response.getOutputStream().write(stored.body());
+  }
+
+  private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+    ApiResponse<Object> body = ApiResponse.failure(List.of(new CustomFieldError(HEADER, message)), "Invalid request");
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.getWriter().write(objectMapper.writeValueAsString(body));
+  }
+
+  private static UUID currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof UserEntity user) {
+      return user.getId();
+    }
+    return null;
+  }
+
+  /**
+   * Hashes the method, path, query and body, which is what a retry must repeat exactly.
+   */
+  private static String fingerprint(CachedBodyHttpServletRequest request) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      String target = request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n";
+      digest.update(target.getBytes(StandardCharsets.UTF_8));
+      digest.update(request.getBody());
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.inktrack.infrastructure.security;
+
+import com.inktrack.core.exception.EmailNotFoundException;
+import com.inktrack.infrastructure.config.CacheConfig;
+import com.inktrack.infrastructure.entity.UserEntity;
+import com.inktrack.infrastructure.persistence.UserRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Resolves the authenticated principal for a user id, keeping recently seen users in the
+ * {@link CacheConfig#PRINCIPAL_CACHE} cache so authenticated requests skip the user lookup.
+ * Entries are evicted by {@code UserGatewayImpl} whenever a user is changed or deleted.
+ */
+@Component
+public class PrincipalLoader {
+
+  private final UserRepository userRepository;
+
+  public PrincipalLoader(UserRepository userRepository) {
+    this.userRepository = userRepository;
+  }
+
+  @Cacheable(value = CacheConfig.PRINCIPAL_CACHE, key = "#userId")
+  public UserEntity loadById(UUID userId) {
+    return userRepository.findById(userId)
+        .orElseThrow(() -> new EmailNotFoundException("User Not Found"));
+  }
+}
@@ -15,9 +15,17 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
   private final SecurityFilter securityFilter;
-
-  public SecurityConfig(SecurityFilter securityFilter) {
+  private final AuthRateLimitFilter authRateLimitFilter;
+  private final IdempotencyFilter idempotencyFilter;
+
+  public SecurityConfig(
+      SecurityFilter securityFilter,
+      AuthRateLimitFilter authRateLimitFilter,
+      IdempotencyFilter idempotencyFilter
+  ) {
     this.securityFilter = securityFilter;
+    this.authRateLimitFilter = authRateLimitFilter;
+    this.idempotencyFilter = idempotencyFilter;
   }
 
   @Bean
@@ -36,9 +44,12 @@ public class SecurityConfig {
             .requestMatchers("/auth/refresh").permitAll()
             .requestMatchers("/actuator/health").permitAll()
             .requestMatchers("/categories/**").permitAll()
+            .requestMatchers("/thumbnails/**").permitAll()
             .anyRequest().authenticated()
         )
-        .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterBefore(authRateLimitFilter, SecurityFilter.class)
+        .addFilterAfter(idempotencyFilter, SecurityFilter.class);
 
     return http.build();
   }
@@ -1,10 +1,10 @@
 package com.inktrack.infrastructure.security;
 
 import com.auth0.jwt.exceptions.TokenExpiredException;
-import com.inktrack.core.exception.EmailNotFoundException;
 import com.inktrack.core.gateway.JwtGateway;
+import com.inktrack.core.gateway.JwtGateway.VerifiedToken;
+import com.inktrack.infrastructure.config.StatelessAuthConfig;
 import com.inktrack.infrastructure.entity.UserEntity;
-import com.inktrack.infrastructure.persistence.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,17 +17,25 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.UUID;
 
 @Component
 public class SecurityFilter extends OncePerRequestFilter {
 
   private final JwtGateway jwtGateway;
-  private final UserRepository userRepository;
-
-  public SecurityFilter(JwtGateway jwtGateway, UserRepository userRepository) {
+  private final PrincipalLoader principalLoader;
+  private final TokenVersionRegistry tokenVersionRegistry;
+  private final boolean stateless;
+
+  public SecurityFilter(
+      JwtGateway jwtGateway,
+      PrincipalLoader principalLoader,
+      TokenVersionRegistry tokenVersionRegistry,
+      StatelessAuthConfig statelessAuthConfig
+  ) {
     this.jwtGateway = jwtGateway;
-    this.userRepository = userRepository;
+    this.principalLoader = principalLoader;
+    this.tokenVersionRegistry = tokenVersionRegistry;
+    this.stateless = statelessAuthConfig.isStateless();
   }
 
   @Override
@@ -42,17 +50,19 @@ public class SecurityFilter extends OncePerRequestFilter {
     if (token != null) {
 
       try {
-        String tokenType = jwtGateway.extractTokenType(token);
+        VerifiedToken verified = jwtGateway.verify(token);
 
-        if (!"access".equals(tokenType)) {
+        if (!"access".equals(verified.type())) {
           response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
           return;
         }
 
-        UUID userId = jwtGateway.extractUserId(token);
+        UserEntity user = resolvePrincipal(verified);
 
-        UserEntity user = userRepository.findById(userId)
-            .orElseThrow(() -> new EmailNotFoundException("User Not Found"));
+        if (user == null) {
+          response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+          return;
+        }
 
         var authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
 
@@ -74,6 +84,18 @@ public class SecurityFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
   }
 
+  private UserEntity resolvePrincipal(VerifiedToken verified) {
+    if (!stateless || !verified.hasPrincipalClaims()) {
+      return principalLoader.loadById(verified.subject());
+    }
+    if (!tokenVersionRegistry.isCurrent(verified.subject(), verified.tokenVersion())) {
+      return null;
+    }
+    UserEntity user = new UserEntity(verified.subject(), verified.name(), verified.email(), null);
+    user.setTokenVersion(verified.tokenVersion());
+    return user;
+  }
+
   private String recoverToken(HttpServletRequest request) {
     String authHeader = request.getHeader("Authorization");
 
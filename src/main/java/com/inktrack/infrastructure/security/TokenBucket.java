@@ -0,0 +1,39 @@
+package com.inktrack.infrastructure.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket kept as a single theoretical arrival time (GCRA). A bucket holds up to
+ * {@code capacity} tokens and regains one every {@code refillPeriod / capacity}; acquiring is one CAS.
+ */
+final class TokenBucket {
+
+  private final long emissionIntervalNanos;
+  private final long burstToleranceNanos;
+  private final AtomicLong theoreticalArrival;
+
+  TokenBucket(int capacity, Duration refillPeriod, long nowNanos) {
+    this.emissionIntervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+    this.burstToleranceNanos = emissionIntervalNanos * capacity;
+    this.theoreticalArrival = new AtomicLong(nowNanos);
+  }
+
+  /**
+   * Takes one token, returning {@code 0} on success or the nanoseconds until a token is available.
+   */
+  long tryAcquire(long nowNanos) {
+    while (true) {
+      long current = theoreticalArrival.get();
+      long base = current - nowNanos > 0 ? current : nowNanos;
+      long next = base + emissionIntervalNanos;
+      long waitNanos = next - burstToleranceNanos - nowNanos;
+      if (waitNanos > 0) {
+        return waitNanos;
+      }
+      if (theoreticalArrival.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+}
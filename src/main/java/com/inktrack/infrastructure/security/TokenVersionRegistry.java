@@ -0,0 +1,40 @@
+package com.inktrack.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.inktrack.infrastructure.config.StatelessAuthConfig;
+import com.inktrack.infrastructure.persistence.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * In-memory table of the current token version per user, used by the stateless authentication mode
+ * to reject access tokens issued before the user was changed or deleted. Entries are refreshed from
+ * the database in the background, so other nodes pick up a bump within the configured refresh interval.
+ */
+@Component
+public class TokenVersionRegistry {
+
+  static final int UNKNOWN_USER = -1;
+
+  private final LoadingCache<UUID, Integer> versions;
+
+  public TokenVersionRegistry(UserRepository userRepository, StatelessAuthConfig config) {
+    Duration refreshInterval = Duration.ofSeconds(config.getTokenVersionRefreshSeconds());
+    this.versions = Caffeine.newBuilder()
+        .maximumSize(config.getTokenVersionMaxSize())
+        .refreshAfterWrite(refreshInterval)
+        .expireAfterWrite(refreshInterval.multipliedBy(10))
+        .build(userId -> userRepository.findTokenVersionById(userId).orElse(UNKNOWN_USER));
+  }
+
+  public boolean isCurrent(UUID userId, int tokenVersion) {
+    return versions.get(userId) == tokenVersion;
+  }
+
+  public void invalidate(UUID userId) {
+    versions.invalidate(userId);
+  }
+}
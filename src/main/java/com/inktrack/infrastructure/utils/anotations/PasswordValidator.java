@@ -1,6 +1,6 @@
 package com.inktrack.infrastructure.utils.anotations;
 
-import com.inktrack.core.utils.PasswordCheck;
+import com.inktrack.core.utils.InputRules;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
@@ -12,31 +12,32 @@ public class PasswordValidator implements ConstraintValidator<ValidPassword, Str
           return false;
         }
 
+        int violations = InputRules.passwordViolations(password);
+        if (violations == 0) {
+            return true;
+        }
+
         StringBuilder errorMessage = new StringBuilder();
 
-        if (!PasswordCheck.LOWERCASE_PATTERN.matcher(password).find()) {
+        if ((violations & InputRules.MISSING_LOWERCASE) != 0) {
             errorMessage.append(" Must contain lowercase.");
         }
-        if (!PasswordCheck.UPPERCASE_PATTERN.matcher(password).find()) {
+        if ((violations & InputRules.MISSING_UPPERCASE) != 0) {
             errorMessage.append(" Must contain uppercase.");
         }
-        if (!PasswordCheck.DIGIT_PATTERN.matcher(password).find()) {
+        if ((violations & InputRules.MISSING_DIGIT) != 0) {
             errorMessage.append(" Must contain a digit.");
         }
-        if (!PasswordCheck.SPECIAL_CHAR_PATTERN.matcher(password).find()) {
+        if ((violations & InputRules.MISSING_SPECIAL_CHAR) != 0) {
             errorMessage.append(" Must contain a special character.");
         }
-        if (!PasswordCheck.LENGTH_PATTERN.matcher(password).matches()) {
+        if ((violations & InputRules.TOO_SHORT) != 0) {
             errorMessage.append(" Must be at least 8 characters long.");
         }
 
-        if (!errorMessage.isEmpty()) {
-            context.disableDefaultConstraintViolation();
-            context.buildConstraintViolationWithTemplate(errorMessage.toString().trim())
-                    .addConstraintViolation();
-            return false;
-        }
-
-        return true;
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(errorMessage.toString().trim())
+                .addConstraintViolation();
+        return false;
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.inktrack.infrastructure.utils.response;
+
+import com.inktrack.core.utils.VersionStamp;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.TreeMap;
+
+/**
+ * Answers {@code If-None-Match} from a {@link VersionStamp} before the body is built. The tag is weak because
+ * {@link ApiResponse} carries a render timestamp, and it covers the request URI and parameters, so every page
+ * and filter of a listing has its own tag, plus any caller-specific {@code variant} rendered into the body.
+ * {@code Last-Modified} is sent for information only: it cannot see removals, so it is never used to answer 304.
+ */
+public final class ConditionalGet {
+
+  private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+  private ConditionalGet() {
+  }
+
+  /**
+   * Returns true when the response has been completed as 304 Not Modified. Empty stamps are never matched,
+   * so missing resources still reach the use case and fail as usual.
+   */
+  public static boolean notModified(ServletWebRequest webRequest, VersionStamp stamp, Object... variant) {
+    if (stamp == null || stamp.isEmpty()) {
+      return false;
+    }
+
+    HttpServletResponse response = webRequest.getResponse();
+    if (response != null) {
+      response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+      response.setDateHeader(HttpHeaders.LAST_MODIFIED, stamp.lastModified().toInstant().toEpochMilli());
+    }
+    return webRequest.checkNotModified(etag(webRequest.getRequest(), stamp, variant));
+  }
+
+  static String etag(HttpServletRequest request, VersionStamp stamp, Object... variant) {
+    StringBuilder key = new StringBuilder(request.getRequestURI());
+    new TreeMap<>(request.getParameterMap())
+        .forEach((name, values) -> key.append('&').append(name).append('=').append(String.join(",", values)));
+    for (Object part : variant) {
+      key.append('|').append(part);
+    }
+    key.append('|').append(stamp.lastModified().toInstant()).append('|').append(stamp.count());
+    return "W/\"" + digest(key.toString()) + "\"";
+  }
+
+  private static String digest(String key) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(sha256.digest(key.getBytes(StandardCharsets.UTF_8)), 0, 16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
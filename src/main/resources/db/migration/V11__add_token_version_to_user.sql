@@ -0,0 +1,2 @@
+ALTER TABLE tb_user
+    ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,8 @@
+CREATE TABLE tb_revoked_tokens (
+    jti VARCHAR(36) PRIMARY KEY,
+    user_id UUID NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON tb_revoked_tokens (expires_at);
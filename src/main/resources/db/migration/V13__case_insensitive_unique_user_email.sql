@@ -0,0 +1,4 @@
+ALTER TABLE tb_user
+    DROP CONSTRAINT IF EXISTS tb_user_email_key;
+
+CREATE UNIQUE INDEX ux_user_email_lower ON tb_user (LOWER(email));
@@ -0,0 +1,4 @@
+-- Keyset pagination seeks on (sort field, id) within a user's library
+CREATE INDEX idx_books_user_created_at_id ON tb_books (user_id, created_at, id);
+CREATE INDEX idx_books_user_title_id ON tb_books (user_id, title, id);
+CREATE INDEX idx_books_user_progress_id ON tb_books (user_id, progress, id);
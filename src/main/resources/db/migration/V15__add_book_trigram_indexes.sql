@@ -0,0 +1,6 @@
+-- Trigram indexes let the in-library search serve LOWER(column) LIKE '%term%' from an index
+-- and rank matches with similarity()
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_books_title_trgm ON tb_books USING GIN (LOWER(title) gin_trgm_ops);
+CREATE INDEX idx_books_author_trgm ON tb_books USING GIN (LOWER(author) gin_trgm_ops);
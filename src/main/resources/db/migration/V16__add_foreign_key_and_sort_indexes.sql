@@ -0,0 +1,4 @@
+-- tb_books.user_id is covered by the (user_id, ...) keyset indexes from V14.
+-- Sessions and notes are always read per book, newest first, and cascade-deleted with their book.
+CREATE INDEX idx_reading_sessions_book_date ON tb_reading_sessions (book_id, session_date DESC, id DESC);
+CREATE INDEX idx_notes_book_updated_at ON tb_notes (book_id, updated_at DESC, id DESC);
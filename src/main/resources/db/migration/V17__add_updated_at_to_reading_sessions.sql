@@ -0,0 +1,3 @@
+-- Lets the session listing be fingerprinted by MAX(updated_at) for conditional GETs.
+ALTER TABLE tb_reading_sessions
+    ADD COLUMN updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW();
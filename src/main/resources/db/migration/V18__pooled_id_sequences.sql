@@ -0,0 +1,7 @@
+-- Books, notes and reading sessions take their ids from the BIGSERIAL sequences through Hibernate's
+-- pooled optimizer, which reserves 50 ids per nextval instead of asking the database for each row.
+-- Existing ids are untouched: the next nextval lands 50 past the current value, and Hibernate hands out
+-- the ids below it. The column defaults stay, so plain SQL inserts still get unique ids.
+ALTER SEQUENCE tb_books_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tb_notes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tb_reading_sessions_id_seq INCREMENT BY 50;
@@ -0,0 +1,21 @@
+-- Sync keys of sessions logged offline and replayed through POST /reading-sessions/sync. A key is kept after its
+-- session is deleted, so a late replay of that session is still recognised and not logged again.
+CREATE TABLE public.tb_reading_session_sync_keys
+(
+    user_id    UUID        NOT NULL,
+    sync_key   VARCHAR(64) NOT NULL,
+    session_id BIGINT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (user_id, sync_key),
+
+    CONSTRAINT fk_sync_key_user
+        FOREIGN KEY (user_id)
+            REFERENCES public.tb_user (id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT fk_sync_key_reading_session
+        FOREIGN KEY (session_id)
+            REFERENCES public.tb_reading_sessions (id)
+            ON DELETE SET NULL
+);
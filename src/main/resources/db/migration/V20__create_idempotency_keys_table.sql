@@ -0,0 +1,22 @@
+-- Responses of POST requests sent with an Idempotency-Key header, kept until expires_at so a retry gets the same
+-- answer instead of running again. A row with a null status is a request still in progress.
+CREATE TABLE public.tb_idempotency_keys
+(
+    user_id         UUID         NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    fingerprint     VARCHAR(64)  NOT NULL,
+    status          INTEGER,
+    content_type    VARCHAR(255),
+    body            BYTEA,
+    created_at      TIMESTAMPTZ  NOT NULL,
+    expires_at      TIMESTAMPTZ  NOT NULL,
+
+    PRIMARY KEY (user_id, idempotency_key),
+
+    CONSTRAINT fk_idempotency_key_user
+        FOREIGN KEY (user_id)
+            REFERENCES public.tb_user (id)
+            ON DELETE CASCADE
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON public.tb_idempotency_keys (expires_at);
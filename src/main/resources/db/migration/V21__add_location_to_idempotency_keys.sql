@@ -0,0 +1,3 @@
+-- Location header of the stored response, so a replayed 201 still points at the resource it created.
+ALTER TABLE public.tb_idempotency_keys
+    ADD COLUMN location VARCHAR(2048);
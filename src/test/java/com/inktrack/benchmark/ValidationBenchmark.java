@@ -0,0 +1,70 @@
+package com.inktrack.benchmark;
+
+import com.inktrack.core.utils.InputRules;
+import com.inktrack.core.utils.PasswordCheck;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass {@link InputRules} checks with the regex checks they replaced.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.inktrack.benchmark.ValidationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+  @Param({"StrongP@ss1", "weakpassword-without-any-other-class-of-character"})
+  private String password;
+
+  @Param({"john.doe@example.com", "not-an-email-address"})
+  private String email;
+
+  @Benchmark
+  public void regexPassword(Blackhole blackhole) {
+    blackhole.consume(PasswordCheck.LENGTH_PATTERN.matcher(password).find());
+    blackhole.consume(PasswordCheck.UPPERCASE_PATTERN.matcher(password).find());
+    blackhole.consume(PasswordCheck.DIGIT_PATTERN.matcher(password).find());
+    blackhole.consume(PasswordCheck.LOWERCASE_PATTERN.matcher(password).find());
+    blackhole.consume(PasswordCheck.SPECIAL_CHAR_PATTERN.matcher(password).find());
+  }
+
+  @Benchmark
+  public int singlePassPassword() {
+    return InputRules.passwordViolations(password);
+  }
+
+  @Benchmark
+  public boolean regexEmail() {
+    return email.matches("^[\\w\\.-]+@[\\w\\.-]+\\.\\w{2,}$");
+  }
+
+  @Benchmark
+  public boolean singlePassEmail() {
+    return InputRules.isValidEmail(email);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(ValidationBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
@@ -0,0 +1,15 @@
+package com.inktrack.core.gateway;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the work straight away, for use case tests whose gateways are mocks. Use it as a {@code @Spy} to check
+ * which calls a use case groups into one unit of work.
+ */
+public class DirectTransactionGateway implements TransactionGateway {
+
+  @Override
+  public <T> T execute(Supplier<T> work) {
+    return work.get();
+  }
+}
@@ -0,0 +1,214 @@
+package com.inktrack.core.usecases.book;
+
+import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.Category;
+import com.inktrack.core.domain.User;
+import com.inktrack.core.exception.FieldDomainValidationException;
+import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.CategoryGateway;
+import com.inktrack.core.gateway.GoogleBooksGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CreateBooksBatchUseCaseImplTest {
+
+  @Mock
+  private BookGateway bookGateway;
+
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  @Mock
+  private GoogleBooksGateway googleBooksGateway;
+
+  private CreateBooksBatchUseCaseImpl createBooksBatchUseCase;
+
+  private User validUser;
+
+  private Category validCategory;
+
+  @BeforeEach
+  void setUp() {
+    createBooksBatchUseCase = new CreateBooksBatchUseCaseImpl(bookGateway, categoryGateway, googleBooksGateway);
+    validUser = new User(UUID.randomUUID(), "Test User", "test@email.com", "Password123!", LocalDateTime.now());
+    validCategory = new Category(1L, "FICTION", OffsetDateTime.now());
+  }
+
+  private void givenSaveAllAssignsIds() {
+    AtomicLong ids = new AtomicLong();
+    OffsetDateTime now = OffsetDateTime.now();
+    when(bookGateway.saveAll(anyList())).thenAnswer(invocation -> {
+      List<Book> books = invocation.getArgument(0);
+      List<Book> saved = new ArrayList<>();
+      for (Book b : books) {
+        saved.add(Book.builder()
+            .id(ids.incrementAndGet())
+            .user(b.getUser())
+            .category(b.getCategory())
+            .title(b.getTitle())
+            .author(b.getAuthor())
+            .totalPages(b.getTotalPages())
+            .thumbnailUrl(b.getThumbnailUrl())
+            .googleBookId(b.getGoogleBookId())
+            .createdAt(now)
+            .updatedAt(now)
+            .build());
+      }
+      return saved;
+    });
+  }
+
+  @Test
+  @DisplayName("Should save valid books in one call and reject invalid ones by position")
+  void execute_shouldSaveValidBooksAndRejectInvalidOnes() {
+    when(categoryGateway.getByIds(Set.of(1L, 99L))).thenReturn(List.of(validCategory));
+    givenSaveAllAssignsIds();
+
+    List<BookModelInput> inputs = Arrays.asList(
+        new BookModelInput("Clean Code", "Robert C. Martin", 464, 1L, null),
+        new BookModelInput(" ", "Someone", 100, 1L, null),
+        null,
+        new BookModelInput("Refactoring", "Martin Fowler", 448, 99L, null),
+        new BookModelInput("Domain-Driven Design", "Eric Evans", 0, 1L, null),
+        new BookModelInput("The Pragmatic Programmer", "Andy Hunt", 352, 1L, null)
+    );
+
+    BookBatchOutput output = createBooksBatchUseCase.execute(inputs, validUser);
+
+    assertEquals(2, output.created());
+    assertEquals(4, output.rejected());
+    assertEquals(6, output.items().size());
+    assertTrue(output.items().get(0).isCreated());
+    assertEquals("Clean Code", output.items().get(0).book().title());
+    assertEquals("title", output.items().get(1).field());
+    assertEquals("book", output.items().get(2).field());
+    assertEquals("categoryId", output.items().get(3).field());
+    assertEquals("totalPages", output.items().get(4).field());
+    assertEquals("The Pragmatic Programmer", output.items().get(5).book().title());
+    assertEquals(5, output.items().get(5).index());
+    verify(bookGateway, times(1)).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("Should resolve categories with one lookup for the whole batch")
+  void execute_shouldResolveCategoriesOnce() {
+    when(categoryGateway.getByIds(Set.of(1L))).thenReturn(List.of(validCategory));
+    givenSaveAllAssignsIds();
+
+    List<BookModelInput> inputs = Collections.nCopies(50, new BookModelInput("Book", "Author", 10, 1L, null));
+
+    BookBatchOutput output = createBooksBatchUseCase.execute(inputs, validUser);
+
+    assertEquals(50, output.created());
+    verify(categoryGateway, times(1)).getByIds(any());
+    verify(categoryGateway, times(0)).getById(any());
+  }
+
+  @Test
+  @DisplayName("Should look up each distinct Google Books id once")
+  void execute_shouldFetchEachThumbnailOnce() {
+    when(categoryGateway.getByIds(Set.of(1L))).thenReturn(List.of(validCategory));
+    when(googleBooksGateway.getThumbnailUrls(List.of("g-1"))).thenReturn(Map.of("g-1", "http://thumb"));
+    givenSaveAllAssignsIds();
+
+    List<BookModelInput> inputs = List.of(
+        new BookModelInput("Clean Code", "Robert C. Martin", 464, 1L, "g-1"),
+        new BookModelInput("Clean Code", "Robert C. Martin", 464, 1L, "g-1")
+    );
+
+    createBooksBatchUseCase.execute(inputs, validUser);
+
+    verify(googleBooksGateway, times(1)).getThumbnailUrls(List.of("g-1"));
+    verify(googleBooksGateway, never()).getVolumeById(any());
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Book>> captor = ArgumentCaptor.forClass(List.class);
+    verify(bookGateway).saveAll(captor.capture());
+    assertTrue(captor.getValue().stream().allMatch(b -> "http://thumb".equals(b.getThumbnailUrl())));
+  }
+
+  @Test
+  @DisplayName("Should not write anything when every book is rejected")
+  void execute_shouldNotSaveWhenAllBooksAreRejected() {
+    when(categoryGateway.getByIds(Set.of(1L))).thenReturn(List.of(validCategory));
+
+    BookBatchOutput output = createBooksBatchUseCase.execute(
+        List.of(new BookModelInput("", "", 10, 1L, null)),
+        validUser
+    );
+
+    assertEquals(0, output.created());
+    assertFalse(output.items().get(0).isCreated());
+    assertNull(output.items().get(0).book());
+    verify(bookGateway, times(0)).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("Should reject each book without a category instead of failing the batch")
+  void execute_shouldRejectBooksWithoutCategory() {
+    BookBatchOutput output = createBooksBatchUseCase.execute(
+        List.of(
+            new BookModelInput("Clean Code", "Robert C. Martin", 464, null, null),
+            new BookModelInput("Refactoring", "Martin Fowler", 448, null, null)
+        ),
+        validUser
+    );
+
+    assertEquals(0, output.created());
+    assertEquals(2, output.rejected());
+    assertTrue(output.items().stream().allMatch(item -> "categoryId".equals(item.field())));
+    verifyNoInteractions(categoryGateway, googleBooksGateway);
+    verify(bookGateway, times(0)).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("Should reject empty and oversized batches")
+  void execute_shouldRejectEmptyAndOversizedBatches() {
+    List<BookModelInput> tooMany = Collections.nCopies(
+        CreateBooksBatchUseCase.MAX_BATCH_SIZE + 1,
+        new BookModelInput("Book", "Author", 10, 1L, null)
+    );
+
+    assertThrows(FieldDomainValidationException.class, () -> createBooksBatchUseCase.execute(List.of(), validUser));
+    assertThrows(FieldDomainValidationException.class, () -> createBooksBatchUseCase.execute(tooMany, validUser));
+    verifyNoInteractions(bookGateway, categoryGateway, googleBooksGateway);
+  }
+
+  @Test
+  @DisplayName("Should throw when user is not logged in")
+  void execute_shouldThrow_whenUserIsNull() {
+    List<BookModelInput> inputs = List.of(new BookModelInput("Book", "Author", 10, 1L, null));
+
+    assertThrows(IllegalArgumentException.class, () -> createBooksBatchUseCase.execute(inputs, null));
+    verifyNoInteractions(bookGateway);
+  }
+}
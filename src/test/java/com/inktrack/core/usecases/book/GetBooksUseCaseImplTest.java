@@ -1,8 +1,8 @@
 package com.inktrack.core.usecases.book;
 
-import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.BookSummary;
 import com.inktrack.core.domain.Category;
-import com.inktrack.core.domain.User;
+import com.inktrack.core.exception.FieldDomainValidationException;
 import com.inktrack.core.gateway.BookGateway;
 import com.inktrack.core.utils.PageResult;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,13 +13,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,33 +51,12 @@ class GetBooksUseCaseImplTest {
   @Test
   @DisplayName("Should return paginated books when user has books")
   void execute_shouldReturnBooks_whenBooksExist() {
-    User user = new User(
-        userId,
-        "Test User",
-        "test@email.com",
-        "StrongPassword!23",
-        LocalDateTime.now()
-    );
-
-    Book book = Book.builder()
-        .id(1L)
-        .user(user)
-        .category(validCategory)
-        .title("Clean Code")
-        .author("Robert C. Martin")
-        .totalPages(464)
-        .pagesRead(100)
-        .createdAt(OffsetDateTime.now())
-        .updatedAt(OffsetDateTime.now())
-        .build();
+    BookSummary book = summary(1L, "Clean Code", "Robert C. Martin", 464, 100);
 
     when(bookGateway.getUserBooksPage(userId, filter))
-        .thenReturn(List.of(book));
+        .thenReturn(new PageResult<>(10, 1, 0, List.of(book)));
 
-    when(bookGateway.countUserBooksWithFilters(userId, "", null))
-        .thenReturn(1L);
-
-    PageResult<BookModelOutput> result =
+    PageResult<BookSummaryOutput> result =
         getBooksUseCase.execute(userId, filter);
 
     assertNotNull(result);
@@ -81,25 +65,21 @@ class GetBooksUseCaseImplTest {
     assertEquals(0, result.currentPage());
     assertEquals(1, result.data().size());
 
-    BookModelOutput output = result.data().get(0);
+    BookSummaryOutput output = result.data().get(0);
     assertEquals("Clean Code", output.title());
     assertEquals("Robert C. Martin", output.author());
     assertEquals(464, output.totalPages());
 
     verify(bookGateway).getUserBooksPage(userId, filter);
-    verify(bookGateway).countUserBooksWithFilters(userId, "", null);
   }
 
   @Test
   @DisplayName("Should return empty page when user has no books")
   void execute_shouldReturnEmptyPage_whenNoBooksFound() {
     when(bookGateway.getUserBooksPage(userId, filter))
-        .thenReturn(List.of());
-
-    when(bookGateway.countUserBooksWithFilters(userId, "", null))
-        .thenReturn(0L);
+        .thenReturn(new PageResult<>(10, 0, 0, List.of()));
 
-    PageResult<BookModelOutput> result =
+    PageResult<BookSummaryOutput> result =
         getBooksUseCase.execute(userId, filter);
 
     assertNotNull(result);
@@ -109,85 +89,180 @@ class GetBooksUseCaseImplTest {
     assertEquals(0, result.currentPage());
 
     verify(bookGateway).getUserBooksPage(userId, filter);
-    verify(bookGateway).countUserBooksWithFilters(userId, "", null);
   }
 
 
   @Test
-  @DisplayName("Should calculate total pages correctly")
-  void execute_shouldCalculateTotalPagesCorrectly() {
+  @DisplayName("Should keep the total pages computed by the gateway")
+  void execute_shouldKeepTotalPagesFromGateway() {
     GetBookFilter customFilter =
         new GetBookFilter(0, 5, "", null, OrderEnum.RECENT);
+    BookSummary book = summary(1L, "Any Book", "Any Author", 100, 0);
 
-    User user = new User(
-        userId,
-        "Test User",
-        "test@email.com",
-        "SomePassword!322",
-        LocalDateTime.now()
-    );
+    when(bookGateway.getUserBooksPage(userId, customFilter))
+        .thenReturn(new PageResult<>(5, 3, 0, List.of(book)));
 
-    Book book = Book.builder()
-        .id(1L)
-        .user(user)
-        .category(validCategory)
-        .title("Any Book")
-        .author("Any Author")
-        .totalPages(100)
-        .pagesRead(0)
-        .createdAt(OffsetDateTime.now())
-        .updatedAt(OffsetDateTime.now())
-        .build();
+    PageResult<BookSummaryOutput> result =
+        getBooksUseCase.execute(userId, customFilter);
+
+    assertEquals(3, result.totalPages());
+    assertTrue(result.hasNext());
+  }
+
+  @Test
+  @DisplayName("Should map category data into output correctly")
+  void execute_shouldMapCategoryCorrectly() {
+    BookSummary book = summary(10L, "DDD", "Eric Evans", 500, 50);
+
+    when(bookGateway.getUserBooksPage(userId, filter))
+        .thenReturn(new PageResult<>(10, 1, 0, List.of(book)));
+
+    PageResult<BookSummaryOutput> result =
+        getBooksUseCase.execute(userId, filter);
+
+    BookSummaryOutput output = result.data().get(0);
+
+    assertEquals(1L, output.categoryId());
+    assertEquals("FICTION", output.categoryName());
+    assertEquals(10, output.progress());
+  }
+
+  @Test
+  @DisplayName("Should return a next cursor in page mode when more pages exist")
+  void execute_shouldReturnNextCursor_whenMorePagesExist() {
+    GetBookFilter customFilter = new GetBookFilter(0, 1, "", null, OrderEnum.RECENT);
+    BookSummary book = book(7L, "Refactoring");
+
+    when(bookGateway.getUserBooksPage(userId, customFilter)).thenReturn(new PageResult<>(1, 2, 0, List.of(book)));
+
+    PageResult<BookSummaryOutput> result = getBooksUseCase.execute(userId, customFilter);
+
+    BookCursor cursor = BookCursor.decode(result.nextCursor(), OrderEnum.RECENT);
+    assertEquals(7L, cursor.id());
+    assertEquals(book.createdAt(), cursor.sortValue());
+  }
+
+  @Test
+  @DisplayName("Should return only hasNext when the total is not requested")
+  void execute_shouldReturnHasNextOnly_whenTotalIsNotRequested() {
+    GetBookFilter customFilter = new GetBookFilter(0, 1, "", null, null, OrderEnum.RECENT, null, false);
 
     when(bookGateway.getUserBooksPage(userId, customFilter))
-        .thenReturn(List.of(book));
+        .thenReturn(new PageResult<>(1, null, 0, List.of(book(7L, "Refactoring")), true, null));
 
-    when(bookGateway.countUserBooksWithFilters(userId, "", null))
-        .thenReturn(12L);
+    PageResult<BookSummaryOutput> result = getBooksUseCase.execute(userId, customFilter);
 
-    PageResult<BookModelOutput> result =
-        getBooksUseCase.execute(userId, customFilter);
+    assertNull(result.totalPages());
+    assertTrue(result.hasNext());
+    assertEquals(7L, BookCursor.decode(result.nextCursor(), OrderEnum.RECENT).id());
+  }
 
-    assertEquals(3, result.totalPages());
+  @Test
+  @DisplayName("Should fetch one extra row and skip the count query in cursor mode")
+  void execute_shouldUseKeysetQuery_whenCursorIsGiven() {
+    BookCursor after = new BookCursor(OrderEnum.TITLE_ASC, "B", 2L);
+    GetBookFilter cursorFilter = new GetBookFilter(0, 2, "", null, null, OrderEnum.TITLE_ASC, after.encode(), true);
+
+    when(bookGateway.getUserBooksAfter(eq(userId), eq(cursorFilter), eq(after), eq(3)))
+        .thenReturn(List.of(book(3L, "C"), book(4L, "D"), book(5L, "E")));
+
+    PageResult<BookSummaryOutput> result = getBooksUseCase.execute(userId, cursorFilter);
+
+    assertEquals(2, result.data().size());
+    assertNull(result.totalPages());
+    BookCursor next = BookCursor.decode(result.nextCursor(), OrderEnum.TITLE_ASC);
+    assertEquals("D", next.sortValue());
+    assertEquals(4L, next.id());
+    verify(bookGateway, never()).getUserBooksPage(any(), any());
   }
 
   @Test
-  @DisplayName("Should map user data into output correctly")
-  void execute_shouldMapUserCorrectly() {
-    User user = new User(
-        userId,
-        "John Doe",
-        "john@email.com",
-        "StrongPassword1!",
-        LocalDateTime.now()
-    );
+  @DisplayName("Should not return a next cursor on the last keyset page")
+  void execute_shouldReturnNoNextCursor_whenLastKeysetPage() {
+    BookCursor after = new BookCursor(OrderEnum.TITLE_ASC, "B", 2L);
+    GetBookFilter cursorFilter = new GetBookFilter(0, 2, "", null, null, OrderEnum.TITLE_ASC, after.encode(), true);
 
-    Book book = Book.builder()
-        .id(10L)
-        .user(user)
-        .category(validCategory)
-        .title("DDD")
-        .author("Eric Evans")
-        .totalPages(500)
-        .pagesRead(50)
-        .createdAt(OffsetDateTime.now())
-        .updatedAt(OffsetDateTime.now())
-        .build();
+    when(bookGateway.getUserBooksAfter(eq(userId), eq(cursorFilter), eq(after), eq(3)))
+        .thenReturn(List.of(book(3L, "C")));
 
-    when(bookGateway.getUserBooksPage(userId, filter))
-        .thenReturn(List.of(book));
+    PageResult<BookSummaryOutput> result = getBooksUseCase.execute(userId, cursorFilter);
 
-    when(bookGateway.countUserBooksWithFilters(userId, "", null))
-        .thenReturn(1L);
+    assertEquals(1, result.data().size());
+    assertNull(result.nextCursor());
+  }
 
-    PageResult<BookModelOutput> result =
-        getBooksUseCase.execute(userId, filter);
+  @Test
+  @DisplayName("Should reject a cursor issued for another sort order")
+  void execute_shouldRejectCursor_whenSortOrderDiffers() {
+    String cursor = new BookCursor(OrderEnum.TITLE_ASC, "B", 2L).encode();
+    GetBookFilter cursorFilter = new GetBookFilter(0, 2, "", null, null, OrderEnum.RECENT, cursor, true);
+
+    assertThrows(FieldDomainValidationException.class, () -> getBooksUseCase.execute(userId, cursorFilter));
+  }
+
+  @Test
+  @DisplayName("Should reject a cursor when searching")
+  void execute_shouldRejectCursor_whenSearching() {
+    String cursor = new BookCursor(OrderEnum.RECENT, OffsetDateTime.now(), 2L).encode();
+    GetBookFilter searchFilter = new GetBookFilter(0, 2, "", "martin", null, OrderEnum.RECENT, cursor, true);
+
+    assertThrows(FieldDomainValidationException.class, () -> getBooksUseCase.execute(userId, searchFilter));
+  }
 
-    BookModelOutput output = result.data().get(0);
+  @Test
+  @DisplayName("Should reject a progress range outside 0 to 100 or reversed")
+  void execute_shouldRejectInvalidProgressRange() {
+    GetBookFilter outOfBounds = new GetBookFilter(0, 2, "", null, null, OrderEnum.RECENT, null, true,
+        null, -1, null, null, null, null);
+    GetBookFilter reversed = new GetBookFilter(0, 2, "", null, null, OrderEnum.RECENT, null, true,
+        null, 80, 20, null, null, null);
+
+    assertThrows(FieldDomainValidationException.class, () -> getBooksUseCase.execute(userId, outOfBounds));
+    assertThrows(FieldDomainValidationException.class, () -> getBooksUseCase.execute(userId, reversed));
+  }
+
+  @Test
+  @DisplayName("Should reject a created-at range that ends before it starts")
+  void execute_shouldRejectReversedCreatedAtRange() {
+    OffsetDateTime now = OffsetDateTime.now();
+    GetBookFilter reversed = new GetBookFilter(0, 2, "", null, null, OrderEnum.RECENT, null, true,
+        null, null, null, now, now.minusDays(1), null);
+
+    assertThrows(FieldDomainValidationException.class, () -> getBooksUseCase.execute(userId, reversed));
+  }
+
+  @Test
+  @DisplayName("Should not issue a keyset cursor for ranked search results")
+  void execute_shouldNotReturnNextCursor_whenSearching() {
+    GetBookFilter searchFilter = new GetBookFilter(0, 1, "", "martin", null, OrderEnum.RECENT, null, true);
+
+    when(bookGateway.getUserBooksPage(userId, searchFilter))
+        .thenReturn(new PageResult<>(1, 2, 0, List.of(book(7L, "Refactoring"))));
 
-    assertEquals(userId, output.user().id());
-    assertEquals("John Doe", output.user().name());
-    assertEquals("john@email.com", output.user().email());
+    PageResult<BookSummaryOutput> result = getBooksUseCase.execute(userId, searchFilter);
+
+    assertTrue(result.hasNext());
+    assertNull(result.nextCursor());
   }
 
+  private BookSummary book(Long id, String title) {
+    return summary(id, title, "Any Author", 100, 0);
+  }
+
+  private BookSummary summary(Long id, String title, String author, int totalPages, int pagesRead) {
+    return new BookSummary(
+        id,
+        validCategory.id(),
+        validCategory.name(),
+        title,
+        author,
+        totalPages,
+        pagesRead,
+        pagesRead * 100 / totalPages,
+        null,
+        null,
+        OffsetDateTime.now(),
+        OffsetDateTime.now()
+    );
+  }
 }
@@ -0,0 +1,130 @@
+package com.inktrack.core.usecases.book;
+
+import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.Category;
+import com.inktrack.core.domain.User;
+import com.inktrack.core.exception.FieldDomainValidationException;
+import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.CategoryGateway;
+import com.inktrack.core.gateway.GoogleBooksGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PatchBookUseCaseImplTest {
+
+  @Mock
+  private BookGateway bookGateway;
+
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  @Mock
+  private GoogleBooksGateway googleBooksGateway;
+
+  private PatchBookUseCaseImpl patchBookUseCase;
+
+  private User validUser;
+
+  private Category validCategory;
+
+  @BeforeEach
+  void setUp() {
+    patchBookUseCase = new PatchBookUseCaseImpl(bookGateway, categoryGateway, googleBooksGateway);
+    validUser = new User(UUID.randomUUID(), "Test User", "test@email.com", "Password123!", LocalDateTime.now());
+    validCategory = new Category(1L, "FICTION", OffsetDateTime.now());
+  }
+
+  private Book book(String title) {
+    return Book.builder()
+        .id(1L)
+        .user(validUser)
+        .category(validCategory)
+        .title(title)
+        .author("Robert C. Martin")
+        .totalPages(464)
+        .createdAt(OffsetDateTime.now())
+        .updatedAt(OffsetDateTime.now())
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should hand the patch to the gateway without loading the book")
+  void execute_shouldPatchWithoutLoading() {
+    BookPatch patch = new BookPatch("Clean Code 2nd Edition", null, null, null, null);
+    when(bookGateway.patch(1L, validUser, patch)).thenReturn(book("Clean Code 2nd Edition"));
+
+    BookModelOutput output = patchBookUseCase.execute(1L, patch, validUser);
+
+    assertEquals("Clean Code 2nd Edition", output.title());
+    verify(bookGateway, never()).findByIdAndUserId(any(), any());
+    verifyNoInteractions(categoryGateway, googleBooksGateway);
+  }
+
+  @Test
+  @DisplayName("Should fill the thumbnail in when a Google Books id is sent")
+  void execute_shouldFetchThumbnail_whenGoogleBookIdIsSent() {
+    BookPatch patch = new BookPatch(null, null, null, null, "g-1");
+    when(googleBooksGateway.getVolumeById("g-1")).thenReturn(Optional.of(
+        new GoogleBooksVolume("g-1", "Clean Code", List.of("Robert C. Martin"), 464, "http://thumb")
+    ));
+    when(bookGateway.patch(eq(1L), eq(validUser), any(BookPatch.class))).thenReturn(book("Clean Code"));
+
+    patchBookUseCase.execute(1L, patch, validUser);
+
+    verify(bookGateway).patch(1L, validUser, patch.withThumbnailUrl("http://thumb"));
+  }
+
+  @Test
+  @DisplayName("Should reject an unknown category")
+  void execute_shouldThrow_whenCategoryDoesNotExist() {
+    BookPatch patch = new BookPatch(null, null, null, 99L, null);
+    when(categoryGateway.getById(99L)).thenReturn(Optional.empty());
+
+    assertThrows(FieldDomainValidationException.class, () -> patchBookUseCase.execute(1L, patch, validUser));
+    verify(bookGateway, never()).patch(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Should reject blank text and non-positive page counts")
+  void execute_shouldThrow_whenFieldsAreInvalid() {
+    BookPatch blankTitle = new BookPatch(" ", null, null, null, null);
+    BookPatch blankAuthor = new BookPatch(null, "", null, null, null);
+    BookPatch zeroPages = new BookPatch(null, null, 0, null, null);
+
+    assertThrows(FieldDomainValidationException.class, () -> patchBookUseCase.execute(1L, blankTitle, validUser));
+    assertThrows(FieldDomainValidationException.class, () -> patchBookUseCase.execute(1L, blankAuthor, validUser));
+    assertThrows(FieldDomainValidationException.class, () -> patchBookUseCase.execute(1L, zeroPages, validUser));
+    verifyNoInteractions(bookGateway);
+  }
+
+  @Test
+  @DisplayName("Should return the current book when the patch is empty")
+  void execute_shouldReturnCurrentBook_whenPatchIsEmpty() {
+    when(bookGateway.findByIdAndUserId(1L, validUser.getId())).thenReturn(book("Clean Code"));
+
+    BookModelOutput output = patchBookUseCase.execute(1L, new BookPatch(null, null, null, null, null), validUser);
+
+    assertEquals("Clean Code", output.title());
+    verify(bookGateway, never()).patch(any(), any(), any());
+  }
+}
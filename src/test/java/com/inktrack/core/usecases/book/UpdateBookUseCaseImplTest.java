@@ -5,12 +5,16 @@ import com.inktrack.core.domain.Category;
 import com.inktrack.core.domain.User;
 import com.inktrack.core.gateway.BookGateway;
 import com.inktrack.core.gateway.CategoryGateway;
+import com.inktrack.core.gateway.DirectTransactionGateway;
 import com.inktrack.core.gateway.GoogleBooksGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -20,8 +24,13 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +46,9 @@ class UpdateBookUseCaseImplTest {
   @Mock
   private GoogleBooksGateway googleBooksGateway;
 
+  @Spy
+  private DirectTransactionGateway transactionGateway;
+
   private UpdateBookUseCase updateBookUseCase;
 
   private User validUser;
@@ -44,7 +56,12 @@ class UpdateBookUseCaseImplTest {
 
   @BeforeEach
   void setUp() {
-    updateBookUseCase = new UpdateBookUseCaseImpl(bookGateway, categoryGateway, googleBooksGateway);
+    updateBookUseCase = new UpdateBookUseCaseImpl(
+        bookGateway,
+        categoryGateway,
+        googleBooksGateway,
+        transactionGateway
+    );
     validUser = new User(UUID.randomUUID(), "Test User", "test@email.com", "Password123!", LocalDateTime.now());
     validCategory = new Category(1L, "FICTION", OffsetDateTime.now());
   }
@@ -71,22 +88,7 @@ class UpdateBookUseCaseImplTest {
 
     when(bookGateway.findByIdAndUserId(bookSaved.getId(), validUser.getId())).thenReturn(bookSaved);
 
-    OffsetDateTime now = OffsetDateTime.now();
-
-    when(bookGateway.update(any(Book.class))).thenAnswer(invocation -> {
-      Book b = invocation.getArgument(0);
-      return Book.builder()
-          .id(b.getId())
-          .user(b.getUser())
-          .category(b.getCategory())
-          .title(b.getTitle())
-          .author(b.getAuthor())
-          .totalPages(b.getTotalPages())
-          .pagesRead(b.getPagesRead())
-          .createdAt(b.getCreatedAt())
-          .updatedAt(now)
-          .build();
-    });
+    givenPatchApplies(bookSaved);
 
     BookModelOutput response = updateBookUseCase.execute(bookSaved.getId(), input, validUser.getId());
 
@@ -94,9 +96,9 @@ class UpdateBookUseCaseImplTest {
     assertEquals(1L, response.id());
     assertEquals("Clean Code Pdf", response.title());
     assertEquals(bookSaved.getCreatedAt(), response.createdAt());
-    assertEquals(now, response.updatedAt());
+    assertTrue(response.updatedAt().isAfter(sevenDaysBeforeToday));
     verify(bookGateway).findByIdAndUserId(bookSaved.getId(), validUser.getId());
-    verify(bookGateway).update(any(Book.class));
+    verify(bookGateway).patch(eq(bookSaved.getId()), eq(validUser), any(BookPatch.class));
   }
 
   @Test
@@ -136,15 +138,18 @@ class UpdateBookUseCaseImplTest {
     );
     when(googleBooksGateway.getVolumeById(newGoogleBookId)).thenReturn(Optional.of(googleBooksVolume));
 
-    when(bookGateway.update(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    givenPatchApplies(bookSaved);
 
     BookModelOutput response = updateBookUseCase.execute(bookSaved.getId(), input, validUser.getId());
 
     assertNotNull(response);
     assertEquals(newThumbnail, response.thumbnailUrl());
     assertEquals(newGoogleBookId, response.googleBookId());
-    verify(googleBooksGateway).getVolumeById(newGoogleBookId);
-    verify(bookGateway).update(any(Book.class));
+    InOrder order = inOrder(googleBooksGateway, transactionGateway, categoryGateway, bookGateway);
+    order.verify(googleBooksGateway).getVolumeById(newGoogleBookId);
+    order.verify(transactionGateway).execute(any());
+    order.verify(categoryGateway).getById(1L);
+    order.verify(bookGateway).patch(eq(bookSaved.getId()), eq(validUser), any(BookPatch.class));
   }
 
   @Test
@@ -175,7 +180,7 @@ class UpdateBookUseCaseImplTest {
     when(bookGateway.findByIdAndUserId(bookSaved.getId(), validUser.getId())).thenReturn(bookSaved);
     when(googleBooksGateway.getVolumeById(newGoogleBookId)).thenReturn(Optional.empty());
 
-    when(bookGateway.update(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    givenPatchApplies(bookSaved);
 
     BookModelOutput response = updateBookUseCase.execute(bookSaved.getId(), input, validUser.getId());
 
@@ -183,7 +188,7 @@ class UpdateBookUseCaseImplTest {
     assertEquals(oldThumbnail, response.thumbnailUrl());
     assertEquals(newGoogleBookId, response.googleBookId());
     verify(googleBooksGateway).getVolumeById(newGoogleBookId);
-    verify(bookGateway).update(any(Book.class));
+    verify(bookGateway).patch(eq(bookSaved.getId()), eq(validUser), any(BookPatch.class));
   }
 
   @Test
@@ -215,7 +220,7 @@ class UpdateBookUseCaseImplTest {
     when(googleBooksGateway.getVolumeById(newGoogleBookId))
         .thenThrow(new RuntimeException("API Error"));
 
-    when(bookGateway.update(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    givenPatchApplies(bookSaved);
 
     BookModelOutput response = updateBookUseCase.execute(bookSaved.getId(), input, validUser.getId());
 
@@ -223,7 +228,7 @@ class UpdateBookUseCaseImplTest {
     assertEquals(oldThumbnail, response.thumbnailUrl());
     assertEquals(newGoogleBookId, response.googleBookId());
     verify(googleBooksGateway).getVolumeById(newGoogleBookId);
-    verify(bookGateway).update(any(Book.class));
+    verify(bookGateway).patch(eq(bookSaved.getId()), eq(validUser), any(BookPatch.class));
   }
 
   @Test
@@ -252,7 +257,7 @@ class UpdateBookUseCaseImplTest {
     when(categoryGateway.getById(1L)).thenReturn(Optional.of(validCategory));
     when(bookGateway.findByIdAndUserId(bookSaved.getId(), validUser.getId())).thenReturn(bookSaved);
 
-    when(bookGateway.update(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    givenPatchApplies(bookSaved);
 
     BookModelOutput response = updateBookUseCase.execute(bookSaved.getId(), input, validUser.getId());
 
@@ -261,7 +266,7 @@ class UpdateBookUseCaseImplTest {
     // When input googleBookId is null, the book googleBookId is updated to null
     assertEquals(null, response.googleBookId());
     verify(googleBooksGateway, org.mockito.Mockito.never()).getVolumeById(org.mockito.Mockito.anyString());
-    verify(bookGateway).update(any(Book.class));
+    verify(bookGateway).patch(eq(bookSaved.getId()), eq(validUser), any(BookPatch.class));
   }
 
   @Test
@@ -290,7 +295,7 @@ class UpdateBookUseCaseImplTest {
     when(categoryGateway.getById(1L)).thenReturn(Optional.of(validCategory));
     when(bookGateway.findByIdAndUserId(bookSaved.getId(), validUser.getId())).thenReturn(bookSaved);
 
-    when(bookGateway.update(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    givenPatchApplies(bookSaved);
 
     BookModelOutput response = updateBookUseCase.execute(bookSaved.getId(), input, validUser.getId());
 
@@ -298,7 +303,7 @@ class UpdateBookUseCaseImplTest {
     assertEquals(oldThumbnail, response.thumbnailUrl());
     assertEquals(sameGoogleBookId, response.googleBookId());
     verify(googleBooksGateway, org.mockito.Mockito.never()).getVolumeById(org.mockito.Mockito.anyString());
-    verify(bookGateway).update(any(Book.class));
+    verify(bookGateway).patch(eq(bookSaved.getId()), eq(validUser), any(BookPatch.class));
   }
 
   @Test
@@ -337,7 +342,7 @@ class UpdateBookUseCaseImplTest {
     );
     when(googleBooksGateway.getVolumeById(newGoogleBookId)).thenReturn(Optional.of(googleBooksVolume));
 
-    when(bookGateway.update(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    givenPatchApplies(bookSaved);
 
     BookModelOutput response = updateBookUseCase.execute(bookSaved.getId(), input, validUser.getId());
 
@@ -345,6 +350,58 @@ class UpdateBookUseCaseImplTest {
     assertEquals(newThumbnail, response.thumbnailUrl());
     assertEquals(newGoogleBookId, response.googleBookId());
     verify(googleBooksGateway).getVolumeById(newGoogleBookId);
-    verify(bookGateway).update(any(Book.class));
+    verify(bookGateway).patch(eq(bookSaved.getId()), eq(validUser), any(BookPatch.class));
+  }
+
+  @Test
+  @DisplayName("Should never write pages read back from the book read before the update")
+  void execute_shouldNotCarryPagesReadIntoTheWrite() {
+    Book bookSaved = Book.builder()
+        .id(1L)
+        .user(validUser)
+        .category(validCategory)
+        .title("Clean Code")
+        .author("Robert C. Martin")
+        .totalPages(464)
+        .pagesRead(120)
+        .googleBookId("oldId123")
+        .build();
+    BookModelInput input = new BookModelInput("Clean Code", "Robert C. Martin", 500, 1L, null);
+
+    when(categoryGateway.getById(1L)).thenReturn(Optional.of(validCategory));
+    when(bookGateway.findByIdAndUserId(bookSaved.getId(), validUser.getId())).thenReturn(bookSaved);
+    givenPatchApplies(bookSaved);
+
+    updateBookUseCase.execute(bookSaved.getId(), input, validUser.getId());
+
+    ArgumentCaptor<BookPatch> captor = ArgumentCaptor.forClass(BookPatch.class);
+    verify(bookGateway).patch(eq(1L), eq(validUser), captor.capture());
+    BookPatch written = captor.getValue();
+    assertEquals(500, written.totalPages());
+    assertNull(written.thumbnailUrl());
+    assertTrue(written.clearGoogleBookId());
+    assertFalse(written.isEmpty());
+  }
+
+  /**
+   * Answers {@code patch} like the database would: only the columns set in the patch change.
+   */
+  private void givenPatchApplies(Book stored) {
+    when(bookGateway.patch(eq(stored.getId()), any(User.class), any(BookPatch.class))).thenAnswer(invocation -> {
+      BookPatch patch = invocation.getArgument(2);
+      return Book.builder()
+          .id(stored.getId())
+          .user(invocation.getArgument(1))
+          .category(validCategory)
+          .title(patch.title())
+          .author(patch.author())
+          .totalPages(patch.totalPages())
+          .pagesRead(stored.getPagesRead())
+          .thumbnailUrl(patch.thumbnailUrl() != null ? patch.thumbnailUrl() : stored.getThumbnailUrl())
+          .googleBookId(patch.clearGoogleBookId() ? null : patch.googleBookId())
+          .createdAt(stored.getCreatedAt())
+          .updatedAt(OffsetDateTime.now())
+          .build();
+    });
   }
 }
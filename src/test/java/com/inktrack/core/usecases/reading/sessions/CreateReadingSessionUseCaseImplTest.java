@@ -6,6 +6,7 @@ import com.inktrack.core.domain.ReadingSession;
 import com.inktrack.core.domain.User;
 import com.inktrack.core.exception.FieldDomainValidationException;
 import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.DirectTransactionGateway;
 import com.inktrack.core.gateway.ReadingSessionGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -23,6 +25,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +37,8 @@ class CreateReadingSessionUseCaseImplTest {
   private ReadingSessionGateway readingSessionGateway;
   @Mock
   private BookGateway bookGateway;
+  @Spy
+  private DirectTransactionGateway transactionGateway;
 
   @InjectMocks
   private CreateReadingSessionUseCaseImpl createReadingSessionUseCase;
@@ -76,7 +83,7 @@ class CreateReadingSessionUseCaseImplTest {
     when(bookGateway.findByIdAndUserId(1L, userId))
         .thenReturn(validBook);
 
-    when(readingSessionGateway.save(any(ReadingSession.class)))
+    when(readingSessionGateway.logSession(any(ReadingSession.class), eq(userId)))
         .thenReturn(savedSession);
 
     // Act
@@ -91,11 +98,8 @@ class CreateReadingSessionUseCaseImplTest {
     assertEquals(20, output.pagesRead());
     assertNotNull(output.sessionDate());
 
-    assertEquals(20, validBook.getPagesRead());
-
     verify(bookGateway).findByIdAndUserId(1L, userId);
-    verify(bookGateway).update(validBook);
-    verify(readingSessionGateway).save(any(ReadingSession.class));
+    verify(readingSessionGateway).logSession(any(ReadingSession.class), eq(userId));
   }
 
   @Test
@@ -116,8 +120,8 @@ class CreateReadingSessionUseCaseImplTest {
   }
 
   @Test
-  @DisplayName("Should increase book pages read after creating reading session")
-  void shouldIncreaseBookPagesRead() {
+  @DisplayName("Should leave the pages read increment to the gateway instead of saving the loaded book")
+  void shouldIncreaseBookPagesReadThroughTheGateway() {
     // Arrange
     UUID userId = validUser.getId();
     ReadingSessionInput input = new ReadingSessionInput(1L, 15L, 15);
@@ -125,14 +129,16 @@ class CreateReadingSessionUseCaseImplTest {
     when(bookGateway.findByIdAndUserId(1L, userId))
         .thenReturn(validBook);
 
-    when(readingSessionGateway.save(any()))
+    when(readingSessionGateway.logSession(any(), eq(userId)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
     // Act
     createReadingSessionUseCase.execute(input, userId);
 
     // Assert
-    assertEquals(15, validBook.getPagesRead());
+    verify(readingSessionGateway).logSession(argThat(session -> session.getPagesRead() == 15), eq(userId));
+    verify(bookGateway, never()).update(any());
+    assertEquals(0, validBook.getPagesRead());
   }
 
 }
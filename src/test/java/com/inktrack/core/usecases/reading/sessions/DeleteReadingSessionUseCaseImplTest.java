@@ -1,11 +1,7 @@
 package com.inktrack.core.usecases.reading.sessions;
 
-import com.inktrack.core.domain.Book;
-import com.inktrack.core.domain.Category;
-import com.inktrack.core.domain.ReadingSession;
-import com.inktrack.core.domain.User;
 import com.inktrack.core.exception.ResourceNotFoundException;
-import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.DirectTransactionGateway;
 import com.inktrack.core.gateway.ReadingSessionGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,11 +9,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -32,108 +26,52 @@ class DeleteReadingSessionUseCaseImplTest {
   @Mock
   private ReadingSessionGateway readingSessionGateway;
 
-  @Mock
-  private BookGateway bookGateway;
+  @Spy
+  private DirectTransactionGateway transactionGateway;
 
   @InjectMocks
   private DeleteReadingSessionUseCaseImpl deleteReadingSessionUseCase;
 
-  private Book validBook;
-  private User validUser;
+  private UUID userId;
+  private Long bookId;
 
   @BeforeEach
   void setUp() {
-    validUser = new User(UUID.randomUUID(), "Test User", "test@email.com", "Password123!", LocalDateTime.now());
-    OffsetDateTime sevenDaysBeforeToday = OffsetDateTime.now().minusDays(7);
-    validBook = Book.builder()
-        .id(1L)
-        .user(validUser)
-        .category(new Category(1L, "Fiction", OffsetDateTime.now()))
-        .pagesRead(20)
-        .totalPages(100)
-        .author("some author")
-        .title("Some title")
-        .createdAt(sevenDaysBeforeToday)
-        .updatedAt(sevenDaysBeforeToday)
-        .build();
+    userId = UUID.randomUUID();
+    bookId = 1L;
   }
 
   @Test
   @DisplayName("Should delete a reading session successfully")
   void shouldDeleteReadingSessionSuccessfully() {
-    UUID userId = validUser.getId();
     Long readingSessionId = 1L;
-    when(bookGateway.findByIdAndUserId(validBook.getId(), validUser.getId())).thenReturn(validBook);
-    when(readingSessionGateway.getByIdAndByBookIdAndUserId(readingSessionId, validBook.getId(), userId))
-        .thenReturn(Optional.ofNullable(
-            ReadingSession.builder()
-                .id(readingSessionId)
-                .book(validBook)
-                .minutes(12L)
-                .pagesRead(20)
-                .sessionDate(OffsetDateTime.now())
-                .build()
-        ));
-    when(readingSessionGateway.deleteReadingSession(readingSessionId, userId, validBook.getId()))
+    when(readingSessionGateway.deleteReadingSession(readingSessionId, userId, bookId))
         .thenReturn(1);
-    when(bookGateway.update(any(Book.class))).thenReturn(validBook);
 
-    deleteReadingSessionUseCase.execute(readingSessionId, userId, validBook.getId());
+    deleteReadingSessionUseCase.execute(readingSessionId, userId, bookId);
 
-    verify(readingSessionGateway).deleteReadingSession(readingSessionId, userId, validBook.getId());
-    verify(bookGateway).findByIdAndUserId(validBook.getId(), userId);
-    verify(bookGateway).update(validBook);
+    verify(transactionGateway).execute(any());
+    verify(readingSessionGateway).deleteReadingSession(readingSessionId, userId, bookId);
   }
 
   @Test
   @DisplayName("Should throw Resource not found exception when the reading session does not exist")
   void shouldThrowResourceNotFoundExceptionWhenReadingSessionDoesNotExist() {
-    UUID userId = validUser.getId();
     Long readingSessionId = 1L;
-    when(bookGateway.findByIdAndUserId(validBook.getId(), validUser.getId())).thenReturn(validBook);
-    when(readingSessionGateway.getByIdAndByBookIdAndUserId(readingSessionId, validBook.getId(), userId))
-        .thenReturn(Optional.empty());
+    when(readingSessionGateway.deleteReadingSession(readingSessionId, userId, bookId))
+        .thenReturn(0);
 
-    ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, this::executeDeleteReadingSession);
+    ResourceNotFoundException ex = assertThrows(
+        ResourceNotFoundException.class,
+        () -> deleteReadingSessionUseCase.execute(readingSessionId, userId, bookId)
+    );
 
     String message = String.format(
         "ReadingSession not found with sessionId=%d, bookId=%d, userId=%s",
-        readingSessionId, validBook.getId(), userId
+        readingSessionId, bookId, userId
     );
     assertEquals(message, ex.getMessage());
     assertEquals("ReadingSession", ex.getResource());
     assertEquals("compositeId", ex.getField());
   }
-
-  private void executeDeleteReadingSession() {
-    deleteReadingSessionUseCase.execute(1L, validUser.getId(), validBook.getId());
-  }
-
-  @Test
-  @DisplayName("Should throw IllegalStateException when deletion fails")
-  void shouldThrowIllegalStateExceptionWhenDeletionFails() {
-    UUID userId = validUser.getId();
-    Long readingSessionId = 1L;
-    when(bookGateway.findByIdAndUserId(validBook.getId(), validUser.getId())).thenReturn(validBook);
-    when(readingSessionGateway.getByIdAndByBookIdAndUserId(readingSessionId, validBook.getId(), userId))
-        .thenReturn(Optional.ofNullable(
-            ReadingSession.builder()
-                .id(readingSessionId)
-                .book(validBook)
-                .minutes(12L)
-                .pagesRead(20)
-                .sessionDate(OffsetDateTime.now())
-                .build()
-        ));
-    when(readingSessionGateway.deleteReadingSession(readingSessionId, userId, validBook.getId()))
-        .thenReturn(0);
-
-    IllegalStateException ex = assertThrows(IllegalStateException.class, this::executeDeleteForNonExistentSession);
-    String message = "ReadingSession was found but could not be deleted. Possible concurrent modification.";
-    assertEquals(message, ex.getMessage());
-  }
-
-  private void executeDeleteForNonExistentSession() {
-    deleteReadingSessionUseCase.execute(1L, validUser.getId(), validBook.getId());
-  }
 }
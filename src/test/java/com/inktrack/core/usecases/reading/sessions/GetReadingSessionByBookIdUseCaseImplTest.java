@@ -2,7 +2,6 @@ package com.inktrack.core.usecases.reading.sessions;
 
 import com.inktrack.core.domain.Book;
 import com.inktrack.core.domain.Category;
-import com.inktrack.core.domain.ReadingSession;
 import com.inktrack.core.domain.User;
 import com.inktrack.core.gateway.ReadingSessionGateway;
 import com.inktrack.core.utils.PageResult;
@@ -55,29 +54,14 @@ class GetReadingSessionByBookIdUseCaseImplTest {
   @DisplayName("Should return the reading sessions by book ID and user ID successfully paginated")
   void shouldReturnReadingSessionsByBookIdAndUserIdSuccessfullyPaginated() {
     // arrange
-    ReadingSession readingSession1 = ReadingSession.builder()
-        .id(1L)
-        .book(validBook)
-        .minutes(30L)
-        .pagesRead(20)
-        .sessionDate(OffsetDateTime.now())
-        .build();
-    ReadingSession readingSession2 = ReadingSession.builder()
-        .id(1L)
-        .book(validBook)
-        .minutes(30L)
-        .pagesRead(20)
-        .sessionDate(OffsetDateTime.now())
-        .build();
-    ReadingSession readingSession3 = ReadingSession.builder()
-        .id(1L)
-        .book(validBook)
-        .minutes(30L)
-        .pagesRead(20)
-        .sessionDate(OffsetDateTime.now())
-        .build();
+    ReadingSessionOutput readingSession1 =
+        new ReadingSessionOutput(1L, validBook.getId(), 30L, 20, OffsetDateTime.now());
+    ReadingSessionOutput readingSession2 =
+        new ReadingSessionOutput(2L, validBook.getId(), 30L, 20, OffsetDateTime.now());
+    ReadingSessionOutput readingSession3 =
+        new ReadingSessionOutput(3L, validBook.getId(), 30L, 20, OffsetDateTime.now());
 
-    when(readingSessionGateway.getReadingByBookIdAndUserId(validBook.getId(), validUser.getId(), 0, 3))
+    when(readingSessionGateway.getReadingByBookIdAndUserId(validBook.getId(), validUser.getId(), 0, 3, true))
         .thenReturn(new PageResult<>(
             3,
             1,
@@ -87,7 +71,7 @@ class GetReadingSessionByBookIdUseCaseImplTest {
 
 
     PageResult<ReadingSessionOutput> result = getReadingSessionByBookIdUseCase
-        .execute(validBook.getId(), validUser.getId(), 0);
+        .execute(validBook.getId(), validUser.getId(), 0, true);
 
     assertNotNull(result);
     assertEquals(3, result.pageSize());
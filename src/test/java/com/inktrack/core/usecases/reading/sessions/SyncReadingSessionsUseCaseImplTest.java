@@ -0,0 +1,212 @@
+package com.inktrack.core.usecases.reading.sessions;
+
+import com.inktrack.core.exception.FieldDomainValidationException;
+import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.DirectTransactionGateway;
+import com.inktrack.core.gateway.ReadingSessionGateway;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionSyncItemOutput.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncReadingSessionsUseCaseImplTest {
+
+  @Mock
+  private ReadingSessionGateway readingSessionGateway;
+
+  @Mock
+  private BookGateway bookGateway;
+
+  @Spy
+  private DirectTransactionGateway transactionGateway;
+
+  @InjectMocks
+  private SyncReadingSessionsUseCaseImpl syncReadingSessionsUseCase;
+
+  private UUID userId;
+  private OffsetDateTime yesterday;
+
+  @BeforeEach
+  void setUp() {
+    userId = UUID.randomUUID();
+    yesterday = OffsetDateTime.now().minusDays(1);
+  }
+
+  private ReadingSessionSyncInput session(String syncKey, Long bookId, int pagesRead) {
+    return new ReadingSessionSyncInput(syncKey, bookId, 30L, pagesRead, yesterday);
+  }
+
+  @Test
+  @DisplayName("Should move each book once by the sum of its sessions and insert every session")
+  void shouldAggregatePagesPerBookAndInsertSessions() {
+    List<ReadingSessionSyncInput> inputs = List.of(
+        session("k1", 2L, 10),
+        session("k2", 1L, 5),
+        session("k3", 2L, 15)
+    );
+    when(readingSessionGateway.claimSyncKeys(userId, List.of("k1", "k2", "k3"))).thenReturn(Set.of("k1", "k2", "k3"));
+    when(bookGateway.addPagesRead(userId, Map.of(1L, 5, 2L, 25))).thenReturn(Set.of(1L, 2L));
+    when(readingSessionGateway.saveSynced(userId, inputs)).thenReturn(List.of(100L, 101L, 102L));
+
+    ReadingSessionSyncOutput output = syncReadingSessionsUseCase.execute(inputs, userId);
+
+    assertEquals(3, output.created());
+    assertEquals(0, output.duplicates());
+    assertEquals(0, output.rejected());
+    List<Long> sessionIds = output.items().stream().map(ReadingSessionSyncItemOutput::sessionId).toList();
+    assertEquals(List.of(100L, 101L, 102L), sessionIds);
+    verify(bookGateway).addPagesRead(eq(userId), argThat(pages -> List.copyOf(pages.keySet()).equals(List.of(1L, 2L))));
+    verify(transactionGateway).run(any());
+    verify(readingSessionGateway, never()).findSyncedSessionIds(any(), any());
+  }
+
+  @Test
+  @DisplayName("Should report sessions synced before as duplicates without logging them again")
+  void shouldReportAlreadySyncedKeysAsDuplicates() {
+    Map<String, Long> synced = new HashMap<>();
+    synced.put("k1", 100L);
+    synced.put("k2", null);
+    when(readingSessionGateway.claimSyncKeys(userId, List.of("k1", "k2"))).thenReturn(Set.of());
+    when(readingSessionGateway.findSyncedSessionIds(userId, List.of("k1", "k2"))).thenReturn(synced);
+
+    ReadingSessionSyncOutput output = syncReadingSessionsUseCase.execute(
+        List.of(session("k1", 1L, 10), session("k2", 1L, 10)),
+        userId
+    );
+
+    assertEquals(2, output.duplicates());
+    assertEquals(Status.DUPLICATE, output.items().get(0).status());
+    assertEquals(100L, output.items().get(0).sessionId());
+    assertNull(output.items().get(1).sessionId());
+    verifyNoInteractions(bookGateway);
+    verify(readingSessionGateway, never()).saveSynced(any(), anyList());
+  }
+
+  @Test
+  @DisplayName("Should reject every session of a book that did not move and still log the other books")
+  void shouldRejectSessionsOfBooksThatDoNotFit() {
+    ReadingSessionSyncInput fits = session("k1", 1L, 10);
+    when(readingSessionGateway.claimSyncKeys(eq(userId), any())).thenReturn(Set.of("k1", "k2", "k3"));
+    when(bookGateway.addPagesRead(userId, Map.of(1L, 10, 2L, 900))).thenReturn(Set.of(1L));
+    when(readingSessionGateway.saveSynced(userId, List.of(fits))).thenReturn(List.of(100L));
+
+    ReadingSessionSyncOutput output = syncReadingSessionsUseCase.execute(
+        List.of(fits, session("k2", 2L, 450), session("k3", 2L, 450)),
+        userId
+    );
+
+    assertEquals(1, output.created());
+    assertEquals(2, output.rejected());
+    assertEquals("bookId", output.items().get(1).field());
+    assertEquals(Status.REJECTED, output.items().get(2).status());
+    verify(readingSessionGateway).releaseSyncKeys(userId, List.of("k2", "k3"));
+  }
+
+  @Test
+  @DisplayName("Should log only the keys it claimed and report the ones a concurrent sync took as duplicates")
+  void shouldLogOnlyClaimedKeys() {
+    ReadingSessionSyncInput claimed = session("k1", 1L, 10);
+    when(readingSessionGateway.claimSyncKeys(userId, List.of("k1", "k2"))).thenReturn(Set.of("k1"));
+    when(readingSessionGateway.findSyncedSessionIds(userId, List.of("k2"))).thenReturn(Map.of("k2", 200L));
+    when(bookGateway.addPagesRead(userId, Map.of(1L, 10))).thenReturn(Set.of(1L));
+    when(readingSessionGateway.saveSynced(userId, List.of(claimed))).thenReturn(List.of(100L));
+
+    ReadingSessionSyncOutput output = syncReadingSessionsUseCase.execute(
+        List.of(claimed, session("k2", 1L, 20)),
+        userId
+    );
+
+    assertEquals(1, output.created());
+    assertEquals(1, output.duplicates());
+    assertEquals(200L, output.items().get(1).sessionId());
+  }
+
+  @Test
+  @DisplayName("Should reject invalid items on their own and give a repeated key the first item's outcome")
+  void shouldRejectInvalidItemsAndResolveRepeatedKeys() {
+    ReadingSessionSyncInput valid = session("k1", 1L, 10);
+    when(readingSessionGateway.claimSyncKeys(userId, List.of("k1"))).thenReturn(Set.of("k1"));
+    when(bookGateway.addPagesRead(userId, Map.of(1L, 10))).thenReturn(Set.of(1L));
+    when(readingSessionGateway.saveSynced(userId, List.of(valid))).thenReturn(List.of(100L));
+
+    ReadingSessionSyncOutput output = syncReadingSessionsUseCase.execute(
+        Arrays.asList(
+            valid,
+            session(" ", 1L, 10),
+            session("k2", null, 10),
+            new ReadingSessionSyncInput("k3", 1L, 0L, 10, yesterday),
+            session("k4", 1L, 0),
+            null,
+            session("k1", 1L, 10)
+        ),
+        userId
+    );
+
+    assertEquals(1, output.created());
+    assertEquals(1, output.duplicates());
+    assertEquals(5, output.rejected());
+    List<String> fields = output.items().stream().map(ReadingSessionSyncItemOutput::field).toList();
+    assertEquals(Arrays.asList(null, "syncKey", "bookId", "minutes", "pagesRead", "session", null), fields);
+    assertEquals(100L, output.items().get(6).sessionId());
+  }
+
+  @Test
+  @DisplayName("Should date sessions sent without a date at the time of the sync")
+  void shouldDateUndatedSessions() {
+    when(readingSessionGateway.claimSyncKeys(eq(userId), any())).thenReturn(Set.of("k1"));
+    when(bookGateway.addPagesRead(eq(userId), any())).thenReturn(Set.of(1L));
+    when(readingSessionGateway.saveSynced(eq(userId), anyList())).thenReturn(List.of(100L));
+
+    syncReadingSessionsUseCase.execute(List.of(new ReadingSessionSyncInput("k1", 1L, 30L, 10, null)), userId);
+
+    verify(readingSessionGateway).saveSynced(eq(userId), argThat(sessions -> {
+      assertNotNull(sessions.get(0).sessionDate());
+      return true;
+    }));
+  }
+
+  @Test
+  @DisplayName("Should refuse empty, oversized and anonymous batches")
+  void shouldRefuseInvalidBatches() {
+    List<ReadingSessionSyncInput> tooMany = Collections.nCopies(
+        SyncReadingSessionsUseCase.MAX_BATCH_SIZE + 1,
+        session("k1", 1L, 10)
+    );
+
+    assertThrows(FieldDomainValidationException.class, () -> syncReadingSessionsUseCase.execute(List.of(), userId));
+    assertThrows(FieldDomainValidationException.class, () -> syncReadingSessionsUseCase.execute(tooMany, userId));
+    assertThrows(
+        FieldDomainValidationException.class,
+        () -> syncReadingSessionsUseCase.execute(List.of(session("k1", 1L, 10)), null)
+    );
+    verifyNoInteractions(readingSessionGateway, bookGateway);
+  }
+}
@@ -6,6 +6,7 @@ import com.inktrack.core.domain.ReadingSession;
 import com.inktrack.core.domain.User;
 import com.inktrack.core.exception.ResourceNotFoundException;
 import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.DirectTransactionGateway;
 import com.inktrack.core.gateway.ReadingSessionGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
@@ -24,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,6 +38,9 @@ class UpdateReadingSessionUseCaseImplTest {
   private ReadingSessionGateway readingSessionGateway;
   @Mock
   private BookGateway bookGateway;
+  @Spy
+  private DirectTransactionGateway transactionGateway;
+
   @InjectMocks
   private UpdateReadingSessionUseCaseImpl updateReadingSessionUseCase;
 
@@ -76,7 +82,7 @@ class UpdateReadingSessionUseCaseImplTest {
   @DisplayName("Should update reading session successfully")
   void shouldUpdateReadingSessionSuccessfully() {
     when(bookGateway.findByIdAndUserId(bookId, userId)).thenReturn(validBook);
-    when(readingSessionGateway.getByIdAndByBookIdAndUserId(readingSessionId, bookId, userId))
+    when(readingSessionGateway.update(any(ReadingSession.class), eq(userId)))
         .thenReturn(Optional.of(validReadingSession));
 
     ReadingSessionOutput result = updateReadingSessionUseCase.execute(bookId, userId, readingSessionId, validInput);
@@ -87,44 +93,40 @@ class UpdateReadingSessionUseCaseImplTest {
     assertEquals(15, result.pagesRead());
     assertEquals(45, result.minutes());
 
+    verify(transactionGateway).execute(any());
     verify(bookGateway).findByIdAndUserId(bookId, userId);
-    verify(readingSessionGateway).getByIdAndByBookIdAndUserId(readingSessionId, bookId, userId);
-    verify(bookGateway).update(any(Book.class));
-    verify(readingSessionGateway).update(any(ReadingSession.class));
+    verify(readingSessionGateway).update(any(ReadingSession.class), eq(userId));
   }
 
   @Test
   @DisplayName("Should throw ResourceNotFoundException when reading session not found")
   void shouldThrowResourceNotFoundExceptionWhenReadingSessionNotFound() {
     when(bookGateway.findByIdAndUserId(bookId, userId)).thenReturn(validBook);
-    when(readingSessionGateway.getByIdAndByBookIdAndUserId(readingSessionId, bookId, userId))
+    when(readingSessionGateway.update(any(ReadingSession.class), eq(userId)))
         .thenReturn(Optional.empty());
 
     assertThrows(ResourceNotFoundException.class, () ->
         updateReadingSessionUseCase.execute(bookId, userId, readingSessionId, validInput));
-
-    verify(bookGateway, never()).update(any(Book.class));
-    verify(readingSessionGateway, never()).update(any(ReadingSession.class));
   }
 
   @Test
-  @DisplayName("Should update book pages read correctly")
-  void shouldUpdateBookPagesReadCorrectly() {
+  @DisplayName("Should leave the pages read difference to the gateway instead of saving the loaded book")
+  void shouldNotRewriteTheLoadedBook() {
     when(bookGateway.findByIdAndUserId(bookId, userId)).thenReturn(validBook);
-    when(readingSessionGateway.getByIdAndByBookIdAndUserId(readingSessionId, bookId, userId))
+    when(readingSessionGateway.update(any(ReadingSession.class), eq(userId)))
         .thenReturn(Optional.of(validReadingSession));
 
     updateReadingSessionUseCase.execute(bookId, userId, readingSessionId, validInput);
 
-    assertEquals(55, validBook.getPagesRead());
-    verify(bookGateway).update(validBook);
+    assertEquals(50, validBook.getPagesRead());
+    verify(bookGateway, never()).update(any(Book.class));
   }
 
   @Test
   @DisplayName("Should create updated reading session with new input values")
   void shouldCreateUpdatedReadingSessionWithNewValues() {
     when(bookGateway.findByIdAndUserId(bookId, userId)).thenReturn(validBook);
-    when(readingSessionGateway.getByIdAndByBookIdAndUserId(readingSessionId, bookId, userId))
+    when(readingSessionGateway.update(any(ReadingSession.class), eq(userId)))
         .thenReturn(Optional.of(validReadingSession));
 
     updateReadingSessionUseCase.execute(bookId, userId, readingSessionId, validInput);
@@ -133,6 +135,6 @@ class UpdateReadingSessionUseCaseImplTest {
         session.getId().equals(readingSessionId) &&
             session.getPagesRead() == 15 &&
             session.getMinutes() == 45
-    ));
+    ), eq(userId));
   }
 }
@@ -12,7 +12,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,7 +38,6 @@ class CreateUserUseCaseImplTest {
     void execute_shouldCreateUser_whenDataIsValid() {
         CreateUserRequestModel request = new CreateUserRequestModel("John Doe", "john@email.com", "Password123!");
         
-        when(userGateway.findByEmail(request.email())).thenReturn(Optional.empty());
         when(passwordGateway.hash(request.passwordRaw())).thenReturn("hashed_password");
         when(userGateway.save(any(User.class))).thenAnswer(invocation -> {
             User u = invocation.getArgument(0);
@@ -59,10 +57,11 @@ class CreateUserUseCaseImplTest {
     void execute_shouldThrowException_whenEmailAlreadyExists() {
         CreateUserRequestModel request = new CreateUserRequestModel("John Doe", "john@email.com", "Password123!");
         
-        when(userGateway.findByEmail(request.email())).thenReturn(Optional.of(new User(UUID.randomUUID(), "Existing", "john@email.com", "pass", LocalDateTime.now())));
+        when(passwordGateway.hash(request.passwordRaw())).thenReturn("hashed_password");
+        when(userGateway.save(any(User.class))).thenThrow(new EmailAlreadyExistsException(request.email()));
 
         assertThrows(EmailAlreadyExistsException.class, () -> createUserUseCase.execute(request));
-        verify(userGateway, never()).save(any());
+        verify(userGateway, never()).findByEmail(any());
     }
 
     @Test
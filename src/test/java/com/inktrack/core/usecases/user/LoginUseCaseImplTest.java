@@ -18,6 +18,10 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,7 +50,7 @@ class LoginUseCaseImplTest {
 
     when(userGateway.findByEmail(request.email())).thenReturn(Optional.of(user));
     when(passwordGateway.matches(request.passwordRaw(), user.getPassword())).thenReturn(true);
-    when(jwtGateway.generateAccessToken(user.getId())).thenReturn("access_token");
+    when(jwtGateway.generateAccessToken(user)).thenReturn("access_token");
     when(jwtGateway.generateRefreshToken(user.getId())).thenReturn("refresh_token");
 
     AuthTokens tokens = loginUseCase.execute(request);
@@ -74,4 +78,37 @@ class LoginUseCaseImplTest {
 
     assertThrows(InvalidCredentialsException.class, () -> loginUseCase.execute(request));
   }
+
+  @Test
+  void execute_shouldRehashPassword_whenStoredHashUsesOutdatedCost() {
+    AuthRequest request = new AuthRequest("john@email.com", "StrongP@ss1");
+    User user = new User(UUID.randomUUID(), "John", "john@email.com", "old_hash", LocalDateTime.now());
+
+    when(userGateway.findByEmail(request.email())).thenReturn(Optional.of(user));
+    when(passwordGateway.matches(request.passwordRaw(), user.getPassword())).thenReturn(true);
+    when(passwordGateway.needsRehash(user.getPassword())).thenReturn(true);
+    when(passwordGateway.hash(request.passwordRaw())).thenReturn("new_hash");
+    when(jwtGateway.generateAccessToken(user)).thenReturn("access_token");
+    when(jwtGateway.generateRefreshToken(user.getId())).thenReturn("refresh_token");
+
+    loginUseCase.execute(request);
+
+    verify(userGateway).updatePasswordHash(user.getId(), "new_hash");
+  }
+
+  @Test
+  void execute_shouldNotRehashPassword_whenStoredHashIsCurrent() {
+    AuthRequest request = new AuthRequest("john@email.com", "StrongP@ss1");
+    User user = new User(UUID.randomUUID(), "John", "john@email.com", "current_hash", LocalDateTime.now());
+
+    when(userGateway.findByEmail(request.email())).thenReturn(Optional.of(user));
+    when(passwordGateway.matches(request.passwordRaw(), user.getPassword())).thenReturn(true);
+    when(passwordGateway.needsRehash(user.getPassword())).thenReturn(false);
+    when(jwtGateway.generateAccessToken(user)).thenReturn("access_token");
+    when(jwtGateway.generateRefreshToken(user.getId())).thenReturn("refresh_token");
+
+    loginUseCase.execute(request);
+
+    verify(userGateway, never()).updatePasswordHash(any(), anyString());
+  }
 }
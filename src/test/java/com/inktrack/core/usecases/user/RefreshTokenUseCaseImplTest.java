@@ -1,6 +1,10 @@
 package com.inktrack.core.usecases.user;
 
+import com.inktrack.core.domain.User;
 import com.inktrack.core.gateway.JwtGateway;
+import com.inktrack.core.gateway.JwtGateway.VerifiedToken;
+import com.inktrack.core.gateway.TokenRevocationGateway;
+import com.inktrack.core.gateway.UserGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,11 +12,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import com.inktrack.core.exception.UnauthorizedException;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,32 +31,67 @@ class RefreshTokenUseCaseImplTest {
     @Mock
     private JwtGateway jwtGateway;
 
+    @Mock
+    private UserGateway userGateway;
+
+    @Mock
+    private TokenRevocationGateway tokenRevocationGateway;
+
     private RefreshTokenUseCaseImpl refreshTokenUseCase;
 
+    private final UUID userId = UUID.randomUUID();
+
+    private final VerifiedToken verifiedRefresh = new VerifiedToken(
+        userId, "refresh", "jti-1", Instant.now().plusSeconds(3600), null, null, null
+    );
+
     @BeforeEach
     void setUp() {
-        refreshTokenUseCase = new RefreshTokenUseCaseImpl(jwtGateway);
+        refreshTokenUseCase = new RefreshTokenUseCaseImpl(jwtGateway, userGateway, tokenRevocationGateway);
     }
 
     @Test
-    void execute_shouldReturnNewAccessToken_whenRefreshTokenIsValid() {
+    void execute_shouldRotateTokens_whenRefreshTokenIsValid() {
         String refreshToken = "valid_refresh_token";
-        UUID userId = UUID.randomUUID();
+        User user = new User(userId, "John", "john@email.com", "hashed_password", LocalDateTime.now());
 
-        when(jwtGateway.validateRefreshToken(refreshToken)).thenReturn(userId);
-        when(jwtGateway.generateAccessToken(userId)).thenReturn("new_access_token");
+        when(jwtGateway.verifyRefreshToken(refreshToken)).thenReturn(verifiedRefresh);
+        when(tokenRevocationGateway.revoke("jti-1", userId, verifiedRefresh.expiresAt())).thenReturn(true);
+        when(userGateway.findById(userId)).thenReturn(Optional.of(user));
+        when(jwtGateway.generateAccessToken(user)).thenReturn("new_access_token");
+        when(jwtGateway.generateRefreshToken(userId)).thenReturn("new_refresh_token");
 
         AuthTokens tokens = refreshTokenUseCase.execute(refreshToken);
 
         assertNotNull(tokens);
         assertEquals("new_access_token", tokens.accessToken());
-        assertEquals(refreshToken, tokens.refreshToken());
+        assertEquals("new_refresh_token", tokens.refreshToken());
     }
 
     @Test
     void execute_shouldThrowException_whenRefreshTokenIsInvalid() {
         String refreshToken = "invalid_refresh_token";
-        when(jwtGateway.validateRefreshToken(refreshToken)).thenThrow(new UnauthorizedException("Invalid token"));
+        when(jwtGateway.verifyRefreshToken(refreshToken)).thenThrow(new UnauthorizedException("Invalid token"));
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenUseCase.execute(refreshToken));
+    }
+
+    @Test
+    void execute_shouldThrowException_whenRefreshTokenWasAlreadyUsed() {
+        String refreshToken = "reused_refresh_token";
+        when(jwtGateway.verifyRefreshToken(refreshToken)).thenReturn(verifiedRefresh);
+        when(tokenRevocationGateway.revoke("jti-1", userId, verifiedRefresh.expiresAt())).thenReturn(false);
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenUseCase.execute(refreshToken));
+        verify(jwtGateway, never()).generateRefreshToken(any());
+    }
+
+    @Test
+    void execute_shouldThrowException_whenUserNoLongerExists() {
+        String refreshToken = "valid_refresh_token";
+        when(jwtGateway.verifyRefreshToken(refreshToken)).thenReturn(verifiedRefresh);
+        when(tokenRevocationGateway.revoke("jti-1", userId, verifiedRefresh.expiresAt())).thenReturn(true);
+        when(userGateway.findById(userId)).thenReturn(Optional.empty());
 
         assertThrows(UnauthorizedException.class, () -> refreshTokenUseCase.execute(refreshToken));
     }
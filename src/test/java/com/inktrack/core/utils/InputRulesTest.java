@@ -0,0 +1,87 @@
+package com.inktrack.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputRulesTest {
+
+    private static final Pattern EMAIL_REGEX = Pattern.compile("^[\\w\\.-]+@[\\w\\.-]+\\.\\w{2,}$");
+    private static final String ALPHABET = "aZ9_.-@#!+ \né\uD83D\uDE00";
+
+    @Test
+    void passwordViolations_shouldReportEachMissingRule() {
+        assertEquals(0, InputRules.passwordViolations("StrongP@ss1"));
+        assertEquals(InputRules.MISSING_LOWERCASE, InputRules.passwordViolations("STRONGP@SS1"));
+        assertEquals(InputRules.MISSING_UPPERCASE, InputRules.passwordViolations("strongp@ss1"));
+        assertEquals(InputRules.MISSING_DIGIT, InputRules.passwordViolations("StrongP@ssword"));
+        assertEquals(InputRules.MISSING_SPECIAL_CHAR, InputRules.passwordViolations("StrongPass1"));
+        assertEquals(InputRules.TOO_SHORT, InputRules.passwordViolations("Sp@ss1a"));
+        assertEquals(InputRules.TOO_SHORT, InputRules.passwordViolations("StrongP@ss1\n"));
+    }
+
+    @Test
+    void passwordViolations_shouldCountLengthInCodePoints() {
+        String emoji = "\uD83D\uDE00";
+        assertEquals(0, InputRules.passwordViolations("Sp@ss1a" + emoji));
+        assertEquals(InputRules.TOO_SHORT, InputRules.passwordViolations("Sp@ss1" + emoji));
+        assertEquals(InputRules.TOO_SHORT, InputRules.passwordViolations("Sp@1" + emoji + emoji));
+    }
+
+    @Test
+    void isValidEmail_shouldHandleEdgeCases() {
+        assertTrue(InputRules.isValidEmail("user.name@domain.co.uk"));
+        assertTrue(InputRules.isValidEmail("a-b_c@x-y.io"));
+        assertFalse(InputRules.isValidEmail("user@domain.c"));
+        assertFalse(InputRules.isValidEmail("user@.com"));
+        assertFalse(InputRules.isValidEmail("user@domain.co-m"));
+        assertFalse(InputRules.isValidEmail("us@er@domain.com"));
+        assertFalse(InputRules.isValidEmail("user@domain.com\n"));
+    }
+
+    @Test
+    void shouldAgreeWithRegexRulesOnRandomInputs() {
+        Random random = new Random(42);
+        List<String> samples = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder value = new StringBuilder();
+            int length = random.nextInt(14);
+            for (int j = 0; j < length; j++) {
+                value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            samples.add(value.toString());
+        }
+
+        for (String sample : samples) {
+            assertEquals(EMAIL_REGEX.matcher(sample).matches(), InputRules.isValidEmail(sample), sample);
+            assertEquals(regexPasswordViolations(sample), InputRules.passwordViolations(sample), sample);
+        }
+    }
+
+    private static int regexPasswordViolations(String password) {
+        int violations = 0;
+        if (!PasswordCheck.LOWERCASE_PATTERN.matcher(password).find()) {
+            violations |= InputRules.MISSING_LOWERCASE;
+        }
+        if (!PasswordCheck.UPPERCASE_PATTERN.matcher(password).find()) {
+            violations |= InputRules.MISSING_UPPERCASE;
+        }
+        if (!PasswordCheck.DIGIT_PATTERN.matcher(password).find()) {
+            violations |= InputRules.MISSING_DIGIT;
+        }
+        if (!PasswordCheck.SPECIAL_CHAR_PATTERN.matcher(password).find()) {
+            violations |= InputRules.MISSING_SPECIAL_CHAR;
+        }
+        if (!PasswordCheck.LENGTH_PATTERN.matcher(password).matches()) {
+            violations |= InputRules.TOO_SHORT;
+        }
+        return violations;
+    }
+}
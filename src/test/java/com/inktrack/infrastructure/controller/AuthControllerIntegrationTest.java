@@ -26,6 +26,7 @@ import org.springframework.web.context.WebApplicationContext;
 import java.util.Date;
 
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -178,6 +179,48 @@ class AuthControllerIntegrationTest {
         .andExpect(jsonPath("$.data.refreshToken").value(notNullValue()));
   }
 
+  @Test
+  void shouldRejectReuseOfRotatedRefreshToken() throws Exception {
+    CreateUserRequest registerRequest = new CreateUserRequest("John Doe", "john@example.com", "Password123!");
+    mockMvc.perform(post("/auth/register")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(registerRequest)));
+
+    LoginRequest loginRequest = new LoginRequest("john@example.com", "Password123!");
+    String loginResponse = mockMvc.perform(post("/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(loginRequest)))
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    String refreshToken = objectMapper.readTree(loginResponse)
+        .get("data")
+        .get("refreshToken")
+        .asText();
+    String refreshBody = objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken));
+
+    String refreshResponse = mockMvc.perform(post("/auth/refresh")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(refreshBody))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    String rotatedToken = objectMapper.readTree(refreshResponse)
+        .get("data")
+        .get("refreshToken")
+        .asText();
+    assertNotEquals(refreshToken, rotatedToken);
+
+    mockMvc.perform(post("/auth/refresh")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(refreshBody))
+        .andExpect(status().isUnauthorized())
+        .andExpect(jsonPath("$.message").value("Refresh token has been revoked"));
+  }
+
   @Test
   void shouldReturnBadRequestWhenRegisterWithEmptyName() throws Exception {
     CreateUserRequest request = new CreateUserRequest("", "john@example.com", "Password123!");
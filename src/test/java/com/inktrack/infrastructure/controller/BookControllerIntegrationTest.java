@@ -2,6 +2,7 @@ package com.inktrack.infrastructure.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inktrack.InkTrackApplication;
+import com.inktrack.infrastructure.dtos.book.BookBatchCreateRequest;
 import com.inktrack.infrastructure.dtos.book.BookCreateRequest;
 import com.inktrack.infrastructure.dtos.user.CreateUserRequest;
 import com.inktrack.infrastructure.dtos.user.LoginRequest;
@@ -34,9 +35,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -208,6 +211,111 @@ class BookControllerIntegrationTest {
         .andExpect(status().isBadRequest());
   }
 
+  @Test
+  @DisplayName("Should create a batch of books and report each item")
+  void shouldCreateBooksInBatch() throws Exception {
+    String token = authenticateAndGetToken();
+
+    BookBatchCreateRequest request = new BookBatchCreateRequest(List.of(
+        new BookCreateRequest("Clean Code", "Robert C. Martin", 464, testCategoryId, null),
+        new BookCreateRequest("", "Nobody", 100, testCategoryId, null),
+        new BookCreateRequest("Refactoring", "Martin Fowler", 448, 999_999L, null),
+        new BookCreateRequest("The Pragmatic Programmer", "Andy Hunt", 352, testCategoryId, null)
+    ));
+
+    mockMvc.perform(post("/books/batch")
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isMultiStatus())
+        .andExpect(jsonPath("$.data.created").value(2))
+        .andExpect(jsonPath("$.data.rejected").value(2))
+        .andExpect(jsonPath("$.data.items[0].status").value("CREATED"))
+        .andExpect(jsonPath("$.data.items[0].book.id").value(notNullValue()))
+        .andExpect(jsonPath("$.data.items[1].status").value("REJECTED"))
+        .andExpect(jsonPath("$.data.items[1].field").value("title"))
+        .andExpect(jsonPath("$.data.items[2].field").value("categoryId"))
+        .andExpect(jsonPath("$.data.items[3].book.title").value("The Pragmatic Programmer"));
+
+    assertThat(bookRepository.findAll())
+        .extracting(BookEntity::getTitle)
+        .containsExactlyInAnyOrder("Clean Code", "The Pragmatic Programmer");
+  }
+
+  @Test
+  @DisplayName("Should return Created when every book of the batch is valid")
+  void shouldReturnCreatedWhenWholeBatchIsValid() throws Exception {
+    String token = authenticateAndGetToken();
+
+    BookBatchCreateRequest request = new BookBatchCreateRequest(List.of(
+        new BookCreateRequest("Clean Code", "Robert C. Martin", 464, testCategoryId, null)
+    ));
+
+    mockMvc.perform(post("/books/batch")
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.data.created").value(1));
+  }
+
+  @Test
+  @DisplayName("Should return Bad Request when the batch is empty")
+  void shouldReturnBadRequestWhenBatchIsEmpty() throws Exception {
+    String token = authenticateAndGetToken();
+
+    mockMvc.perform(post("/books/batch")
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new BookBatchCreateRequest(List.of()))))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Should patch only the fields sent")
+  void shouldPatchBookSuccessfully() throws Exception {
+    String token = authenticateAndGetToken();
+    long bookId = createBook(token, new BookCreateRequest("Clean Code", "Robert C. Martin", 464, testCategoryId, null));
+
+    mockMvc.perform(patch("/books/" + bookId)
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"title\": \"Clean Code 2nd Edition\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.title").value("Clean Code 2nd Edition"))
+        .andExpect(jsonPath("$.data.author").value("Robert C. Martin"))
+        .andExpect(jsonPath("$.data.totalPages").value(464))
+        .andExpect(jsonPath("$.data.user.email").value(notNullValue()))
+        .andExpect(jsonPath("$.data.category.id").value(testCategoryId));
+
+    assertThat(bookRepository.findById(bookId).orElseThrow().getTitle()).isEqualTo("Clean Code 2nd Edition");
+  }
+
+  @Test
+  @DisplayName("Should return Bad Request when a patched title is blank")
+  void shouldReturnBadRequestWhenPatchedTitleIsBlank() throws Exception {
+    String token = authenticateAndGetToken();
+    long bookId = createBook(token, new BookCreateRequest("Clean Code", "Robert C. Martin", 464, testCategoryId, null));
+
+    mockMvc.perform(patch("/books/" + bookId)
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"title\": \" \"}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Should return Not Found when patching a missing book")
+  void shouldReturnNotFoundWhenPatchingMissingBook() throws Exception {
+    String token = authenticateAndGetToken();
+
+    mockMvc.perform(patch("/books/999999")
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"title\": \"Anything\"}"))
+        .andExpect(status().isNotFound());
+  }
+
   @Test
   @DisplayName("Should update book successfully when authenticated and data is valid")
   void shouldUpdateBookSuccessfully() throws Exception {
@@ -321,6 +429,117 @@ class BookControllerIntegrationTest {
         .andExpect(jsonPath("$.data.data[0].title").value("Clean Code"));
   }
 
+  @Test
+  @DisplayName("Should filter books by author and reject a reversed progress range")
+  void shouldFilterBooksByAuthorAndValidateProgressRange() throws Exception {
+    String token = authenticateAndGetToken();
+
+    createBook(token, "Clean Code");
+    createBook(token, new BookCreateRequest("Refactoring", "Martin Fowler", 448, testCategoryId, null));
+
+    mockMvc.perform(get("/books")
+            .param("author", "fowler")
+            .param("minProgress", "0")
+            .param("maxProgress", "100")
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.data.length()").value(1))
+        .andExpect(jsonPath("$.data.data[0].title").value("Refactoring"));
+
+    mockMvc.perform(get("/books")
+            .param("minProgress", "60")
+            .param("maxProgress", "10")
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Should answer 304 for an unchanged book and 200 once it is updated")
+  void shouldReturnNotModifiedForUnchangedBook() throws Exception {
+    String token = authenticateAndGetToken();
+    long bookId = createBook(token, "Clean Code");
+
+    String etag = mockMvc.perform(get("/books/" + bookId)
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isOk())
+        .andExpect(header().exists("ETag"))
+        .andExpect(header().string("Cache-Control", "no-cache, private"))
+        .andReturn()
+        .getResponse()
+        .getHeader("ETag");
+
+    mockMvc.perform(get("/books/" + bookId)
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    BookCreateRequest updateRequest = new BookCreateRequest("Clean Code 2nd", "Robert C. Martin", 500, testCategoryId, null);
+    mockMvc.perform(put("/books/" + bookId)
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(updateRequest)))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(get("/books/" + bookId)
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.title").value("Clean Code 2nd"));
+  }
+
+  @Test
+  @DisplayName("Should answer 304 for an unchanged book list and 200 after a deletion")
+  void shouldReturnNotModifiedForUnchangedBookList() throws Exception {
+    String token = authenticateAndGetToken();
+    createBook(token, "Clean Code");
+    long refactoringId = createBook(token, "Refactoring");
+
+    String etag = mockMvc.perform(get("/books")
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader("ETag");
+
+    mockMvc.perform(get("/books")
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", etag))
+        .andExpect(status().isNotModified());
+
+    mockMvc.perform(get("/books")
+            .param("sortBy", "TITLE_ASC")
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", etag))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(delete("/books/" + refactoringId)
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().is2xxSuccessful());
+
+    mockMvc.perform(get("/books")
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.data.length()").value(1));
+  }
+
+  @Test
+  @DisplayName("Should list books with their category and without the owning user")
+  void shouldListBooksWithoutUser() throws Exception {
+    String token = authenticateAndGetToken();
+
+    createBook(token, "Clean Code");
+
+    mockMvc.perform(get("/books")
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.data[0].title").value("Clean Code"))
+        .andExpect(jsonPath("$.data.data[0].category.id").value(notNullValue()))
+        .andExpect(jsonPath("$.data.data[0].category.name").value(notNullValue()))
+        .andExpect(jsonPath("$.data.data[0].user").doesNotExist());
+  }
+
   @Test
   @DisplayName("Should return books ordered by most recent")
   void shouldReturnBooksOrderedByRecent() throws Exception {
@@ -369,6 +588,52 @@ class BookControllerIntegrationTest {
         .andExpect(jsonPath("$.data.totalPages").value(2));
   }
 
+  @Test
+  @DisplayName("Should scroll through all books with the next cursor")
+  void shouldScrollBooksWithCursor() throws Exception {
+    String token = authenticateAndGetToken();
+
+    createBook(token, "Book C");
+    createBook(token, "Book A");
+    createBook(token, "Book B");
+
+    String firstPage = mockMvc.perform(get("/books")
+            .param("size", "2")
+            .param("sortBy", "TITLE_ASC")
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.data[0].title").value("Book A"))
+        .andExpect(jsonPath("$.data.data[1].title").value("Book B"))
+        .andExpect(jsonPath("$.data.nextCursor").value(notNullValue()))
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    String cursor = objectMapper.readTree(firstPage).get("data").get("nextCursor").asText();
+
+    mockMvc.perform(get("/books")
+            .param("size", "2")
+            .param("sortBy", "TITLE_ASC")
+            .param("cursor", cursor)
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.data.length()").value(1))
+        .andExpect(jsonPath("$.data.data[0].title").value("Book C"))
+        .andExpect(jsonPath("$.data.nextCursor").value(nullValue()))
+        .andExpect(jsonPath("$.data.totalPages").value(nullValue()));
+  }
+
+  @Test
+  @DisplayName("Should return bad request when the cursor is malformed")
+  void shouldReturnBadRequestWhenCursorIsMalformed() throws Exception {
+    String token = authenticateAndGetToken();
+
+    mockMvc.perform(get("/books")
+            .param("cursor", "not-a-cursor")
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   @DisplayName("Should return book with id valid")
   void shouldReturnBookWithValidId() throws Exception {
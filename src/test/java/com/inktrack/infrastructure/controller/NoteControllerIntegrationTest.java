@@ -30,6 +30,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -230,6 +231,75 @@ class NoteControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.data[1].content").value("Note about aggregates"));
     }
 
+    @Test
+    @DisplayName("Should answer 304 while the notes are unchanged and 200 once one is edited")
+    void shouldReturnNotModifiedWhileNotesAreUnchanged() throws Exception {
+        String token = authenticateAndGetToken();
+
+        BookCreateRequest bookRequest = new BookCreateRequest("Domain-Driven Design", "Eric Evans", 400, testCategoryId, null);
+        long bookId = createBook(token, bookRequest);
+        long noteId = createNote(token, bookId, new CreateNoteRequest("Note about aggregates"));
+
+        String etag = mockMvc.perform(get("/books/" + bookId + "/notes")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/books/" + bookId + "/notes")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/books/" + bookId + "/notes")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag)
+                .param("page", "1"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/books/" + bookId + "/notes/" + noteId)
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateNoteRequest("Edited note"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/books/" + bookId + "/notes")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.data[0].content").value("Edited note"));
+    }
+
+    @Test
+    @DisplayName("Should return hasNext without a total when includeTotal is false")
+    void shouldGetNotesWithoutTotalWhenIncludeTotalIsFalse() throws Exception {
+        String token = authenticateAndGetToken();
+
+        BookCreateRequest bookRequest = new BookCreateRequest("Domain-Driven Design", "Eric Evans", 400, testCategoryId, null);
+        long bookId = createBook(token, bookRequest);
+
+        for (int i = 1; i <= 6; i++) {
+            createNote(token, bookId, new CreateNoteRequest("Note " + i));
+        }
+
+        mockMvc.perform(get("/books/" + bookId + "/notes")
+                .header("Authorization", "Bearer " + token)
+                .param("includeTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.data", hasSize(5)))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.totalPages").doesNotExist());
+
+        mockMvc.perform(get("/books/" + bookId + "/notes")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalPages").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
     @Test
     @DisplayName("Should return empty list when book has no notes")
     void shouldReturnEmptyListWhenBookHasNoNotes() throws Exception {
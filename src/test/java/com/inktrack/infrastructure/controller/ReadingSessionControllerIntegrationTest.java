@@ -32,6 +32,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -176,6 +177,39 @@ class ReadingSessionControllerIntegrationTest {
     assertThat(session.getBook().getId()).isEqualTo(bookId);
   }
 
+  @Test
+  void shouldRejectSessionThatPassesTheTotalPagesWithoutSavingIt() throws Exception {
+    String accessToken = authenticateAndGetToken();
+    long bookId = createBook(accessToken, new BookCreateRequest("Refactoring", "Martin Fowler", 100, testCategoryId, null));
+    long sessionId = createReadingSession(accessToken, bookId, new ReadingSessionCreateRequest(30L, 80));
+
+    mockMvc.perform(
+            post("/books/{bookId}/reading-sessions", bookId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + accessToken)
+                .content(objectMapper.writeValueAsString(new ReadingSessionCreateRequest(10L, 21)))
+        )
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].field").value("pagesRead"));
+
+    mockMvc.perform(
+            put("/books/{bookId}/reading-sessions/{readingSessionId}", bookId, sessionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + accessToken)
+                .content(objectMapper.writeValueAsString(new ReadingSessionCreateRequest(30L, 60)))
+        )
+        .andExpect(status().isOk());
+
+    mockMvc.perform(
+            delete("/books/{bookId}/reading-sessions/{readingSessionId}", bookId, sessionId)
+                .header("Authorization", "Bearer " + accessToken)
+        )
+        .andExpect(status().isNoContent());
+
+    assertThat(readingSessionRepository.findAll()).isEmpty();
+    assertThat(bookRepository.findById(bookId).orElseThrow().getPagesRead()).isZero();
+  }
+
   @Test
   @DisplayName("should return the reading session paginated")
   void shouldReturnReadingSessionPaginated() throws Exception {
@@ -202,6 +236,41 @@ class ReadingSessionControllerIntegrationTest {
         .andExpect(jsonPath("$.data.data[1].pagesRead").value(50));
   }
 
+  @Test
+  @DisplayName("should answer 304 while the reading sessions are unchanged")
+  void shouldReturnNotModifiedWhileReadingSessionsAreUnchanged() throws Exception {
+    String accessToken = authenticateAndGetToken();
+    long bookId = createBook(accessToken, new BookCreateRequest("Clean Code", "Robert C. Martin", 464, testCategoryId, null));
+    createReadingSession(accessToken, bookId, new ReadingSessionCreateRequest(60L, 50));
+
+    String etag = mockMvc.perform(
+            get("/books/{bookId}/reading-sessions", bookId)
+                .header("Authorization", "Bearer " + accessToken)
+        )
+        .andExpect(status().isOk())
+        .andExpect(header().exists("ETag"))
+        .andReturn()
+        .getResponse()
+        .getHeader("ETag");
+
+    mockMvc.perform(
+            get("/books/{bookId}/reading-sessions", bookId)
+                .header("Authorization", "Bearer " + accessToken)
+                .header("If-None-Match", etag)
+        )
+        .andExpect(status().isNotModified());
+
+    createReadingSession(accessToken, bookId, new ReadingSessionCreateRequest(30L, 20));
+
+    mockMvc.perform(
+            get("/books/{bookId}/reading-sessions", bookId)
+                .header("Authorization", "Bearer " + accessToken)
+                .header("If-None-Match", etag)
+        )
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.data.length()").value(2));
+  }
+
   @Test
   @DisplayName("should return 404 when trying to get reading sessions for a non-existent book")
   void shouldReturn404WhenGettingReadingSessionsForNonExistentBook() throws Exception {
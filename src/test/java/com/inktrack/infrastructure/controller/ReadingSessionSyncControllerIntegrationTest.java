@@ -0,0 +1,264 @@
+package com.inktrack.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inktrack.InkTrackApplication;
+import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.User;
+import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.TransactionGateway;
+import com.inktrack.infrastructure.dtos.user.CreateUserRequest;
+import com.inktrack.infrastructure.dtos.user.LoginRequest;
+import com.inktrack.infrastructure.entity.CategoryEntity;
+import com.inktrack.infrastructure.mapper.CategoryMapper;
+import com.inktrack.infrastructure.mapper.UserMapper;
+import com.inktrack.infrastructure.persistence.BookRepository;
+import com.inktrack.infrastructure.persistence.CategoryRepository;
+import com.inktrack.infrastructure.persistence.NoteRepository;
+import com.inktrack.infrastructure.persistence.ReadingSessionRepository;
+import com.inktrack.infrastructure.persistence.ReadingSessionSyncKeyRepository;
+import com.inktrack.infrastructure.persistence.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = InkTrackApplication.class)
+@ActiveProfiles("test")
+class ReadingSessionSyncControllerIntegrationTest {
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private BookGateway bookGateway;
+
+  @Autowired
+  private TransactionGateway transactionGateway;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private BookRepository bookRepository;
+
+  @Autowired
+  private NoteRepository noteRepository;
+
+  @Autowired
+  private ReadingSessionRepository readingSessionRepository;
+
+  @Autowired
+  private ReadingSessionSyncKeyRepository syncKeyRepository;
+
+  @Autowired
+  private UserMapper userMapper;
+
+  @Autowired
+  private CategoryMapper categoryMapper;
+
+  private MockMvc mockMvc;
+  private ObjectMapper objectMapper;
+  private CategoryEntity category;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+        .webAppContextSetup(webApplicationContext)
+        .apply(springSecurity())
+        .build();
+    objectMapper = new ObjectMapper();
+    objectMapper.findAndRegisterModules();
+    cleanDatabase();
+    category = categoryRepository.save(new CategoryEntity(null, "Fiction", OffsetDateTime.now()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanDatabase();
+  }
+
+  private void cleanDatabase() {
+    syncKeyRepository.deleteAllInBatch();
+    noteRepository.deleteAllInBatch();
+    readingSessionRepository.deleteAllInBatch();
+    bookRepository.deleteAllInBatch();
+    userRepository.deleteAllInBatch();
+    categoryRepository.deleteAllInBatch();
+  }
+
+  private String register(String email) throws Exception {
+    mockMvc.perform(post("/auth/register")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new CreateUserRequest("Sync User", email, "Password123!"))))
+        .andExpect(status().isCreated());
+
+    String loginResponse = mockMvc.perform(post("/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new LoginRequest(email, "Password123!"))))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+    return objectMapper.readTree(loginResponse).get("data").get("accessToken").asText();
+  }
+
+  private Long createBook(String email, int totalPages) {
+    User user = userMapper.entityToDomain(userRepository.findByEmail(email).orElseThrow());
+    return bookGateway.save(Book.builder()
+        .user(user)
+        .category(categoryMapper.entityToDomain(category))
+        .title("Dune")
+        .author("Frank Herbert")
+        .totalPages(totalPages)
+        .build()).getId();
+  }
+
+  private ResultActions sync(String token, List<Map<String, Object>> sessions) throws Exception {
+    return mockMvc.perform(post("/reading-sessions/sync")
+        .header("Authorization", "Bearer " + token)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(Map.of("sessions", sessions))));
+  }
+
+  private String syncUnchecked(String token, List<Map<String, Object>> sessions) {
+    try {
+      return sync(token, sessions).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Map<String, Object> session(String syncKey, Long bookId, int pagesRead) {
+    return Map.of(
+        "syncKey", syncKey,
+        "bookId", bookId,
+        "minutes", 20,
+        "pagesRead", pagesRead,
+        "sessionDate", OffsetDateTime.now().minusHours(3).toString()
+    );
+  }
+
+  private int pagesRead(Long bookId) {
+    return bookRepository.findById(bookId).orElseThrow().getPagesRead();
+  }
+
+  @Test
+  @DisplayName("Should log sessions across books once and report a replay of the same sync as duplicates")
+  void sync_shouldLogSessionsOnceAcrossReplays() throws Exception {
+    String token = register("sync@email.com");
+    Long dune = createBook("sync@email.com", 400);
+    Long emma = createBook("sync@email.com", 300);
+    List<Map<String, Object>> sessions = List.of(
+        session("a1", dune, 30),
+        session("a2", emma, 15),
+        session("a3", dune, 20)
+    );
+
+    sync(token, sessions)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.created").value(3))
+        .andExpect(jsonPath("$.data.items[0].status").value("CREATED"))
+        .andExpect(jsonPath("$.data.items[0].sessionId").isNumber());
+
+    sync(token, sessions)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.created").value(0))
+        .andExpect(jsonPath("$.data.duplicates").value(3))
+        .andExpect(jsonPath("$.data.items[1].status").value("DUPLICATE"));
+
+    assertEquals(50, pagesRead(dune));
+    assertEquals(15, pagesRead(emma));
+    assertEquals(3, readingSessionRepository.count());
+  }
+
+  @Test
+  @DisplayName("Should reject the sessions of books that are not the user's or would overflow, and keep the rest")
+  void sync_shouldRejectOnlyTheBooksThatDoNotFit() throws Exception {
+    String token = register("sync@email.com");
+    register("other@email.com");
+    Long dune = createBook("sync@email.com", 400);
+    Long shortStory = createBook("sync@email.com", 30);
+    Long someoneElses = createBook("other@email.com", 400);
+
+    sync(token, List.of(
+        session("b1", dune, 30),
+        session("b2", shortStory, 20),
+        session("b3", shortStory, 20),
+        session("b4", someoneElses, 10),
+        session("", dune, 10)
+    ))
+        .andExpect(status().isMultiStatus())
+        .andExpect(jsonPath("$.data.created").value(1))
+        .andExpect(jsonPath("$.data.rejected").value(4))
+        .andExpect(jsonPath("$.data.items[1].field").value("bookId"))
+        .andExpect(jsonPath("$.data.items[3].status").value("REJECTED"))
+        .andExpect(jsonPath("$.data.items[4].field").value("syncKey"));
+
+    assertEquals(30, pagesRead(dune));
+    assertEquals(0, pagesRead(shortStory));
+    assertEquals(0, pagesRead(someoneElses));
+    assertEquals(1, readingSessionRepository.count());
+    assertEquals(1, syncKeyRepository.count(), "the keys of rejected sessions are given back");
+
+    sync(token, List.of(session("b2", shortStory, 20)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.created").value(1));
+  }
+
+  @Test
+  @DisplayName("Should log a batch once when it is replayed while the first sync has not committed yet")
+  void sync_shouldLogOnce_whenReplayedConcurrently() throws Exception {
+    String token = register("sync@email.com");
+    Long dune = createBook("sync@email.com", 400);
+    List<Map<String, Object>> sessions = List.of(session("c1", dune, 30), session("c2", dune, 20));
+
+    CompletableFuture<String> replay = transactionGateway.execute(() -> {
+      syncUnchecked(token, sessions);
+      CompletableFuture<String> concurrent = CompletableFuture.supplyAsync(() -> syncUnchecked(token, sessions));
+      try {
+        Thread.sleep(300);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      assertFalse(concurrent.isDone(), "the replay waits for the first sync's claims");
+      return concurrent;
+    });
+
+    String response = replay.get(10, TimeUnit.SECONDS);
+    assertEquals(2, objectMapper.readTree(response).get("data").get("duplicates").asInt());
+    assertEquals(50, pagesRead(dune));
+    assertEquals(2, readingSessionRepository.count());
+  }
+
+  @Test
+  @DisplayName("Should return 400 when no sessions are sent")
+  void sync_shouldReturnBadRequest_whenEmpty() throws Exception {
+    String token = register("sync@email.com");
+
+    sync(token, List.of()).andExpect(status().isBadRequest());
+  }
+}
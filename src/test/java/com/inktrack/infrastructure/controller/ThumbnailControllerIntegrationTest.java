@@ -0,0 +1,223 @@
+package com.inktrack.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inktrack.InkTrackApplication;
+import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.User;
+import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.infrastructure.config.ThumbnailCacheConfig;
+import com.inktrack.infrastructure.dtos.user.CreateUserRequest;
+import com.inktrack.infrastructure.dtos.user.LoginRequest;
+import com.inktrack.infrastructure.entity.CategoryEntity;
+import com.inktrack.infrastructure.gateway.StandInImageOrigin;
+import com.inktrack.infrastructure.mapper.CategoryMapper;
+import com.inktrack.infrastructure.mapper.UserMapper;
+import com.inktrack.infrastructure.persistence.BookRepository;
+import com.inktrack.infrastructure.persistence.CategoryRepository;
+import com.inktrack.infrastructure.persistence.NoteRepository;
+import com.inktrack.infrastructure.persistence.ReadingSessionRepository;
+import com.inktrack.infrastructure.persistence.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = InkTrackApplication.class)
+@ActiveProfiles("test")
+class ThumbnailControllerIntegrationTest {
+
+  private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0x10, 0x20, 0x30};
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private BookGateway bookGateway;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private BookRepository bookRepository;
+
+  @Autowired
+  private NoteRepository noteRepository;
+
+  @Autowired
+  private ReadingSessionRepository readingSessionRepository;
+
+  @Autowired
+  private ThumbnailCacheConfig thumbnailCacheConfig;
+
+  @Autowired
+  private UserMapper userMapper;
+
+  @Autowired
+  private CategoryMapper categoryMapper;
+
+  private MockMvc mockMvc;
+  private ObjectMapper objectMapper;
+  private StandInImageOrigin origin;
+  private String token;
+  private User user;
+  private CategoryEntity category;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockMvc = MockMvcBuilders
+        .webAppContextSetup(webApplicationContext)
+        .apply(springSecurity())
+        .build();
+    objectMapper = new ObjectMapper();
+    origin = new StandInImageOrigin();
+    cleanThumbnailStore();
+    cleanDatabase();
+    category = categoryRepository.save(new CategoryEntity(null, "Fiction", OffsetDateTime.now()));
+    token = authenticateAndGetToken();
+    user = userMapper.entityToDomain(userRepository.findByEmail("thumbs@email.com").orElseThrow());
+  }
+
+  @AfterEach
+  void tearDown() {
+    origin.close();
+    cleanDatabase();
+  }
+
+  private void cleanDatabase() {
+    noteRepository.deleteAllInBatch();
+    readingSessionRepository.deleteAllInBatch();
+    bookRepository.deleteAllInBatch();
+    userRepository.deleteAllInBatch();
+    categoryRepository.deleteAllInBatch();
+  }
+
+  /**
+   * The origin binds an ephemeral port, so a port used by an earlier test or run would otherwise find its
+   * URLs already stored and never be fetched. Directories are kept, the running store expects them.
+   */
+  private void cleanThumbnailStore() throws IOException {
+    try (Stream<Path> files = Files.walk(Path.of(thumbnailCacheConfig.getDirectory()))) {
+      for (Path file : files.filter(Files::isRegularFile).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  private String authenticateAndGetToken() throws Exception {
+    mockMvc.perform(post("/auth/register")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(
+                new CreateUserRequest("Thumb User", "thumbs@email.com", "Password123!"))))
+        .andExpect(status().isCreated());
+
+    String loginResponse = mockMvc.perform(post("/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new LoginRequest("thumbs@email.com", "Password123!"))))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+    return objectMapper.readTree(loginResponse).get("data").get("accessToken").asText();
+  }
+
+  private Long createBook(String thumbnailUrl) {
+    return bookGateway.save(Book.builder()
+        .user(user)
+        .category(categoryMapper.entityToDomain(category))
+        .title("Dune")
+        .author("Frank Herbert")
+        .totalPages(412)
+        .thumbnailUrl(thumbnailUrl)
+        .build()).getId();
+  }
+
+  private String thumbnailLocation(Long bookId) throws Exception {
+    return mockMvc.perform(get("/books/{id}/thumbnail", bookId)
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isSeeOther())
+        .andExpect(header().string("Cache-Control", containsString("no-cache")))
+        .andExpect(header().string("Location", matchesPattern(".*/thumbnails/[0-9a-f]{64}\\.jpg")))
+        .andReturn()
+        .getResponse()
+        .getHeader("Location");
+  }
+
+  @Test
+  @DisplayName("Should redirect to the stored cover and download it only once")
+  void getBookThumbnail_shouldRedirectToStoredCover() throws Exception {
+    Long bookId = createBook(origin.image("/covers/dune.jpg", "image/jpeg", JPEG));
+
+    String first = thumbnailLocation(bookId);
+    String second = thumbnailLocation(bookId);
+
+    assertEquals(first, second);
+    assertEquals(1, origin.hits("/covers/dune.jpg"));
+  }
+
+  @Test
+  @DisplayName("Should serve the stored cover publicly with immutable cache headers")
+  void getThumbnail_shouldServeImmutableCover() throws Exception {
+    Long bookId = createBook(origin.image("/covers/dune.jpg", "image/jpeg", JPEG));
+    String location = thumbnailLocation(bookId);
+    String key = location.substring(location.lastIndexOf('/') + 1);
+
+    mockMvc.perform(get("/thumbnails/{key}", key))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+        .andExpect(content().bytes(JPEG))
+        .andExpect(header().longValue("Content-Length", JPEG.length))
+        .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+        .andExpect(header().string("ETag", "\"" + key + "\""));
+
+    mockMvc.perform(get("/thumbnails/{key}", key).header("If-None-Match", "\"" + key + "\""))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  @DisplayName("Should return 404 when the book has no cover or the key is unknown")
+  void getThumbnail_shouldReturnNotFound() throws Exception {
+    Long bookId = createBook(null);
+
+    mockMvc.perform(get("/books/{id}/thumbnail", bookId)
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isNotFound());
+    mockMvc.perform(get("/thumbnails/{key}", "0".repeat(64) + ".jpg"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("Should return 502 when the origin fails")
+  void getBookThumbnail_shouldReturnBadGateway_whenOriginFails() throws Exception {
+    Long bookId = createBook(origin.url("/covers/missing.jpg"));
+
+    mockMvc.perform(get("/books/{id}/thumbnail", bookId)
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isBadGateway());
+  }
+}
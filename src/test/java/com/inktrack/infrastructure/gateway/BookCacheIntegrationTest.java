@@ -0,0 +1,246 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.inktrack.InkTrackApplication;
+import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.User;
+import com.inktrack.core.exception.BookNotFoundException;
+import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.TransactionGateway;
+import com.inktrack.core.gateway.UserGateway;
+import com.inktrack.core.usecases.book.BookPatch;
+import com.inktrack.infrastructure.config.CacheConfig;
+import com.inktrack.infrastructure.entity.CategoryEntity;
+import com.inktrack.infrastructure.entity.UserEntity;
+import com.inktrack.infrastructure.mapper.CategoryMapper;
+import com.inktrack.infrastructure.mapper.UserMapper;
+import com.inktrack.infrastructure.persistence.BookRepository;
+import com.inktrack.infrastructure.persistence.CategoryRepository;
+import com.inktrack.infrastructure.persistence.NoteRepository;
+import com.inktrack.infrastructure.persistence.ReadingSessionRepository;
+import com.inktrack.infrastructure.persistence.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = InkTrackApplication.class)
+@ActiveProfiles("test")
+class BookCacheIntegrationTest {
+
+  @Autowired
+  private BookGateway bookGateway;
+
+  @Autowired
+  private UserGateway userGateway;
+
+  @Autowired
+  private TransactionGateway transactionGateway;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private BookRepository bookRepository;
+
+  @Autowired
+  private NoteRepository noteRepository;
+
+  @Autowired
+  private ReadingSessionRepository readingSessionRepository;
+
+  @Autowired
+  private UserMapper userMapper;
+
+  @Autowired
+  private CategoryMapper categoryMapper;
+
+  private Cache bookCache;
+  private User user;
+  private Book book;
+
+  @BeforeEach
+  void setUp() {
+    bookCache = cacheManager.getCache(CacheConfig.BOOK_CACHE);
+    cleanDatabase();
+    user = userMapper.entityToDomain(userRepository.save(new UserEntity(null, "John Doe", "john@example.com", "hashed")));
+    CategoryEntity category = categoryRepository.save(new CategoryEntity(null, "Fiction", OffsetDateTime.now()));
+    book = bookGateway.save(Book.builder()
+        .user(user)
+        .category(categoryMapper.entityToDomain(category))
+        .title("Clean Code")
+        .author("Robert C. Martin")
+        .totalPages(100)
+        .build());
+    bookCache.clear();
+  }
+
+  @AfterEach
+  void cleanDatabase() {
+    bookCache.clear();
+    noteRepository.deleteAllInBatch();
+    readingSessionRepository.deleteAllInBatch();
+    bookRepository.deleteAllInBatch();
+    userRepository.deleteAllInBatch();
+    categoryRepository.deleteAllInBatch();
+  }
+
+  @Test
+  void shouldServeRepeatedLookupsFromCacheWithoutQueryingAgain() {
+    bookGateway.findByIdAndUserId(book.getId(), user.getId());
+    bookRepository.deleteAllInBatch();
+
+    Book cached = bookGateway.findByIdAndUserId(book.getId(), user.getId());
+
+    assertEquals("Clean Code", cached.getTitle());
+  }
+
+  @Test
+  void shouldHandOutCopiesSoCallersCannotCorruptTheCache() {
+    Book first = bookGateway.findByIdAndUserId(book.getId(), user.getId());
+    first.addPagesRead(40);
+
+    Book second = bookGateway.findByIdAndUserId(book.getId(), user.getId());
+
+    assertNotSame(first, second);
+    assertEquals(0, second.getPagesRead());
+  }
+
+  @Test
+  void shouldRefreshEntryWhenBookIsUpdated() {
+    Book loaded = bookGateway.findByIdAndUserId(book.getId(), user.getId());
+    loaded.addPagesRead(25);
+
+    bookGateway.update(loaded);
+    bookRepository.deleteAllInBatch();
+
+    assertEquals(25, bookGateway.findByIdAndUserId(book.getId(), user.getId()).getPagesRead());
+  }
+
+  @Test
+  void shouldNotKeepTheOldRowReadByAnotherRequestBeforeCommit() {
+    transactionGateway.run(() -> {
+      bookGateway.addPagesRead(book.getId(), user.getId(), 30);
+      Book seenElsewhere = CompletableFuture
+          .supplyAsync(() -> bookGateway.findByIdAndUserId(book.getId(), user.getId()))
+          .join();
+      assertEquals(0, seenElsewhere.getPagesRead());
+    });
+
+    assertEquals(30, bookGateway.findByIdAndUserId(book.getId(), user.getId()).getPagesRead());
+  }
+
+  @Test
+  void shouldNotCacheARowLoadedBeforeAConcurrentEvict() throws Exception {
+    BookCache cache = new BookCache(cacheManager);
+    CountDownLatch loaded = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Book> reader = CompletableFuture.supplyAsync(() -> cache.get(user.getId(), book.getId(), () -> {
+      loaded.countDown();
+      await(release);
+      return book;
+    }));
+    assertTrue(loaded.await(5, TimeUnit.SECONDS));
+
+    CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> cache.evict(user.getId(), book.getId()));
+    Thread.sleep(100);
+    release.countDown();
+    reader.get(5, TimeUnit.SECONDS);
+    writer.get(5, TimeUnit.SECONDS);
+
+    assertNull(bookCache.get(new BookCache.Key(user.getId(), book.getId())));
+  }
+
+  @Test
+  void shouldNotCacheARowReadInATransactionWhenItWasEvictedBeforeCommit() {
+    BookCache cache = new BookCache(cacheManager);
+
+    transactionGateway.run(() -> {
+      cache.get(user.getId(), book.getId(), () -> book);
+      CompletableFuture.runAsync(() -> cache.evict(user.getId(), book.getId())).join();
+    });
+
+    assertNull(bookCache.get(new BookCache.Key(user.getId(), book.getId())));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  void shouldNotCacheWritesThatRollBack() {
+    bookGateway.findByIdAndUserId(book.getId(), user.getId());
+
+    assertThrows(IllegalStateException.class, () -> transactionGateway.run(() -> {
+      bookGateway.patch(book.getId(), user, new BookPatch("Rolled Back", null, null, null, null));
+      throw new IllegalStateException("later step failed");
+    }));
+
+    assertNull(bookCache.get(new BookCache.Key(user.getId(), book.getId())));
+    assertEquals("Clean Code", bookGateway.findByIdAndUserId(book.getId(), user.getId()).getTitle());
+  }
+
+  @Test
+  void shouldEvictEntryWhenBookIsDeleted() {
+    bookGateway.findByIdAndUserId(book.getId(), user.getId());
+
+    bookGateway.deleteByIdAndUserId(book.getId(), user.getId());
+
+    assertThrows(BookNotFoundException.class, () -> bookGateway.findByIdAndUserId(book.getId(), user.getId()));
+  }
+
+  @Test
+  void shouldEvictUsersBooksWhenOwnerIsUpdated() {
+    bookGateway.findByIdAndUserId(book.getId(), user.getId());
+
+    userGateway.update(new User(user.getId(), "John Updated", "john@example.com", "hashed", LocalDateTime.now()));
+
+    assertNull(bookCache.get(new BookCache.Key(user.getId(), book.getId())));
+    assertEquals("John Updated", bookGateway.findByIdAndUserId(book.getId(), user.getId()).getUser().getName());
+  }
+
+  @Test
+  void shouldPublishHitAndMissCounts() {
+    FunctionCounter hits = meterRegistry.find("cache.gets")
+        .tags("cache", CacheConfig.BOOK_CACHE, "result", "hit")
+        .functionCounter();
+    assertNotNull(hits);
+    double before = hits.count();
+
+    bookGateway.findByIdAndUserId(book.getId(), user.getId());
+    bookGateway.findByIdAndUserId(book.getId(), user.getId());
+
+    assertTrue(hits.count() >= before + 1);
+  }
+}
@@ -2,11 +2,22 @@ package com.inktrack.infrastructure.gateway;
 
 import com.inktrack.InkTrackApplication;
 import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.BookSummary;
 import com.inktrack.core.domain.Category;
 import com.inktrack.core.domain.User;
 import com.inktrack.core.exception.BookNotFoundException;
+import com.inktrack.core.exception.FieldDomainValidationException;
+import com.inktrack.core.gateway.CategoryGateway;
+import com.inktrack.core.gateway.DirectTransactionGateway;
+import com.inktrack.core.gateway.GoogleBooksGateway;
+import com.inktrack.core.usecases.book.BookModelInput;
+import com.inktrack.core.usecases.book.BookModelOutput;
+import com.inktrack.core.usecases.book.BookPatch;
 import com.inktrack.core.usecases.book.GetBookFilter;
 import com.inktrack.core.usecases.book.OrderEnum;
+import com.inktrack.core.usecases.book.UpdateBookUseCase;
+import com.inktrack.core.usecases.book.UpdateBookUseCaseImpl;
+import com.inktrack.core.utils.PageResult;
 import com.inktrack.infrastructure.entity.BookEntity;
 import com.inktrack.infrastructure.entity.CategoryEntity;
 import com.inktrack.infrastructure.entity.UserEntity;
@@ -25,14 +36,23 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = InkTrackApplication.class)
 @ActiveProfiles("test")
@@ -56,6 +76,12 @@ class BookGatewayIntegrationTest {
   @Autowired
   private UserMapper userMapper;
 
+  @Autowired
+  private BookCache bookCache;
+
+  @Autowired
+  private CategoryGateway categoryGateway;
+
   @Autowired
   private CategoryMapper categoryMapper;
 
@@ -67,7 +93,7 @@ class BookGatewayIntegrationTest {
 
   @BeforeEach
   void setUp() {
-    bookGateway = new BookGatewayImpl(bookRepository, bookMapper);
+    bookGateway = new BookGatewayImpl(bookRepository, bookMapper, bookCache, categoryGateway);
 
     User user = new User(
         null,
@@ -121,6 +147,32 @@ class BookGatewayIntegrationTest {
     assertEquals("Clean Code", entityInDb.get().getTitle());
   }
 
+  @Test
+  void shouldSaveAllBooksInOneBatchKeepingTheirOrder() {
+    List<Book> books = List.of(
+        Book.builder().user(savedUser).category(savedCategory).title("Clean Code").author("Robert C. Martin")
+            .totalPages(450).build(),
+        Book.builder().user(savedUser).category(savedCategory).title("Refactoring").author("Martin Fowler")
+            .totalPages(448).googleBookId("g-1").thumbnailUrl("http://img/1").build()
+    );
+
+    List<Book> saved = bookGateway.saveAll(books);
+
+    assertEquals(2, saved.size());
+    assertEquals("Clean Code", saved.get(0).getTitle());
+    assertEquals("Refactoring", saved.get(1).getTitle());
+    assertTrue(saved.get(0).getId() < saved.get(1).getId());
+
+    BookEntity second = bookRepository.findById(saved.get(1).getId()).orElseThrow();
+    assertEquals("Refactoring", second.getTitle());
+    assertEquals(savedUser.getId(), second.getUser().getId());
+    assertEquals(savedCategory.id(), second.getCategory().getId());
+    assertEquals("http://img/1", second.getThumbnailUrl());
+    assertEquals(0, second.getProgress());
+    assertNotNull(second.getCreatedAt());
+    assertEquals("Refactoring", bookGateway.findByIdAndUserId(saved.get(1).getId(), savedUser.getId()).getTitle());
+  }
+
   @Test
   void shouldFindBookByIdAndUserId() {
     Book book = Book.builder()
@@ -175,6 +227,178 @@ class BookGatewayIntegrationTest {
     );
   }
 
+  @Test
+  void shouldPatchOnlyTheFieldsThatAreSet() {
+    Book savedBook = bookGateway.save(Book.builder()
+        .user(savedUser)
+        .category(savedCategory)
+        .title("Effective Java")
+        .author("Joshua Bloch")
+        .totalPages(400)
+        .pagesRead(100)
+        .build());
+    CategoryEntity otherCategory = categoryRepository.save(new CategoryEntity(null, "Technology", OffsetDateTime.now()));
+
+    Book patched = bookGateway.patch(
+        savedBook.getId(),
+        savedUser,
+        new BookPatch("Effective Java 3rd Edition", null, 200, otherCategory.getId(), null)
+    );
+
+    assertEquals("Effective Java 3rd Edition", patched.getTitle());
+    assertEquals("Joshua Bloch", patched.getAuthor());
+    assertEquals("Technology", patched.getCategory().name());
+    assertEquals(50, patched.getProgress());
+    assertEquals(savedUser.getId(), patched.getUser().getId());
+
+    BookEntity stored = bookRepository.findById(savedBook.getId()).orElseThrow();
+    assertEquals("Effective Java 3rd Edition", stored.getTitle());
+    assertEquals("Joshua Bloch", stored.getAuthor());
+    assertEquals(200, stored.getTotalPages());
+    assertEquals(100, stored.getPagesRead());
+    assertEquals(50, stored.getProgress());
+    assertEquals(otherCategory.getId(), stored.getCategory().getId());
+    assertEquals(
+        "Effective Java 3rd Edition",
+        bookGateway.findByIdAndUserId(savedBook.getId(), savedUser.getId()).getTitle()
+    );
+  }
+
+  @Test
+  void shouldRejectPatchThatShrinksTotalPagesBelowPagesRead() {
+    Book savedBook = bookGateway.save(Book.builder()
+        .user(savedUser)
+        .category(savedCategory)
+        .title("Effective Java")
+        .author("Joshua Bloch")
+        .totalPages(400)
+        .pagesRead(300)
+        .build());
+    Long bookId = savedBook.getId();
+    BookPatch patch = new BookPatch(null, null, 200, null, null);
+
+    assertThrows(FieldDomainValidationException.class, () -> bookGateway.patch(bookId, savedUser, patch));
+    assertEquals(400, bookRepository.findById(bookId).orElseThrow().getTotalPages());
+  }
+
+  @Test
+  void shouldNotPatchBookFromAnotherUser() {
+    Book savedBook = bookGateway.save(Book.builder()
+        .user(savedUser)
+        .category(savedCategory)
+        .title("Effective Java")
+        .author("Joshua Bloch")
+        .totalPages(400)
+        .build());
+    Long bookId = savedBook.getId();
+    User anotherUser = new User(UUID.randomUUID(), "Jane", "jane@example.com", "hashed", LocalDateTime.now());
+    BookPatch patch = new BookPatch("Stolen", null, null, null, null);
+
+    assertThrows(BookNotFoundException.class, () -> bookGateway.patch(bookId, anotherUser, patch));
+    assertEquals("Effective Java", bookRepository.findById(bookId).orElseThrow().getTitle());
+  }
+
+  @Test
+  void shouldAddPagesReadInTheDatabaseAndRecomputeProgress() {
+    Long bookId = bookGateway.save(Book.builder()
+        .user(savedUser)
+        .category(savedCategory)
+        .title("Effective Java")
+        .author("Joshua Bloch")
+        .totalPages(400)
+        .pagesRead(100)
+        .build()).getId();
+
+    assertEquals(200, bookGateway.addPagesRead(bookId, savedUser.getId(), 100));
+    assertEquals(150, bookGateway.addPagesRead(bookId, savedUser.getId(), -50));
+
+    BookEntity stored = bookRepository.findById(bookId).orElseThrow();
+    assertEquals(150, stored.getPagesRead());
+    assertEquals(37, stored.getProgress());
+    assertEquals(150, bookGateway.findByIdAndUserId(bookId, savedUser.getId()).getPagesRead());
+  }
+
+  @Test
+  void shouldRejectPagesReadOutsideZeroToTotalPages() {
+    Long bookId = bookGateway.save(Book.builder()
+        .user(savedUser)
+        .category(savedCategory)
+        .title("Effective Java")
+        .author("Joshua Bloch")
+        .totalPages(400)
+        .pagesRead(390)
+        .build()).getId();
+    UUID userId = savedUser.getId();
+    UUID anotherUserId = UUID.randomUUID();
+
+    assertThrows(FieldDomainValidationException.class, () -> bookGateway.addPagesRead(bookId, userId, 11));
+    assertThrows(FieldDomainValidationException.class, () -> bookGateway.addPagesRead(bookId, userId, -391));
+    assertThrows(BookNotFoundException.class, () -> bookGateway.addPagesRead(bookId, anotherUserId, 1));
+    assertEquals(390, bookRepository.findById(bookId).orElseThrow().getPagesRead());
+  }
+
+  @Test
+  void shouldNotLoseConcurrentPagesReadIncrements() throws Exception {
+    Long bookId = bookGateway.save(Book.builder()
+        .user(savedUser)
+        .category(savedCategory)
+        .title("Effective Java")
+        .author("Joshua Bloch")
+        .totalPages(1000)
+        .build()).getId();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<Integer>> increments = Collections.nCopies(
+          40,
+          () -> bookGateway.addPagesRead(bookId, savedUser.getId(), 5)
+      );
+      for (Future<Integer> result : executor.invokeAll(increments)) {
+        result.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(200, bookRepository.findById(bookId).orElseThrow().getPagesRead());
+  }
+
+  @Test
+  void shouldKeepPagesReadAddedWhileAnUpdateIsInFlight() {
+    Long bookId = bookGateway.save(Book.builder()
+        .user(savedUser)
+        .category(savedCategory)
+        .title("Effective Java")
+        .author("Joshua Bloch")
+        .totalPages(400)
+        .pagesRead(100)
+        .build()).getId();
+    // A session is logged while the update waits on Google Books, after the update has read the book.
+    GoogleBooksGateway googleBooksGateway = mock(GoogleBooksGateway.class);
+    when(googleBooksGateway.getVolumeById("g-1")).thenAnswer(invocation -> {
+      bookGateway.addPagesRead(bookId, savedUser.getId(), 50);
+      return Optional.empty();
+    });
+    UpdateBookUseCase updateBookUseCase = new UpdateBookUseCaseImpl(
+        bookGateway,
+        categoryGateway,
+        googleBooksGateway,
+        new DirectTransactionGateway()
+    );
+
+    BookModelOutput output = updateBookUseCase.execute(
+        bookId,
+        new BookModelInput("Effective Java 3rd Edition", "Joshua Bloch", 500, savedCategory.id(), "g-1"),
+        savedUser.getId()
+    );
+
+    assertEquals(150, output.pagesRead());
+    BookEntity stored = bookRepository.findById(bookId).orElseThrow();
+    assertEquals("Effective Java 3rd Edition", stored.getTitle());
+    assertEquals(500, stored.getTotalPages());
+    assertEquals(150, stored.getPagesRead());
+    assertEquals(30, stored.getProgress());
+  }
+
   @Test
   void shouldUpdateBookSuccessfully() {
     Book book = Book.builder()
@@ -210,11 +434,11 @@ class BookGatewayIntegrationTest {
     OrderEnum order = OrderEnum.TITLE_ASC;
     GetBookFilter filter = new GetBookFilter(0, 2, "", null, order);
 
-    List<Book> result = bookGateway.getUserBooksPage(savedUser.getId(), filter);
+    List<BookSummary> result = bookGateway.getUserBooksPage(savedUser.getId(), filter).data();
 
     assertEquals(2, result.size(), "Deve retornar apenas 2 livros (limite da página)");
-    assertEquals("Algoritmos", result.get(0).getTitle(), "Primeiro deve ser 'Algoritmos' (Ordem alfabética)");
-    assertEquals("Banco de Dados", result.get(1).getTitle(), "Segundo deve ser 'Banco de Dados'");
+    assertEquals("Algoritmos", result.get(0).title(), "Primeiro deve ser 'Algoritmos' (Ordem alfabética)");
+    assertEquals("Banco de Dados", result.get(1).title(), "Segundo deve ser 'Banco de Dados'");
   }
 
 
@@ -227,11 +451,97 @@ class BookGatewayIntegrationTest {
     OrderEnum order = OrderEnum.TITLE_DESC;
     GetBookFilter filter = new GetBookFilter(0, 2, "", null, order);
 
-    List<Book> result = bookGateway.getUserBooksPage(savedUser.getId(), filter);
+    List<BookSummary> result = bookGateway.getUserBooksPage(savedUser.getId(), filter).data();
 
     assertEquals(2, result.size(), "Deve retornar apenas 2 livros (limite da página)");
-    assertEquals("Clean Architecture", result.get(0).getTitle(), "Primeiro deve ser 'Algoritmos' (Ordem alfabética)");
-    assertEquals("Banco de Dados", result.get(1).getTitle(), "Segundo deve ser 'Banco de Dados'");
+    assertEquals("Clean Architecture", result.get(0).title(), "Primeiro deve ser 'Algoritmos' (Ordem alfabética)");
+    assertEquals("Banco de Dados", result.get(1).title(), "Segundo deve ser 'Banco de Dados'");
+  }
+
+  @Test
+  void shouldComputeTotalPagesFromTheSamePageQuery() {
+    createAndSaveBook("Book 1", 100);
+    createAndSaveBook("Book 2", 100);
+    createAndSaveBook("Book 3", 100);
+
+    PageResult<BookSummary> result = bookGateway.getUserBooksPage(
+        savedUser.getId(), new GetBookFilter(0, 2, "", null, OrderEnum.OLDEST));
+
+    assertEquals(2, result.data().size());
+    assertEquals(2, result.totalPages());
+    assertTrue(result.hasNext());
+  }
+
+  @Test
+  void shouldFallBackToCountWhenPageIsPastTheEnd() {
+    createAndSaveBook("Book 1", 100);
+    createAndSaveBook("Book 2", 100);
+
+    PageResult<BookSummary> result = bookGateway.getUserBooksPage(
+        savedUser.getId(), new GetBookFilter(3, 2, "", null, OrderEnum.OLDEST));
+
+    assertTrue(result.data().isEmpty());
+    assertEquals(1, result.totalPages());
+    assertFalse(result.hasNext());
+  }
+
+  @Test
+  void shouldReturnHasNextWithoutTotalWhenTotalIsNotRequested() {
+    createAndSaveBook("Book 1", 100);
+    createAndSaveBook("Book 2", 100);
+    createAndSaveBook("Book 3", 100);
+
+    GetBookFilter filter = new GetBookFilter(0, 2, "", null, null, OrderEnum.OLDEST, null, false);
+    PageResult<BookSummary> firstPage = bookGateway.getUserBooksPage(savedUser.getId(), filter);
+    PageResult<BookSummary> lastPage = bookGateway.getUserBooksPage(
+        savedUser.getId(), new GetBookFilter(1, 2, "", null, null, OrderEnum.OLDEST, null, false));
+
+    assertEquals(List.of("Book 1", "Book 2"), firstPage.data().stream().map(BookSummary::title).toList());
+    assertNull(firstPage.totalPages());
+    assertTrue(firstPage.hasNext());
+    assertEquals(List.of("Book 3"), lastPage.data().stream().map(BookSummary::title).toList());
+    assertFalse(lastPage.hasNext());
+  }
+
+  @Test
+  void shouldSearchTitleAndAuthorRankedBySimilarity() {
+    createAndSaveBook("Clean Architecture", "Robert C. Martin");
+    createAndSaveBook("Clean Code", "Robert C. Martin");
+    createAndSaveBook("Refactoring", "Martin Fowler");
+    createAndSaveBook("Domain-Driven Design", "Eric Evans");
+
+    PageResult<BookSummary> byTitle = bookGateway.getUserBooksPage(
+        savedUser.getId(), new GetBookFilter(0, 10, "", "clean", null, OrderEnum.RECENT, null, true));
+    PageResult<BookSummary> byAuthor = bookGateway.getUserBooksPage(
+        savedUser.getId(), new GetBookFilter(0, 10, "", "FOWLER", null, OrderEnum.RECENT, null, false));
+
+    assertEquals(List.of("Clean Code", "Clean Architecture"), byTitle.data().stream().map(BookSummary::title).toList());
+    assertEquals(1, byTitle.totalPages());
+    assertEquals(List.of("Refactoring"), byAuthor.data().stream().map(BookSummary::title).toList());
+    assertFalse(byAuthor.hasNext());
+  }
+
+  @Test
+  void shouldApplyOnlyTheFiltersThatAreSet() {
+    bookGateway.save(Book.builder().user(savedUser).category(savedCategory)
+        .title("Refactoring").author("Martin Fowler").totalPages(100).pagesRead(50).googleBookId("g-1").build());
+    bookGateway.save(Book.builder().user(savedUser).category(savedCategory)
+        .title("Clean Code").author("Robert C. Martin").totalPages(100).pagesRead(80).build());
+    bookGateway.save(Book.builder().user(savedUser).category(savedCategory)
+        .title("Patterns").author("Martin Fowler").totalPages(100).pagesRead(10).build());
+
+    PageResult<BookSummary> byAuthorAndProgress = bookGateway.getUserBooksPage(savedUser.getId(), new GetBookFilter(
+        0, 10, "", null, null, OrderEnum.TITLE_ASC, null, true, "fowler", 20, 60, null, null, null));
+    PageResult<BookSummary> withoutGoogleBook = bookGateway.getUserBooksPage(savedUser.getId(), new GetBookFilter(
+        0, 10, "", null, null, OrderEnum.TITLE_ASC, null, true, null, null, null, null, null, false));
+    PageResult<BookSummary> createdInTheFuture = bookGateway.getUserBooksPage(savedUser.getId(), new GetBookFilter(
+        0, 10, "", null, null, OrderEnum.TITLE_ASC, null, true, null, null, null,
+        OffsetDateTime.now().plusDays(1), null, null));
+
+    assertEquals(List.of("Refactoring"), byAuthorAndProgress.data().stream().map(BookSummary::title).toList());
+    assertEquals(1, byAuthorAndProgress.totalPages());
+    assertEquals(List.of("Clean Code", "Patterns"), withoutGoogleBook.data().stream().map(BookSummary::title).toList());
+    assertTrue(createdInTheFuture.data().isEmpty());
   }
 
   @Test
@@ -252,6 +562,16 @@ class BookGatewayIntegrationTest {
     assertEquals(3, count, "Deve contar apenas os livros do usuário logado");
   }
 
+  private void createAndSaveBook(String title, String author) {
+    bookGateway.save(Book.builder()
+        .user(savedUser)
+        .category(savedCategory)
+        .title(title)
+        .author(author)
+        .totalPages(100)
+        .build());
+  }
+
   private void createAndSaveBook(String title, int pages) {
     Book book = Book.builder()
         .user(savedUser)
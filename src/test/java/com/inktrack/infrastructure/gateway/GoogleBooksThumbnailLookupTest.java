@@ -0,0 +1,114 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.inktrack.infrastructure.config.GoogleBooksConfig;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GoogleBooksThumbnailLookupTest {
+
+  private static final long VOLUME_DELAY_MS = 300;
+
+  private HttpServer server;
+  private CountDownLatch release;
+  private GoogleBooksGatewayImpl gateway;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    release = new CountDownLatch(1);
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/volumes/", exchange -> {
+      String id = exchange.getRequestURI().getPath().substring("/volumes/".length());
+      try {
+        if (id.startsWith("stuck")) {
+          release.await(10, TimeUnit.SECONDS);
+        } else {
+          Thread.sleep(VOLUME_DELAY_MS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      byte[] body = volumeJson(id).getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    gateway.shutdown();
+    server.stop(0);
+  }
+
+  private static String volumeJson(String id) {
+    return """
+        {"id": "%s", "volumeInfo": {"title": "Book %s", "authors": ["Author"], "pageCount": 100,
+        "imageLinks": {"thumbnail": "http://covers/%s"}}}
+        """.formatted(id, id, id);
+  }
+
+  /**
+   * Callers warm the client up with one plain lookup first, so the first request's setup does not eat
+   * into the deadline being measured.
+   */
+  private GoogleBooksGatewayImpl gateway(int poolSize, long deadlineMs) {
+    GoogleBooksConfig config = new GoogleBooksConfig();
+    config.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+    config.setLookupPoolSize(poolSize);
+    config.setLookupDeadlineMs(deadlineMs);
+    return new GoogleBooksGatewayImpl(config);
+  }
+
+  @Test
+  @DisplayName("Should look the volumes of a batch up concurrently")
+  void getThumbnailUrls_shouldLookVolumesUpConcurrently() {
+    gateway = gateway(8, 10_000);
+    gateway.getVolumeById("g-0");
+    List<String> ids = IntStream.range(0, 16).mapToObj(i -> "g-" + i).toList();
+
+    long start = System.nanoTime();
+    Map<String, String> thumbnails = gateway.getThumbnailUrls(ids);
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertEquals(16, thumbnails.size());
+    assertEquals("http://covers/g-3", thumbnails.get("g-3"));
+    assertTrue(elapsedMs < 16 * VOLUME_DELAY_MS / 2, "took " + elapsedMs + " ms");
+  }
+
+  @Test
+  @DisplayName("Should leave out the volumes still pending at the deadline")
+  void getThumbnailUrls_shouldStopWaitingAtTheDeadline() {
+    gateway = gateway(4, 1_000);
+    gateway.getVolumeById("g-0");
+
+    long start = System.nanoTime();
+    Map<String, String> thumbnails = gateway.getThumbnailUrls(List.of("g-1", "stuck-1", "stuck-2", "g-2"));
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertEquals(Map.of("g-1", "http://covers/g-1", "g-2", "http://covers/g-2"), thumbnails);
+    assertTrue(elapsedMs < 3_000, "took " + elapsedMs + " ms");
+  }
+}
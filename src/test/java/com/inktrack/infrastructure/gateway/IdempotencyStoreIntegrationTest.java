@@ -0,0 +1,126 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.inktrack.InkTrackApplication;
+import com.inktrack.infrastructure.config.IdempotencyConfig;
+import com.inktrack.infrastructure.gateway.IdempotencyStore.Claim;
+import com.inktrack.infrastructure.gateway.IdempotencyStore.Outcome;
+import com.inktrack.infrastructure.persistence.IdempotencyKeyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(classes = InkTrackApplication.class)
+@ActiveProfiles("test")
+class IdempotencyStoreIntegrationTest {
+
+  private static final byte[] BODY = "{\"data\":{\"id\":1}}".getBytes(StandardCharsets.UTF_8);
+
+  @Autowired
+  private IdempotencyKeyRepository repository;
+
+  private IdempotencyConfig config;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    repository.deleteAllInBatch();
+    config = new IdempotencyConfig();
+    userId = UUID.randomUUID();
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.deleteAllInBatch();
+  }
+
+  @Test
+  void shouldReplayTheStoredResponseForTheSameRequestOnly() {
+    IdempotencyStore store = new IdempotencyStore(repository, config);
+
+    Claim first = store.begin(userId, "key-1", "fingerprint-a");
+    assertEquals(Outcome.PROCEED, first.outcome());
+    store.complete(first, 201, "application/json", null, BODY);
+
+    Claim retry = store.begin(userId, "key-1", "fingerprint-a");
+    assertEquals(Outcome.REPLAY, retry.outcome());
+    assertEquals(201, retry.response().status());
+    assertArrayEquals(BODY, retry.response().body());
+    assertEquals(Outcome.MISMATCH, store.begin(userId, "key-1", "fingerprint-b").outcome());
+    assertEquals(Outcome.PROCEED, store.begin(UUID.randomUUID(), "key-1", "fingerprint-a").outcome());
+  }
+
+  @Test
+  void shouldReplayResponsesStoredByAnotherInstance() {
+    IdempotencyStore first = new IdempotencyStore(repository, config);
+    first.complete(first.begin(userId, "key-1", "fingerprint-a"), 201, "application/json", "/books/7", BODY);
+
+    IdempotencyStore restarted = new IdempotencyStore(repository, config);
+    Claim retry = restarted.begin(userId, "key-1", "fingerprint-a");
+
+    assertEquals(Outcome.REPLAY, retry.outcome());
+    assertEquals("application/json", retry.response().contentType());
+    assertEquals("/books/7", retry.response().location());
+    assertArrayEquals(BODY, retry.response().body());
+  }
+
+  @Test
+  void shouldMakeAnInFlightDuplicateWaitForTheFirstResponse() throws Exception {
+    IdempotencyStore store = new IdempotencyStore(repository, config);
+    Claim first = store.begin(userId, "key-1", "fingerprint-a");
+
+    CompletableFuture<Claim> duplicate = CompletableFuture.supplyAsync(
+        () -> store.begin(userId, "key-1", "fingerprint-a")
+    );
+    Thread.sleep(200);
+    assertFalse(duplicate.isDone());
+    store.complete(first, 201, "application/json", null, BODY);
+
+    Claim replayed = duplicate.get(5, TimeUnit.SECONDS);
+    assertEquals(Outcome.REPLAY, replayed.outcome());
+    assertArrayEquals(BODY, replayed.response().body());
+  }
+
+  @Test
+  void shouldAnswerBusyWhileAnotherInstanceHoldsTheKeyUntilItGoesStale() {
+    IdempotencyStore holder = new IdempotencyStore(repository, config);
+    holder.begin(userId, "key-1", "fingerprint-a");
+
+    IdempotencyStore other = new IdempotencyStore(repository, config);
+    assertEquals(Outcome.BUSY, other.begin(userId, "key-1", "fingerprint-a").outcome());
+
+    config.setPendingTimeoutSeconds(0);
+    IdempotencyStore afterTimeout = new IdempotencyStore(repository, config);
+    assertEquals(Outcome.PROCEED, afterTimeout.begin(userId, "key-1", "fingerprint-a").outcome());
+  }
+
+  @Test
+  void shouldReleaseTheKeyWhenTheRequestFailsOnTheServer() {
+    IdempotencyStore store = new IdempotencyStore(repository, config);
+    store.complete(store.begin(userId, "key-1", "fingerprint-a"), 500, "application/json", null, BODY);
+
+    assertEquals(Outcome.PROCEED, store.begin(userId, "key-1", "fingerprint-a").outcome());
+  }
+
+  @Test
+  void shouldDeleteExpiredKeys() {
+    config.setTtlHours(0);
+    IdempotencyStore store = new IdempotencyStore(repository, config);
+    store.complete(store.begin(userId, "key-1", "fingerprint-a"), 201, "application/json", null, BODY);
+
+    store.deleteExpired();
+
+    assertEquals(0, repository.count());
+  }
+}
@@ -2,16 +2,22 @@ package com.inktrack.infrastructure.gateway;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.inktrack.core.domain.User;
 import com.inktrack.core.exception.UnauthorizedException;
+import com.inktrack.core.gateway.JwtGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JwtGatewayImplTest {
 
@@ -108,4 +114,60 @@ class JwtGatewayImplTest {
 
     assertEquals("User ID missing in refresh token", exception.getMessage());
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Should expose subject, type, id and expiry of a verified token")
+  void shouldVerifyTokenClaims() {
+    String token = jwtGateway.generateAccessToken(userId);
+
+    JwtGateway.VerifiedToken verified = jwtGateway.verify(token);
+
+    assertEquals(userId, verified.subject());
+    assertEquals("access", verified.type());
+    assertNotNull(verified.jti());
+    assertNotNull(verified.expiresAt());
+  }
+
+  @Test
+  @DisplayName("Should reuse the verified claims for a token already seen")
+  void shouldReuseVerifiedClaimsWhenCacheEnabled() {
+    JwtGatewayImpl cachedGateway = new JwtGatewayImpl(secret, 100, 30, false);
+    String token = cachedGateway.generateAccessToken(userId);
+
+    JwtGateway.VerifiedToken first = cachedGateway.verify(token);
+    JwtGateway.VerifiedToken second = cachedGateway.verify(token);
+
+    assertSame(first, second);
+  }
+
+  @Test
+  @DisplayName("Should not cache tokens that fail verification")
+  void shouldNotCacheInvalidTokens() {
+    JwtGatewayImpl cachedGateway = new JwtGatewayImpl(secret, 100, 30, false);
+    String forged = JWT.create()
+        .withIssuer("Ink-auth-security")
+        .withSubject(userId.toString())
+        .withClaim("token_type", "access")
+        .sign(Algorithm.HMAC256("another-secret-key-another-secret-key"));
+
+    assertThrows(Exception.class, () -> cachedGateway.verify(forged));
+    assertThrows(Exception.class, () -> cachedGateway.verify(forged));
+  }
+
+  @Test
+  @DisplayName("Should embed principal claims in access tokens only when stateless mode is enabled")
+  void shouldEmbedPrincipalClaimsWhenStateless() {
+    User user = new User(userId, "John", "john@email.com", "hashed", LocalDateTime.now(), 3);
+    JwtGatewayImpl statelessGateway = new JwtGatewayImpl(secret, 0, 0, true);
+
+    JwtGateway.VerifiedToken withClaims = statelessGateway.verify(statelessGateway.generateAccessToken(user));
+    JwtGateway.VerifiedToken withoutClaims = jwtGateway.verify(jwtGateway.generateAccessToken(user));
+
+    assertTrue(withClaims.hasPrincipalClaims());
+    assertEquals("John", withClaims.name());
+    assertEquals("john@email.com", withClaims.email());
+    assertEquals(3, withClaims.tokenVersion());
+    assertEquals(userId, withoutClaims.subject());
+    assertFalse(withoutClaims.hasPrincipalClaims());
+  }
+}
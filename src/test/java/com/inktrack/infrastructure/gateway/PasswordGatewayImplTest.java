@@ -1,13 +1,21 @@
 package com.inktrack.infrastructure.gateway;
 
+import com.inktrack.infrastructure.config.PasswordHashingConfig;
+import com.inktrack.infrastructure.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PasswordGatewayImplTest {
@@ -41,4 +49,52 @@ class PasswordGatewayImplTest {
 
     assertFalse(passwordGateway.matches(wrongPassword, hash));
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Should flag hashes created with a lower cost than the configured one")
+  void shouldDetectHashesThatNeedRehash() {
+    String weakHash = new BCryptPasswordEncoder(4).encode("password");
+    String currentHash = passwordGateway.hash("password");
+
+    assertTrue(passwordGateway.needsRehash(weakHash));
+    assertFalse(passwordGateway.needsRehash(currentHash));
+  }
+
+  @Test
+  @DisplayName("Should reject hashing when the pool and its queue are full")
+  void shouldRejectWhenHashingPoolIsSaturated() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    BCryptPasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+      @Override
+      protected String encodeNonNullPassword(String rawPassword) {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return super.encodeNonNullPassword(rawPassword);
+      }
+    };
+    PasswordHashingConfig config = new PasswordHashingConfig();
+    config.setPoolSize(1);
+    config.setQueueCapacity(1);
+    config.setRetryAfterSeconds(2);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    PasswordGatewayImpl boundedGateway = new PasswordGatewayImpl(blockingEncoder, config, meterRegistry);
+
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> boundedGateway.hash("first"));
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> boundedGateway.hash("second"));
+    while (meterRegistry.get("inktrack.password.hashing.queue").gauge().value() < 1) {
+      Thread.sleep(5);
+    }
+
+    ServiceBusyException exception = assertThrows(ServiceBusyException.class,
+        () -> boundedGateway.hash("third"));
+    assertEquals(2, exception.getRetryAfterSeconds());
+
+    release.countDown();
+    assertNotNull(running.get());
+    assertNotNull(queued.get());
+    boundedGateway.shutdown();
+  }
+}
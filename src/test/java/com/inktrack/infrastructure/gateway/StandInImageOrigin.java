@@ -0,0 +1,97 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local HTTP server standing in for the Google Books image host, so thumbnail tests run offline and can
+ * count how often each path was fetched.
+ */
+public class StandInImageOrigin implements AutoCloseable {
+
+  private final HttpServer server;
+  private final ExecutorService handlers = Executors.newCachedThreadPool();
+  private final Map<String, Response> responses = new ConcurrentHashMap<>();
+  private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+  private record Response(int status, String contentType, byte[] body, String location, long pauseMs) {
+  }
+
+  public StandInImageOrigin() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", exchange -> {
+      String path = exchange.getRequestURI().getPath();
+      hits.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+      Response response = responses.getOrDefault(path, new Response(404, "text/plain", new byte[0], null, 0));
+      exchange.getResponseHeaders().set("Content-Type", response.contentType());
+      if (response.location() != null) {
+        exchange.getResponseHeaders().set("Location", response.location());
+      }
+      exchange.sendResponseHeaders(response.status(), response.body().length == 0 ? -1 : response.body().length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        if (response.pauseMs() == 0) {
+          out.write(response.body());
+        } else {
+          dribble(out, response);
+        }
+      }
+    });
+    server.setExecutor(handlers);
+    server.start();
+  }
+
+  public String image(String path, String contentType, byte[] body) {
+    responses.put(path, new Response(200, contentType, body, null, 0));
+    return url(path);
+  }
+
+  /**
+   * Serves an image one byte at a time, pausing {@code pauseMs} before each byte after the headers.
+   */
+  public String slowImage(String path, String contentType, byte[] body, long pauseMs) {
+    responses.put(path, new Response(200, contentType, body, null, pauseMs));
+    return url(path);
+  }
+
+  public String redirect(String path, String location) {
+    responses.put(path, new Response(302, "text/plain", new byte[0], location, 0));
+    return url(path);
+  }
+
+  public String url(String path) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+  }
+
+  public int hits(String path) {
+    AtomicInteger count = hits.get(path);
+    return count == null ? 0 : count.get();
+  }
+
+  private static void dribble(OutputStream out, Response response) throws IOException {
+    for (byte b : response.body()) {
+      try {
+        Thread.sleep(response.pauseMs());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      out.write(b);
+      out.flush();
+    }
+  }
+
+  @Override
+  public void close() {
+    handlers.shutdownNow();
+    server.stop(0);
+  }
+}
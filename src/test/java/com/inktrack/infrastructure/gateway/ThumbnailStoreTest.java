@@ -0,0 +1,197 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.inktrack.infrastructure.config.ThumbnailCacheConfig;
+import com.inktrack.infrastructure.exception.ExternalApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThumbnailStoreTest {
+
+  private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3, 4};
+
+  @TempDir
+  private Path directory;
+
+  private StandInImageOrigin origin;
+  private ThumbnailCacheConfig config;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    origin = new StandInImageOrigin();
+    config = new ThumbnailCacheConfig();
+    config.setDirectory(directory.toString());
+    config.setAllowedHosts(List.of("127.0.0.1"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    origin.close();
+  }
+
+  private static byte[] image(int size, int seed) {
+    byte[] bytes = new byte[size];
+    Arrays.fill(bytes, (byte) seed);
+    return bytes;
+  }
+
+  @Test
+  @DisplayName("Should download a cover once and serve it from disk afterwards")
+  void store_shouldDownloadOnce() throws IOException {
+    ThumbnailStore store = new ThumbnailStore(config);
+    String url = origin.image("/cover.png", "image/png", PNG);
+
+    String key = store.store(url).orElseThrow();
+    assertEquals(key, store.store(url).orElseThrow());
+
+    assertEquals(1, origin.hits("/cover.png"));
+    assertTrue(key.matches("[0-9a-f]{64}\\.png"));
+    ThumbnailStore.StoredThumbnail stored = store.open(key).orElseThrow();
+    assertEquals("image/png", stored.contentType());
+    assertEquals(PNG.length, stored.size());
+    assertArrayEquals(PNG, Files.readAllBytes(stored.path()));
+  }
+
+  @Test
+  @DisplayName("Should keep one file for identical covers behind different URLs")
+  void store_shouldAddressCoversByContent() {
+    ThumbnailStore store = new ThumbnailStore(config);
+
+    String first = store.store(origin.image("/a.png", "image/png", PNG)).orElseThrow();
+    String second = store.store(origin.image("/b.png", "image/png", PNG)).orElseThrow();
+
+    assertEquals(first, second);
+    assertEquals(PNG.length, store.totalBytes());
+  }
+
+  @Test
+  @DisplayName("Should evict the least recently served cover once over the disk budget")
+  void store_shouldEvictLeastRecentlyServed() {
+    config.setMaxBytes(250);
+    ThumbnailStore store = new ThumbnailStore(config);
+    String a = store.store(origin.image("/a.jpg", "image/jpeg", image(100, 1))).orElseThrow();
+    String b = store.store(origin.image("/b.jpg", "image/jpeg", image(100, 2))).orElseThrow();
+    store.open(a);
+
+    String c = store.store(origin.image("/c.jpg", "image/jpeg", image(100, 3))).orElseThrow();
+
+    assertTrue(store.open(a).isPresent());
+    assertFalse(store.open(b).isPresent());
+    assertTrue(store.open(c).isPresent());
+    assertEquals(200, store.totalBytes());
+  }
+
+  @Test
+  @DisplayName("Should download an evicted cover again when it is asked for")
+  void store_shouldRefetchEvictedCover() {
+    config.setMaxBytes(150);
+    ThumbnailStore store = new ThumbnailStore(config);
+    String url = origin.image("/a.jpg", "image/jpeg", image(100, 1));
+    String a = store.store(url).orElseThrow();
+    store.store(origin.image("/b.jpg", "image/jpeg", image(100, 2)));
+
+    assertEquals(a, store.store(url).orElseThrow());
+    assertEquals(2, origin.hits("/a.jpg"));
+  }
+
+  @Test
+  @DisplayName("Should find stored covers again after a restart")
+  void constructor_shouldReloadStoredCovers() {
+    String url = origin.image("/cover.png", "image/png", PNG);
+    String key = new ThumbnailStore(config).store(url).orElseThrow();
+
+    ThumbnailStore restarted = new ThumbnailStore(config);
+
+    assertEquals(key, restarted.store(url).orElseThrow());
+    assertTrue(restarted.open(key).isPresent());
+    assertEquals(1, origin.hits("/cover.png"));
+  }
+
+  @Test
+  @DisplayName("Should not fetch from hosts that are not allowed")
+  void store_shouldIgnoreHostsThatAreNotAllowed() {
+    ThumbnailStore store = new ThumbnailStore(config);
+    String url = origin.image("/cover.png", "image/png", PNG).replace("127.0.0.1", "localhost");
+
+    assertEquals(Optional.empty(), store.store(url));
+    assertEquals(Optional.empty(), store.store(null));
+    assertEquals(Optional.empty(), store.store("file:///etc/passwd"));
+    assertEquals(0, origin.hits("/cover.png"));
+  }
+
+  @Test
+  @DisplayName("Should refuse redirects that leave the allowed hosts")
+  void store_shouldRefuseRedirectsToOtherHosts() {
+    ThumbnailStore store = new ThumbnailStore(config);
+    String allowed = origin.redirect("/moved.png", origin.image("/cover.png", "image/png", PNG));
+    String escaping = origin.redirect("/escape.png", "http://169.254.169.254/latest/meta-data");
+
+    assertTrue(store.store(allowed).isPresent());
+    assertThrows(ExternalApiException.class, () -> store.store(escaping));
+  }
+
+  @Test
+  @DisplayName("Should reject responses that are not images or are too large")
+  void store_shouldRejectNonImagesAndOversizedCovers() {
+    config.setMaxImageBytes(64);
+    ThumbnailStore store = new ThumbnailStore(config);
+    String html = origin.image("/page", "text/html", "<html></html>".getBytes());
+    String huge = origin.image("/huge.png", "image/png", image(65, 1));
+    String missing = origin.url("/missing.png");
+
+    assertThrows(ExternalApiException.class, () -> store.store(html));
+    assertThrows(ExternalApiException.class, () -> store.store(huge));
+    assertThrows(ExternalApiException.class, () -> store.store(missing));
+    assertEquals(0, store.totalBytes());
+  }
+
+  @Test
+  @DisplayName("Should give up on an origin that dribbles the cover past the timeout")
+  void store_shouldGiveUpOnSlowlyStreamedCovers() {
+    config.setTimeoutMs(500);
+    ThumbnailStore store = new ThumbnailStore(config);
+    String slow = origin.slowImage("/slow.png", "image/png", image(100, 1), 50);
+
+    assertTimeoutPreemptively(Duration.ofSeconds(3), () -> assertThrows(ExternalApiException.class,
+        () -> store.store(slow)));
+    assertEquals(0, store.totalBytes());
+  }
+
+  @Test
+  @DisplayName("Should give up on an origin that stops sending the cover after the headers")
+  void store_shouldGiveUpOnStalledCovers() {
+    config.setTimeoutMs(500);
+    ThumbnailStore store = new ThumbnailStore(config);
+    String stalled = origin.slowImage("/stalled.png", "image/png", PNG, 30_000);
+
+    assertTimeoutPreemptively(Duration.ofSeconds(3), () -> assertThrows(ExternalApiException.class,
+        () -> store.store(stalled)));
+    assertEquals(0, store.totalBytes());
+  }
+
+  @Test
+  @DisplayName("Should not open keys that are not content keys")
+  void open_shouldRejectMalformedKeys() {
+    ThumbnailStore store = new ThumbnailStore(config);
+
+    assertFalse(store.open("../../etc/passwd").isPresent());
+    assertFalse(store.open("a".repeat(64) + ".png").isPresent());
+  }
+}
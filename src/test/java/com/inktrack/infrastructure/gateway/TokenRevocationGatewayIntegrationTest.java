@@ -0,0 +1,96 @@
+package com.inktrack.infrastructure.gateway;
+
+import com.inktrack.InkTrackApplication;
+import com.inktrack.infrastructure.config.TokenRevocationConfig;
+import com.inktrack.infrastructure.persistence.RevokedTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = InkTrackApplication.class)
+@ActiveProfiles("test")
+class TokenRevocationGatewayIntegrationTest {
+
+  @Autowired
+  private RevokedTokenRepository revokedTokenRepository;
+
+  @AfterEach
+  void tearDown() {
+    revokedTokenRepository.deleteAllInBatch();
+  }
+
+  @Test
+  void shouldRevokeTokenOnlyOnce() {
+    TokenRevocationGatewayImpl gateway = new TokenRevocationGatewayImpl(revokedTokenRepository);
+    String jti = UUID.randomUUID().toString();
+
+    assertFalse(gateway.isRevoked(jti));
+    assertTrue(gateway.revoke(jti, UUID.randomUUID(), Instant.now().plusSeconds(3600)));
+    assertTrue(gateway.isRevoked(jti));
+    assertFalse(gateway.revoke(jti, UUID.randomUUID(), Instant.now().plusSeconds(3600)));
+  }
+
+  @Test
+  void shouldDetectRevocationRecordedByAnotherInstance() {
+    TokenRevocationGatewayImpl first = new TokenRevocationGatewayImpl(revokedTokenRepository);
+    TokenRevocationGatewayImpl second = new TokenRevocationGatewayImpl(revokedTokenRepository);
+    String jti = UUID.randomUUID().toString();
+
+    assertTrue(first.revoke(jti, UUID.randomUUID(), Instant.now().plusSeconds(3600)));
+
+    assertFalse(second.revoke(jti, UUID.randomUUID(), Instant.now().plusSeconds(3600)));
+  }
+
+  @Test
+  void shouldLoadActiveRevocationsAndPurgeExpiredOnes() {
+    TokenRevocationGatewayImpl writer = new TokenRevocationGatewayImpl(revokedTokenRepository);
+    String active = UUID.randomUUID().toString();
+    String expired = UUID.randomUUID().toString();
+    writer.revoke(active, UUID.randomUUID(), Instant.now().plusSeconds(3600));
+    writer.revoke(expired, UUID.randomUUID(), Instant.now().minusSeconds(60));
+
+    TokenRevocationGatewayImpl restarted = new TokenRevocationGatewayImpl(revokedTokenRepository);
+    restarted.loadRevokedTokens();
+
+    assertTrue(restarted.isRevoked(active));
+    assertFalse(restarted.isRevoked(expired));
+    assertEquals(1, revokedTokenRepository.count());
+  }
+
+  @Test
+  void shouldPurgeExpiredRevocationsWithoutRestarting() {
+    TokenRevocationGatewayImpl gateway = new TokenRevocationGatewayImpl(revokedTokenRepository);
+    String active = UUID.randomUUID().toString();
+    gateway.revoke(active, UUID.randomUUID(), Instant.now().plusSeconds(3600));
+    gateway.revoke(UUID.randomUUID().toString(), UUID.randomUUID(), Instant.now().minusSeconds(60));
+
+    gateway.deleteExpired();
+
+    assertEquals(1, revokedTokenRepository.count());
+    assertTrue(revokedTokenRepository.existsById(active));
+  }
+
+  @Test
+  void shouldKeepRejectingRevokedTokensTheCappedSetDropped() {
+    TokenRevocationConfig config = new TokenRevocationConfig();
+    config.setMaxSize(2);
+    TokenRevocationGatewayImpl gateway = new TokenRevocationGatewayImpl(revokedTokenRepository, config);
+    List<String> revoked = IntStream.range(0, 10).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+    revoked.forEach(jti -> gateway.revoke(jti, UUID.randomUUID(), Instant.now().plusSeconds(3600)));
+
+    revoked.forEach(jti -> assertTrue(gateway.isRevoked(jti), jti));
+    assertFalse(gateway.isRevoked(UUID.randomUUID().toString()));
+  }
+}
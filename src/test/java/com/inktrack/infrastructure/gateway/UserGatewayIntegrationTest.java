@@ -2,25 +2,38 @@ package com.inktrack.infrastructure.gateway;
 
 import com.inktrack.InkTrackApplication;
 import com.inktrack.core.domain.User;
+import com.inktrack.core.exception.EmailAlreadyExistsException;
+import com.inktrack.core.gateway.UserGateway;
 import com.inktrack.infrastructure.entity.UserEntity;
 import com.inktrack.infrastructure.mapper.UserMapper;
 import com.inktrack.infrastructure.persistence.BookRepository;
 import com.inktrack.infrastructure.persistence.NoteRepository;
 import com.inktrack.infrastructure.persistence.ReadingSessionRepository;
 import com.inktrack.infrastructure.persistence.UserRepository;
+import com.inktrack.infrastructure.security.TokenVersionRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 
 @SpringBootTest(classes = InkTrackApplication.class)
 @ActiveProfiles("test")
@@ -32,6 +45,9 @@ class UserGatewayIntegrationTest {
   @Autowired
   private UserMapper userMapper;
 
+  @Autowired
+  private BookCache bookCache;
+
   @Autowired
   private BookRepository bookRepository;
 
@@ -41,11 +57,17 @@ class UserGatewayIntegrationTest {
   @Autowired
   private ReadingSessionRepository readingSessionRepository;
 
+  @Autowired
+  private TokenVersionRegistry tokenVersionRegistry;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
   private UserGatewayImpl userGateway;
 
   @BeforeEach
   void setUp() {
-    userGateway = new UserGatewayImpl(userRepository, userMapper);
+    userGateway = new UserGatewayImpl(userRepository, userMapper, tokenVersionRegistry, bookCache);
   }
 
   @BeforeEach
@@ -122,4 +144,62 @@ class UserGatewayIntegrationTest {
     assertEquals("Bob", foundBob.get().getName());
     assertNotEquals(foundAlice.get().getId(), foundBob.get().getId());
   }
+
+  @Test
+  void shouldThrowEmailAlreadyExistsWhenEmailIsTaken() {
+    userGateway.save(new User(null, "Dave", "dave@example.com", "pass1", LocalDateTime.now()));
+
+    assertThrows(EmailAlreadyExistsException.class,
+        () -> userGateway.save(new User(null, "Other Dave", "dave@example.com", "pass2", LocalDateTime.now())));
+    assertEquals(1, userRepository.count());
+  }
+
+  @Test
+  void shouldFindUserByEmailIgnoringCase() {
+    User savedUser = userGateway.save(new User(null, "Eve", "Eve@Example.com", "pass", LocalDateTime.now()));
+
+    Optional<User> found = userGateway.findByEmail("eve@example.COM");
+
+    assertTrue(found.isPresent());
+    assertEquals(savedUser.getId(), found.get().getId());
+  }
+
+  @Test
+  void shouldBumpTokenVersionWhenUserIsUpdated() {
+    User savedUser = userGateway.save(
+        new User(null, "Carol", "carol@example.com", "hashed_password", LocalDateTime.now())
+    );
+    assertEquals(0, savedUser.getTokenVersion());
+    assertTrue(tokenVersionRegistry.isCurrent(savedUser.getId(), 0));
+
+    User updated = userGateway.update(new User(savedUser.getId(), "Carol Updated", "carol@example.com",
+        "hashed_password", savedUser.getCreatedAt()));
+
+    assertEquals(1, updated.getTokenVersion());
+    assertEquals(1, userGateway.findById(savedUser.getId()).orElseThrow().getTokenVersion());
+    assertFalse(tokenVersionRegistry.isCurrent(savedUser.getId(), 0));
+    assertTrue(tokenVersionRegistry.isCurrent(savedUser.getId(), 1));
+  }
+
+  @Test
+  void shouldKeepTheOldDetailsWhenTheTokenVersionBumpFails() {
+    User savedUser = userGateway.save(
+        new User(null, "Carol", "carol@example.com", "hashed_password", LocalDateTime.now())
+    );
+    UserRepository failingRepository = mock(UserRepository.class, AdditionalAnswers.delegatesTo(userRepository));
+    doThrow(new IllegalStateException("bump failed")).when(failingRepository).incrementTokenVersion(any());
+    ProxyFactory proxyFactory = new ProxyFactory(
+        new UserGatewayImpl(failingRepository, userMapper, tokenVersionRegistry, bookCache)
+    );
+    proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+    UserGateway transactionalGateway = (UserGateway) proxyFactory.getProxy();
+    User renamed = new User(savedUser.getId(), "Carol Updated", "carol@example.com", "hashed_password",
+        savedUser.getCreatedAt());
+
+    assertThrows(IllegalStateException.class, () -> transactionalGateway.update(renamed));
+
+    User stored = userGateway.findById(savedUser.getId()).orElseThrow();
+    assertEquals("Carol", stored.getName());
+    assertEquals(0, stored.getTokenVersion());
+  }
 }
@@ -0,0 +1,43 @@
+package com.inktrack.infrastructure.persistence;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Stand-in for pg_trgm's {@code similarity()} on the H2 test database, registered by
+ * {@code h2-functions.sql}. Words are padded the way pg_trgm pads them before splitting into trigrams.
+ */
+public final class H2TrigramFunctions {
+
+  private H2TrigramFunctions() {
+  }
+
+  public static double similarity(String left, String right) {
+    if (left == null || right == null) {
+      return 0;
+    }
+    Set<String> leftTrigrams = trigrams(left);
+    Set<String> rightTrigrams = trigrams(right);
+    if (leftTrigrams.isEmpty() || rightTrigrams.isEmpty()) {
+      return 0;
+    }
+    Set<String> shared = new HashSet<>(leftTrigrams);
+    shared.retainAll(rightTrigrams);
+    return (double) shared.size() / (leftTrigrams.size() + rightTrigrams.size() - shared.size());
+  }
+
+  private static Set<String> trigrams(String value) {
+    Set<String> trigrams = new HashSet<>();
+    for (String word : value.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+")) {
+      if (word.isEmpty()) {
+        continue;
+      }
+      String padded = "  " + word + " ";
+      for (int i = 0; i + 3 <= padded.length(); i++) {
+        trigrams.add(padded.substring(i, i + 3));
+      }
+    }
+    return trigrams;
+  }
+}
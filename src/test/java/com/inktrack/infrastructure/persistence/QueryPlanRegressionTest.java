@@ -0,0 +1,275 @@
+package com.inktrack.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inktrack.InkTrackApplication;
+import com.inktrack.core.usecases.book.BookCursor;
+import com.inktrack.core.usecases.book.OrderEnum;
+import com.inktrack.infrastructure.entity.BookEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Replays each per-user repository query under {@code EXPLAIN} against a seeded Postgres and fails when
+ * the plan falls back to a sequential scan of books, sessions or notes. Skipped when Docker is not available.
+ */
+@SpringBootTest(
+    classes = InkTrackApplication.class,
+    properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.sql.init.mode=never"
+    }
+)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(StatementRecorder.class)
+class QueryPlanRegressionTest {
+
+  private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+  private static final Set<String> INDEXED_TABLES = Set.of("tb_books", "tb_reading_sessions", "tb_notes");
+
+  private static boolean seeded;
+
+  @Autowired
+  private StatementRecorder recorder;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private BookRepository bookRepository;
+
+  @Autowired
+  private ReadingSessionRepository readingSessionRepository;
+
+  @Autowired
+  private NoteRepository noteRepository;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private UUID userId;
+  private Long bookId;
+
+  @DynamicPropertySource
+  static void postgresProperties(DynamicPropertyRegistry registry) {
+    POSTGRES.start();
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+    registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+  }
+
+  @BeforeEach
+  void seed() {
+    if (!seeded) {
+      jdbcTemplate.execute("""
+          INSERT INTO tb_user (name, email, password)
+          SELECT 'Reader ' || g, 'reader' || g || '@example.com', 'hash'
+          FROM generate_series(1, 500) g
+          """);
+      jdbcTemplate.execute("""
+          INSERT INTO tb_books (user_id, category_id, title, author, total_pages, pages_read, progress, created_at)
+          SELECT u.id, 1 + g % 21, 'Book ' || md5(u.id::text || g), 'Author ' || g % 97, 300, g * 7, g * 7 / 3,
+                 NOW() - g * INTERVAL '1 hour'
+          FROM tb_user u CROSS JOIN generate_series(1, 40) g
+          """);
+      jdbcTemplate.execute("""
+          INSERT INTO tb_reading_sessions (book_id, minutes, pages_read, session_date)
+          SELECT b.id, 30, 10, NOW() - g * INTERVAL '1 day'
+          FROM tb_books b CROSS JOIN generate_series(1, 3) g
+          """);
+      jdbcTemplate.execute("""
+          INSERT INTO tb_notes (book_id, content)
+          SELECT b.id, 'Note ' || g
+          FROM tb_books b CROSS JOIN generate_series(1, 2) g
+          """);
+      jdbcTemplate.execute("ANALYZE");
+      seeded = true;
+    }
+    userId = jdbcTemplate.queryForObject("SELECT id FROM tb_user ORDER BY email LIMIT 1", UUID.class);
+    bookId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM tb_books WHERE user_id = ?", Long.class, userId);
+  }
+
+  @Test
+  void bookListingQueriesUseIndexes() {
+    Sort sort = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    Specification<BookEntity> owned = BookSpecifications.ownedBy(userId);
+
+    assertIndexed(() -> bookRepository.findSummaries(owned, sort, 20, 11));
+    assertIndexed(() -> bookRepository.findSummariesWithTotal(owned, sort, 20, 10));
+    assertIndexed(() -> bookRepository.count(owned));
+    assertIndexed(() -> bookRepository.findByIdAndUserId(bookId, userId));
+    assertIndexed(() -> bookRepository.findUpdatedAtByIdAndUserId(bookId, userId));
+    assertIndexed(() -> bookRepository.getLibraryVersion(userId));
+  }
+
+  @Test
+  void bookKeysetQueryUsesIndexes() {
+    BookCursor cursor = new BookCursor(OrderEnum.RECENT, OffsetDateTime.now().minusHours(20), Long.MAX_VALUE);
+    Sort sort = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    Specification<BookEntity> afterCursor = BookSpecifications.ownedBy(userId).and(BookSpecifications.after(cursor));
+
+    assertIndexed(() -> bookRepository.findSummaries(afterCursor, sort, 0, 11));
+    assertIndexCondition("created_at", () -> bookRepository.findSummaries(afterCursor, sort, 0, 11));
+  }
+
+  @Test
+  void bookSearchQueriesUseIndexes() {
+    Specification<BookEntity> search = BookSpecifications.ownedBy(userId)
+        .and(BookSpecifications.matchesQuery("author 1"));
+
+    assertIndexed(() -> bookRepository.findSummaries(search, Sort.unsorted(), 0, 11));
+    assertIndexed(() -> bookRepository.findSummariesWithTotal(search, Sort.unsorted(), 0, 10));
+    assertIndexed(() -> bookRepository.count(search));
+  }
+
+  @Test
+  void filteredBookListingQueriesUseIndexes() {
+    Sort sort = Sort.by(Sort.Direction.ASC, "progress", "id");
+    Specification<BookEntity> filtered = BookSpecifications.ownedBy(userId)
+        .and(BookSpecifications.authorContains("author"))
+        .and(BookSpecifications.progressAtLeast(10))
+        .and(BookSpecifications.progressAtMost(90))
+        .and(BookSpecifications.createdFrom(OffsetDateTime.now().minusDays(30)))
+        .and(BookSpecifications.linkedToGoogleBooks(false));
+
+    assertIndexed(() -> bookRepository.findSummariesWithTotal(filtered, sort, 0, 10));
+    assertIndexed(() -> bookRepository.count(filtered));
+  }
+
+  @Test
+  void bookMetricQueriesUseIndexes() {
+    assertIndexed(() -> bookRepository.countTotalBooksByUserId(userId));
+    assertIndexed(() -> bookRepository.getAverageProgressByUserId(userId));
+    assertIndexed(() -> bookRepository.getTotalPagesRemainingByUserId(userId));
+    assertIndexed(() -> bookRepository.getBooksCountByCategory(userId));
+  }
+
+  @Test
+  void readingSessionQueriesUseIndexes() {
+    PageRequest page = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "sessionDate", "id"));
+
+    assertIndexed(() -> readingSessionRepository.getReadingSession(bookId, userId, page));
+    assertIndexed(() -> readingSessionRepository.getReadingSessionWithTotal(bookId, userId, page));
+    assertIndexed(() -> readingSessionRepository.countReadingSession(bookId, userId));
+    assertIndexed(() -> readingSessionRepository.getReadingSessionsVersion(bookId, userId));
+    assertIndexed(() -> readingSessionRepository.getByIdAndByBookIdAndUserId(1L, bookId, userId));
+    assertIndexed(() -> readingSessionRepository.countTotalSessionsByUserId(userId));
+    assertIndexed(() -> readingSessionRepository.getTotalMinutesByUserId(userId));
+    assertIndexed(() -> readingSessionRepository.getAveragePagesPerMinuteByUserId(userId));
+    assertIndexed(() -> readingSessionRepository.getAveragePagesPerSessionByUserId(userId));
+    assertIndexed(() -> readingSessionRepository.getReadingEvolution(userId, LocalDate.now().minusDays(30)));
+  }
+
+  @Test
+  void noteQueriesUseIndexes() {
+    PageRequest page = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "updatedAt", "id"));
+
+    assertIndexed(() -> noteRepository.findByBookIdAndUserId(bookId, userId, page));
+    assertIndexed(() -> noteRepository.findByBookIdAndUserIdWithTotal(bookId, userId, page));
+    assertIndexed(() -> noteRepository.countByBookIdAndUserId(bookId, userId));
+    assertIndexed(() -> noteRepository.getNotesVersion(bookId, userId));
+    assertIndexed(() -> noteRepository.findByNoteIdBookIdUserId(1L, bookId, userId));
+  }
+
+  private void assertIndexed(Runnable query) {
+    recorder.clear();
+    query.run();
+    StatementRecorder.RecordedStatement statement = recorder.lastSelect();
+
+    JsonNode plan = explain(statement);
+    List<String> sequentialScans = new ArrayList<>();
+    collectSequentialScans(plan, sequentialScans);
+
+    assertTrue(
+        sequentialScans.isEmpty(),
+        () -> "Sequential scan on " + sequentialScans + " for:\n" + statement.sql() + "\n" + plan.toPrettyString()
+    );
+  }
+
+  /**
+   * Fails unless a books index scan uses {@code column} in its Index Cond, i.e. the scan starts at the
+   * bound instead of reading the user's whole range and filtering it.
+   */
+  private void assertIndexCondition(String column, Runnable query) {
+    recorder.clear();
+    query.run();
+    StatementRecorder.RecordedStatement statement = recorder.lastSelect();
+
+    JsonNode plan = explain(statement);
+    List<String> conditions = new ArrayList<>();
+    collectIndexConditions(plan, conditions);
+
+    assertTrue(
+        conditions.stream().anyMatch(condition -> condition.contains(column)),
+        () -> "No index condition on " + column + " for:\n" + statement.sql() + "\n" + plan.toPrettyString()
+    );
+  }
+
+  private JsonNode explain(StatementRecorder.RecordedStatement statement) {
+    try (Connection connection = dataSource.getConnection();
+         PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + statement.sql())) {
+      for (StatementRecorder.Binding binding : statement.bindings()) {
+        binding.applyTo(explain);
+      }
+      try (ResultSet resultSet = explain.executeQuery()) {
+        resultSet.next();
+        return objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+      }
+    } catch (Exception e) {
+      throw new IllegalStateException("Could not explain: " + statement.sql(), e);
+    }
+  }
+
+  private static void collectIndexConditions(JsonNode node, List<String> conditions) {
+    boolean onBooks = "tb_books".equals(node.path("Relation Name").asText())
+        || node.path("Index Name").asText().startsWith("idx_books_");
+    if (onBooks && node.has("Index Cond")) {
+      conditions.add(node.path("Index Cond").asText());
+    }
+    for (JsonNode child : node.path("Plans")) {
+      collectIndexConditions(child, conditions);
+    }
+  }
+
+  private static void collectSequentialScans(JsonNode node, List<String> sequentialScans) {
+    String relation = node.path("Relation Name").asText();
+    if ("Seq Scan".equals(node.path("Node Type").asText()) && INDEXED_TABLES.contains(relation)) {
+      sequentialScans.add(relation);
+    }
+    for (JsonNode child : node.path("Plans")) {
+      collectSequentialScans(child, sequentialScans);
+    }
+  }
+}
@@ -0,0 +1,309 @@
+package com.inktrack.infrastructure.persistence;
+
+import com.inktrack.InkTrackApplication;
+import com.inktrack.core.domain.Book;
+import com.inktrack.core.domain.Category;
+import com.inktrack.core.domain.Note;
+import com.inktrack.core.domain.User;
+import com.inktrack.core.gateway.BookGateway;
+import com.inktrack.core.gateway.NoteGateway;
+import com.inktrack.core.gateway.ReadingSessionGateway;
+import com.inktrack.core.usecases.book.BookPatch;
+import com.inktrack.core.usecases.book.PatchBookUseCase;
+import com.inktrack.core.usecases.note.GetNotePaginatorUseCase;
+import com.inktrack.core.usecases.note.NoteOutput;
+import com.inktrack.core.usecases.reading.sessions.CreateReadingSessionUseCase;
+import com.inktrack.core.usecases.reading.sessions.GetReadingSessionByBookIdUseCase;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionInput;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionOutput;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionSyncInput;
+import com.inktrack.core.usecases.reading.sessions.ReadingSessionSyncOutput;
+import com.inktrack.core.usecases.reading.sessions.SyncReadingSessionsUseCase;
+import com.inktrack.core.usecases.reading.sessions.UpdateReadingSessionUseCase;
+import com.inktrack.core.utils.PageResult;
+import com.inktrack.infrastructure.entity.CategoryEntity;
+import com.inktrack.infrastructure.entity.UserEntity;
+import com.inktrack.infrastructure.mapper.CategoryMapper;
+import com.inktrack.infrastructure.mapper.UserMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the statements that write paths and page reads send, so a change that brings back row-by-row inserts,
+ * a load-before-update or a lazy load per listed row shows up as a failure.
+ */
+@SpringBootTest(classes = InkTrackApplication.class)
+@ActiveProfiles("test")
+@Import(StatementRecorder.class)
+class StatementCountIntegrationTest {
+
+  @Autowired
+  private StatementRecorder recorder;
+
+  @Autowired
+  private BookGateway bookGateway;
+
+  @Autowired
+  private PatchBookUseCase patchBookUseCase;
+
+  @Autowired
+  private CreateReadingSessionUseCase createReadingSessionUseCase;
+
+  @Autowired
+  private UpdateReadingSessionUseCase updateReadingSessionUseCase;
+
+  @Autowired
+  private SyncReadingSessionsUseCase syncReadingSessionsUseCase;
+
+  @Autowired
+  private GetReadingSessionByBookIdUseCase getReadingSessionByBookIdUseCase;
+
+  @Autowired
+  private GetNotePaginatorUseCase getNotePaginatorUseCase;
+
+  @Autowired
+  private ReadingSessionGateway readingSessionGateway;
+
+  @Autowired
+  private NoteGateway noteGateway;
+
+  @Autowired
+  private ReadingSessionSyncKeyRepository syncKeyRepository;
+
+  @Autowired
+  private NoteRepository noteRepository;
+
+  @Autowired
+  private BookRepository bookRepository;
+
+  @Autowired
+  private ReadingSessionRepository readingSessionRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private UserMapper userMapper;
+
+  @Autowired
+  private CategoryMapper categoryMapper;
+
+  private User user;
+  private Category category;
+
+  @BeforeEach
+  void setUp() {
+    cleanDatabase();
+    user = userMapper.entityToDomain(
+        userRepository.save(new UserEntity(null, "John Doe", "batch@example.com", "hashed"))
+    );
+    category = categoryMapper.entityToDomain(
+        categoryRepository.save(new CategoryEntity(null, "Fiction", OffsetDateTime.now()))
+    );
+  }
+
+  @AfterEach
+  void cleanDatabase() {
+    syncKeyRepository.deleteAllInBatch();
+    noteRepository.deleteAllInBatch();
+    readingSessionRepository.deleteAllInBatch();
+    bookRepository.deleteAllInBatch();
+    userRepository.deleteAllInBatch();
+    categoryRepository.deleteAllInBatch();
+  }
+
+  @Test
+  void savingManyBooksSendsBatchedInsertsAndFewSequenceCalls() {
+    List<Book> books = IntStream.range(0, 120)
+        .mapToObj(i -> Book.builder()
+            .user(user)
+            .category(category)
+            .title("Book " + i)
+            .author("Author")
+            .totalPages(100)
+            .build())
+        .toList();
+
+    recorder.clear();
+    List<Book> saved = bookGateway.saveAll(books);
+
+    assertEquals(120, saved.size());
+    assertEquals(120, bookRepository.count());
+    assertEquals(3, countStatements("insert into tb_books"));
+    // 50 ids per call, plus the extra call the pooled optimizer makes on a fresh sequence.
+    assertTrue(countStatements("select next value for tb_books_id_seq") <= 4);
+  }
+
+  @Test
+  void patchingABookIsOneUpdateStatement() {
+    Book book = bookGateway.save(Book.builder()
+        .user(user)
+        .category(category)
+        .title("Clean Code")
+        .author("Robert C. Martin")
+        .totalPages(100)
+        .build());
+    Category technology = categoryMapper.entityToDomain(
+        categoryRepository.save(new CategoryEntity(null, "Technology", OffsetDateTime.now()))
+    );
+    // Categories are reference data, served from cache once they have been read.
+    patchBookUseCase.execute(book.getId(), new BookPatch(null, null, null, technology.id(), null), user);
+    patchBookUseCase.execute(book.getId(), new BookPatch(null, null, null, category.id(), null), user);
+
+    recorder.clear();
+    patchBookUseCase.execute(book.getId(), new BookPatch("Clean Code 2nd Edition", null, null, null, null), user);
+    assertEquals(1, recorder.statements().size());
+    assertEquals(1, countStatements("update tb_books"));
+
+    recorder.clear();
+    patchBookUseCase.execute(book.getId(), new BookPatch(null, null, null, technology.id(), null), user);
+    assertEquals(1, recorder.statements().size());
+    assertEquals("Technology", bookRepository.findById(book.getId()).orElseThrow().getCategory().getName());
+  }
+
+  @Test
+  void loggingASessionIncrementsTheBookWithoutRewritingIt() {
+    Book book = bookGateway.save(Book.builder()
+        .user(user)
+        .category(category)
+        .title("Clean Code")
+        .author("Robert C. Martin")
+        .totalPages(100)
+        .build());
+
+    recorder.clear();
+    createReadingSessionUseCase.execute(new ReadingSessionInput(book.getId(), 30L, 25), user.getId());
+
+    assertEquals(1, countStatements("update tb_books set pages_read = pages_read +"));
+    assertEquals(1, countStatements("update tb_books"));
+    assertEquals(1, countStatements("insert into tb_reading_sessions"));
+    assertTrue(
+        recorder.statements().stream().noneMatch(statement -> statement.sql().contains("from tb_books")),
+        "the book is read from cache and never reloaded"
+    );
+    assertEquals(25, bookRepository.findById(book.getId()).orElseThrow().getPagesRead());
+  }
+
+  @Test
+  void updatingASessionUsesOneConnectionAndCommitsOnce() {
+    Book book = bookGateway.save(Book.builder()
+        .user(user)
+        .category(category)
+        .title("Clean Code")
+        .author("Robert C. Martin")
+        .totalPages(100)
+        .build());
+    ReadingSessionOutput session = createReadingSessionUseCase.execute(
+        new ReadingSessionInput(book.getId(), 30L, 25),
+        user.getId()
+    );
+
+    recorder.clear();
+    updateReadingSessionUseCase.execute(book.getId(), user.getId(), session.id(), new ReadingSessionInput(
+        book.getId(),
+        45L,
+        40
+    ));
+
+    assertEquals(1, recorder.connections(), "the book load and both writes share one connection");
+    assertEquals(1, recorder.commits());
+    assertEquals(40, bookRepository.findById(book.getId()).orElseThrow().getPagesRead());
+  }
+
+  @Test
+  void syncingManySessionsCostsAHandfulOfStatements() {
+    List<Book> books = bookGateway.saveAll(IntStream.range(0, 3)
+        .mapToObj(i -> Book.builder()
+            .user(user)
+            .category(category)
+            .title("Book " + i)
+            .author("Author")
+            .totalPages(1000)
+            .build())
+        .toList());
+    List<ReadingSessionSyncInput> sessions = IntStream.range(0, 120)
+        .mapToObj(i -> new ReadingSessionSyncInput(
+            "key-" + i,
+            books.get(i % 3).getId(),
+            10L,
+            5,
+            OffsetDateTime.now().minusDays(1)
+        ))
+        .toList();
+
+    recorder.clear();
+    ReadingSessionSyncOutput output = syncReadingSessionsUseCase.execute(sessions, user.getId());
+
+    assertEquals(120, output.created());
+    assertEquals(1, countStatements("insert into tb_reading_session_sync_keys"), "one batch claims every key");
+    assertEquals(0, recorder.statements().stream()
+        .filter(statement -> statement.sql().contains("tb_reading_session_sync_keys"))
+        .filter(statement -> statement.sql().strip().toLowerCase(Locale.ROOT).startsWith("select"))
+        .count(), "keys that were all claimed are not looked up");
+    assertEquals(1, countStatements("update tb_books"), "one batch with a single increment per book");
+    assertEquals(3, countStatements("insert into tb_reading_sessions"), "batches of 50");
+    assertEquals(1, countStatements("update tb_reading_session_sync_keys"), "one batch attaches the sessions");
+    assertTrue(recorder.statements().size() <= 10, "sequence calls stay at one per 50 sessions");
+    assertEquals(1, recorder.connections());
+    assertEquals(1, recorder.commits());
+    assertEquals(200, bookRepository.findById(books.get(0).getId()).orElseThrow().getPagesRead());
+
+    recorder.clear();
+    assertEquals(120, syncReadingSessionsUseCase.execute(sessions, user.getId()).duplicates());
+    assertEquals(2, recorder.statements().size(), "a replay only tries to claim the keys and looks them up");
+  }
+
+  @Test
+  void listingSessionsAndNotesIsOneStatementPerPage() {
+    Book book = bookGateway.save(Book.builder()
+        .user(user)
+        .category(category)
+        .title("Clean Code")
+        .author("Robert C. Martin")
+        .totalPages(100)
+        .build());
+    readingSessionGateway.saveSynced(user.getId(), IntStream.range(0, 7)
+        .mapToObj(i -> new ReadingSessionSyncInput("key-" + i, book.getId(), 10L, 5, OffsetDateTime.now()))
+        .toList());
+    IntStream.range(0, 7).forEach(i -> noteGateway.save(
+        new Note(book, "Note " + i, OffsetDateTime.now(), OffsetDateTime.now())
+    ));
+
+    for (boolean includeTotal : new boolean[] {false, true}) {
+      recorder.clear();
+      PageResult<ReadingSessionOutput> sessions = getReadingSessionByBookIdUseCase
+          .execute(book.getId(), user.getId(), 0, includeTotal);
+      assertEquals(3, sessions.data().size());
+      assertTrue(sessions.data().stream().allMatch(session -> book.getId().equals(session.bookId())));
+      assertEquals(1, recorder.statements().size(), "sessions are read without loading their book");
+
+      recorder.clear();
+      PageResult<NoteOutput> notes = getNotePaginatorUseCase.execute(book.getId(), user.getId(), 1, includeTotal);
+      assertEquals(2, notes.data().size());
+      assertTrue(notes.data().stream().allMatch(note -> book.getId().equals(note.bookId())));
+      assertEquals(1, recorder.statements().size(), "notes are read without loading their book");
+    }
+  }
+
+  private long countStatements(String prefix) {
+    return recorder.statements().stream()
+        .filter(statement -> statement.sql().strip().toLowerCase(Locale.ROOT).startsWith(prefix))
+        .count();
+  }
+}
@@ -0,0 +1,127 @@
+package com.inktrack.infrastructure.persistence;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wraps the application {@link DataSource} so every executed prepared statement is recorded together
+ * with its parameter bindings, which lets a test replay the exact statement under {@code EXPLAIN}. Connection
+ * checkouts and commits are counted too, so a test can tell how many units of work a use case opened.
+ */
+class StatementRecorder implements BeanPostProcessor {
+
+  private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+  private final AtomicInteger connections = new AtomicInteger();
+  private final AtomicInteger commits = new AtomicInteger();
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof DataSource dataSource) {
+      return proxy(DataSource.class, dataSource, (target, method, args) -> {
+        Object result = invoke(method, dataSource, args);
+        if (result instanceof Connection connection) {
+          connections.incrementAndGet();
+          return recordingConnection(connection);
+        }
+        return result;
+      });
+    }
+    return bean;
+  }
+
+  void clear() {
+    statements.clear();
+    connections.set(0);
+    commits.set(0);
+  }
+
+  int connections() {
+    return connections.get();
+  }
+
+  int commits() {
+    return commits.get();
+  }
+
+  List<RecordedStatement> statements() {
+    return List.copyOf(statements);
+  }
+
+  RecordedStatement lastSelect() {
+    for (int i = statements.size() - 1; i >= 0; i--) {
+      RecordedStatement statement = statements.get(i);
+      if (statement.sql().stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+        return statement;
+      }
+    }
+    throw new IllegalStateException("No SELECT statement was recorded");
+  }
+
+  private Connection recordingConnection(Connection connection) {
+    return proxy(Connection.class, connection, (target, method, args) -> {
+      if (method.getName().equals("commit")) {
+        commits.incrementAndGet();
+      }
+      Object result = invoke(method, connection, args);
+      if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+        return recordingStatement(statement, (String) args[0]);
+      }
+      return result;
+    });
+  }
+
+  private PreparedStatement recordingStatement(PreparedStatement statement, String sql) {
+    List<Binding> bindings = new ArrayList<>();
+    return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+      String name = method.getName();
+      if (name.startsWith("set") && args != null && args.length > 0 && args[0] instanceof Integer) {
+        bindings.add(new Binding(method, args.clone()));
+      } else if (name.equals("clearParameters")) {
+        bindings.clear();
+      } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+        statements.add(new RecordedStatement(sql, List.copyOf(bindings)));
+      }
+      return invoke(method, statement, args);
+    });
+  }
+
+  private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+    return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(), new Class<?>[]{type}, handler);
+  }
+
+  record Binding(Method setter, Object[] args) {
+
+    void applyTo(PreparedStatement statement) throws SQLException {
+      try {
+        setter.invoke(statement, args);
+      } catch (ReflectiveOperationException e) {
+        throw new SQLException("Could not replay " + setter.getName(), e);
+      }
+    }
+  }
+
+  record RecordedStatement(String sql, List<Binding> bindings) {
+  }
+}
@@ -0,0 +1,165 @@
+package com.inktrack.infrastructure.security;
+
+import com.inktrack.infrastructure.config.RateLimitConfig;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthRateLimitFilterTest {
+
+  private AuthRateLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    RateLimitConfig config = new RateLimitConfig();
+    config.setIpCapacity(3);
+    config.setEmailCapacity(2);
+    filter = new AuthRateLimitFilter(config, JsonMapper.builder().build());
+  }
+
+  @Test
+  @DisplayName("Should return 429 with Retry-After once the per-IP bucket is empty")
+  void shouldThrottleByClientAddress() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      assertEquals(200, perform(request("/auth/refresh", "10.0.0.1", "{}")).getStatus());
+    }
+
+    MockHttpServletResponse throttled = perform(request("/auth/refresh", "10.0.0.1", "{}"));
+
+    assertEquals(429, throttled.getStatus());
+    assertNotNull(throttled.getHeader("Retry-After"));
+    assertTrue(throttled.getContentAsString().contains("Too many requests"));
+    assertEquals(200, perform(request("/auth/refresh", "10.0.0.2", "{}")).getStatus());
+  }
+
+  @Test
+  @DisplayName("Should throttle by email across client addresses")
+  void shouldThrottleByEmail() throws Exception {
+    String body = "{\"email\":\"John@Example.com\",\"password\":\"secret\"}";
+    assertEquals(200, perform(request("/auth/login", "10.0.0.1", body)).getStatus());
+    assertEquals(200, perform(request("/auth/login", "10.0.0.2", body.replace("John", "john"))).getStatus());
+
+    assertEquals(429, perform(request("/auth/login", "10.0.0.3", body)).getStatus());
+  }
+
+  @Test
+  @DisplayName("Should pass the request body through to the rest of the chain")
+  void shouldKeepRequestBodyReadable() throws Exception {
+    String body = "{\"email\":\"john@example.com\"}";
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request("/auth/login", "10.0.0.1", body), new MockHttpServletResponse(), chain);
+
+    String forwarded = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    assertEquals(body, forwarded);
+  }
+
+  @Test
+  @DisplayName("Should let the chain read the forwarded body asynchronously")
+  void shouldServeForwardedBodyToReadListener() throws Exception {
+    String body = "{\"email\":\"john@example.com\"}";
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(request("/auth/login", "10.0.0.1", body), new MockHttpServletResponse(), chain);
+    ServletInputStream input = chain.getRequest().getInputStream();
+    ByteArrayOutputStream read = new ByteArrayOutputStream();
+    AtomicBoolean allRead = new AtomicBoolean();
+
+    input.setReadListener(new ReadListener() {
+      @Override
+      public void onDataAvailable() throws IOException {
+        while (input.isReady() && !input.isFinished()) {
+          read.write(input.read());
+        }
+      }
+
+      @Override
+      public void onAllDataRead() {
+        allRead.set(true);
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        throw new AssertionError(t);
+      }
+    });
+
+    assertTrue(allRead.get());
+    assertEquals(body, read.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("Should answer 413 without buffering a body over the limit, declared or not")
+  void shouldRejectOversizedBody() throws Exception {
+    String body = "{\"email\":\"john@example.com\",\"password\":\"" + "x".repeat(20_000) + "\"}";
+    HttpServletRequest undeclared = new HttpServletRequestWrapper(request("/auth/login", "10.0.0.1", body)) {
+      @Override
+      public long getContentLengthLong() {
+        return -1;
+      }
+    };
+
+    for (HttpServletRequest oversized : List.of(request("/auth/login", "10.0.0.1", body), undeclared)) {
+      MockFilterChain chain = new MockFilterChain();
+      MockHttpServletResponse response = new MockHttpServletResponse();
+
+      filter.doFilter(oversized, response, chain);
+
+      assertEquals(413, response.getStatus());
+      assertTrue(response.getContentAsString().contains("Payload too large"));
+      assertNull(chain.getRequest());
+    }
+  }
+
+  @Test
+  @DisplayName("Should not throttle endpoints outside authentication")
+  void shouldIgnoreOtherEndpoints() throws Exception {
+    for (int i = 0; i < 10; i++) {
+      assertEquals(200, perform(request("/books", "10.0.0.1", "{}")).getStatus());
+    }
+  }
+
+  @Test
+  @DisplayName("Token bucket should allow a burst of its capacity and then refill over time")
+  void tokenBucketShouldRefill() {
+    TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+
+    assertEquals(0, bucket.tryAcquire(0));
+    assertEquals(0, bucket.tryAcquire(0));
+    assertEquals(Duration.ofSeconds(1).toNanos(), bucket.tryAcquire(0));
+    assertEquals(0, bucket.tryAcquire(Duration.ofSeconds(1).toNanos()));
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  private static MockHttpServletRequest request(String path, String remoteAddress, String body) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+    request.setRemoteAddr(remoteAddress);
+    request.setContentType("application/json");
+    request.setContent(body.getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+}
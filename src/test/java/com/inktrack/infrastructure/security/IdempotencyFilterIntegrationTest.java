@@ -0,0 +1,188 @@
+package com.inktrack.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inktrack.InkTrackApplication;
+import com.inktrack.infrastructure.dtos.book.BookCreateRequest;
+import com.inktrack.infrastructure.dtos.user.CreateUserRequest;
+import com.inktrack.infrastructure.dtos.user.LoginRequest;
+import com.inktrack.infrastructure.entity.CategoryEntity;
+import com.inktrack.infrastructure.persistence.BookRepository;
+import com.inktrack.infrastructure.persistence.CategoryRepository;
+import com.inktrack.infrastructure.persistence.IdempotencyKeyRepository;
+import com.inktrack.infrastructure.persistence.NoteRepository;
+import com.inktrack.infrastructure.persistence.ReadingSessionRepository;
+import com.inktrack.infrastructure.persistence.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = InkTrackApplication.class)
+@ActiveProfiles("test")
+class IdempotencyFilterIntegrationTest {
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private IdempotencyKeyRepository idempotencyKeyRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private BookRepository bookRepository;
+
+  @Autowired
+  private NoteRepository noteRepository;
+
+  @Autowired
+  private ReadingSessionRepository readingSessionRepository;
+
+  private MockMvc mockMvc;
+  private ObjectMapper objectMapper;
+  private String token;
+  private Long categoryId;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockMvc = MockMvcBuilders
+        .webAppContextSetup(webApplicationContext)
+        .apply(springSecurity())
+        .build();
+    objectMapper = new ObjectMapper();
+    cleanDatabase();
+    categoryId = categoryRepository.save(new CategoryEntity(null, "Fiction", OffsetDateTime.now())).getId();
+    token = authenticateAndGetToken();
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanDatabase();
+  }
+
+  private void cleanDatabase() {
+    idempotencyKeyRepository.deleteAllInBatch();
+    noteRepository.deleteAllInBatch();
+    readingSessionRepository.deleteAllInBatch();
+    bookRepository.deleteAllInBatch();
+    userRepository.deleteAllInBatch();
+    categoryRepository.deleteAllInBatch();
+  }
+
+  private String authenticateAndGetToken() throws Exception {
+    mockMvc.perform(post("/auth/register")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(
+                new CreateUserRequest("Retry User", "retry@email.com", "Password123!"))))
+        .andExpect(status().isCreated());
+
+    String loginResponse = mockMvc.perform(post("/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new LoginRequest("retry@email.com", "Password123!"))))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+    return objectMapper.readTree(loginResponse).get("data").get("accessToken").asText();
+  }
+
+  private ResultActions createBook(String idempotencyKey, String title) throws Exception {
+    return mockMvc.perform(post("/books")
+        .header("Authorization", "Bearer " + token)
+        .header(IdempotencyFilter.HEADER, idempotencyKey)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(
+            new BookCreateRequest(title, "Frank Herbert", 412, categoryId, null))));
+  }
+
+  @Test
+  @DisplayName("Should replay the first response to a retried POST without creating the book again")
+  void post_shouldReplayRetriedRequest() throws Exception {
+    MockHttpServletResponse created = createBook("create-dune", "Dune")
+        .andExpect(status().isCreated())
+        .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+        .andExpect(header().exists(HttpHeaders.LOCATION))
+        .andReturn()
+        .getResponse();
+    String first = created.getContentAsString();
+
+    createBook("create-dune", "Dune")
+        .andExpect(status().isCreated())
+        .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+        .andExpect(header().string(HttpHeaders.LOCATION, created.getHeader(HttpHeaders.LOCATION)))
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(first));
+
+    assertEquals(1, bookRepository.count());
+  }
+
+  @Test
+  @DisplayName("Should reject a key reused with a different body")
+  void post_shouldRejectKeyReusedWithDifferentBody() throws Exception {
+    createBook("create-dune", "Dune").andExpect(status().isCreated());
+
+    createBook("create-dune", "Dune Messiah")
+        .andExpect(status().isUnprocessableContent())
+        .andExpect(jsonPath("$.errors[0].field").value(IdempotencyFilter.HEADER));
+
+    assertEquals(1, bookRepository.count());
+  }
+
+  @Test
+  @DisplayName("Should run requests with different keys and reject malformed keys")
+  void post_shouldTreatEachKeySeparately() throws Exception {
+    createBook("first", "Dune").andExpect(status().isCreated());
+    createBook("second", "Dune").andExpect(status().isCreated());
+    createBook(" ", "Dune").andExpect(status().isBadRequest());
+    createBook("k".repeat(IdempotencyFilter.MAX_KEY_LENGTH + 1), "Dune").andExpect(status().isBadRequest());
+
+    assertEquals(2, bookRepository.count());
+  }
+
+  @Test
+  @DisplayName("Should replay client errors instead of running the request again")
+  void post_shouldReplayClientErrors() throws Exception {
+    createBook("blank-title", "").andExpect(status().isBadRequest());
+
+    createBook("blank-title", "")
+        .andExpect(status().isBadRequest())
+        .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+
+    assertEquals(0, bookRepository.count());
+  }
+
+  @Test
+  @DisplayName("Should refuse a body over the limit with 413 instead of buffering it")
+  void post_shouldRejectOversizedBody() throws Exception {
+    createBook("huge", "D".repeat(1024 * 1024))
+        .andExpect(status().isContentTooLarge())
+        .andExpect(jsonPath("$.errors[0].field").value(IdempotencyFilter.HEADER));
+
+    assertEquals(0, bookRepository.count());
+    assertEquals(0, idempotencyKeyRepository.count());
+  }
+}
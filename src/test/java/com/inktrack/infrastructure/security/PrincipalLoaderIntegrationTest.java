@@ -0,0 +1,104 @@
+package com.inktrack.infrastructure.security;
+
+import com.inktrack.InkTrackApplication;
+import com.inktrack.core.domain.User;
+import com.inktrack.core.exception.EmailNotFoundException;
+import com.inktrack.core.gateway.UserGateway;
+import com.inktrack.infrastructure.config.CacheConfig;
+import com.inktrack.infrastructure.entity.UserEntity;
+import com.inktrack.infrastructure.persistence.BookRepository;
+import com.inktrack.infrastructure.persistence.NoteRepository;
+import com.inktrack.infrastructure.persistence.ReadingSessionRepository;
+import com.inktrack.infrastructure.persistence.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = InkTrackApplication.class)
+@ActiveProfiles("test")
+class PrincipalLoaderIntegrationTest {
+
+  @Autowired
+  private PrincipalLoader principalLoader;
+
+  @Autowired
+  private UserGateway userGateway;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BookRepository bookRepository;
+
+  @Autowired
+  private NoteRepository noteRepository;
+
+  @Autowired
+  private ReadingSessionRepository readingSessionRepository;
+
+  private Cache principalCache;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    principalCache = cacheManager.getCache(CacheConfig.PRINCIPAL_CACHE);
+    principalCache.clear();
+    UserEntity user = userRepository.save(new UserEntity(null, "John Doe", "john@example.com", "hashed"));
+    userId = user.getId();
+  }
+
+  @AfterEach
+  void tearDown() {
+    principalCache.clear();
+    noteRepository.deleteAllInBatch();
+    readingSessionRepository.deleteAllInBatch();
+    bookRepository.deleteAllInBatch();
+    userRepository.deleteAllInBatch();
+  }
+
+  @Test
+  void shouldServeRepeatedLookupsFromCache() {
+    UserEntity first = principalLoader.loadById(userId);
+    UserEntity second = principalLoader.loadById(userId);
+
+    assertSame(first, second);
+    assertNotNull(principalCache.get(userId));
+  }
+
+  @Test
+  void shouldEvictPrincipalWhenUserIsUpdated() {
+    principalLoader.loadById(userId);
+
+    userGateway.update(new User(userId, "John Updated", "john@example.com", "hashed", LocalDateTime.now()));
+
+    assertNull(principalCache.get(userId));
+    assertEquals("John Updated", principalLoader.loadById(userId).getName());
+  }
+
+  @Test
+  void shouldEvictPrincipalWhenUserIsDeleted() {
+    principalLoader.loadById(userId);
+
+    userGateway.deleteById(userId);
+
+    assertNull(principalCache.get(userId));
+    assertThrows(EmailNotFoundException.class, () -> principalLoader.loadById(userId));
+  }
+}
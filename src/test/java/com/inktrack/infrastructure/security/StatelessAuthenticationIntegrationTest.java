@@ -0,0 +1,117 @@
+package com.inktrack.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inktrack.InkTrackApplication;
+import com.inktrack.core.domain.User;
+import com.inktrack.core.gateway.UserGateway;
+import com.inktrack.infrastructure.dtos.user.CreateUserRequest;
+import com.inktrack.infrastructure.dtos.user.LoginRequest;
+import com.inktrack.infrastructure.persistence.BookRepository;
+import com.inktrack.infrastructure.persistence.NoteRepository;
+import com.inktrack.infrastructure.persistence.ReadingSessionRepository;
+import com.inktrack.infrastructure.persistence.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = InkTrackApplication.class, properties = "security.auth.stateless=true")
+@ActiveProfiles("test")
+class StatelessAuthenticationIntegrationTest {
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private UserGateway userGateway;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BookRepository bookRepository;
+
+  @Autowired
+  private NoteRepository noteRepository;
+
+  @Autowired
+  private ReadingSessionRepository readingSessionRepository;
+
+  private MockMvc mockMvc;
+
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+        .webAppContextSetup(webApplicationContext)
+        .apply(springSecurity())
+        .build();
+
+    objectMapper = new ObjectMapper();
+    objectMapper.findAndRegisterModules();
+  }
+
+  @AfterEach
+  void tearDown() {
+    noteRepository.deleteAllInBatch();
+    readingSessionRepository.deleteAllInBatch();
+    bookRepository.deleteAllInBatch();
+    userRepository.deleteAllInBatch();
+  }
+
+  @Test
+  void shouldAuthenticateFromTokenClaims() throws Exception {
+    String token = authenticateAndGetToken();
+
+    mockMvc.perform(get("/metrics")
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void shouldRejectTokenIssuedBeforeUserWasUpdated() throws Exception {
+    String token = authenticateAndGetToken();
+    User user = userGateway.findByEmail("stateless@email.com").orElseThrow();
+
+    userGateway.update(new User(user.getId(), "Renamed User", user.getEmail(), user.getPassword(),
+        user.getCreatedAt()));
+
+    mockMvc.perform(get("/metrics")
+            .header("Authorization", "Bearer " + token))
+        .andExpect(status().isUnauthorized());
+  }
+
+  private String authenticateAndGetToken() throws Exception {
+    CreateUserRequest registerRequest = new CreateUserRequest("Stateless User", "stateless@email.com", "Password123!");
+    mockMvc.perform(post("/auth/register")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(registerRequest)))
+        .andExpect(status().isCreated());
+
+    LoginRequest loginRequest = new LoginRequest("stateless@email.com", "Password123!");
+    String loginResponse = mockMvc.perform(post("/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(loginRequest)))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    return objectMapper.readTree(loginResponse)
+        .get("data")
+        .get("accessToken")
+        .asText();
+  }
+}
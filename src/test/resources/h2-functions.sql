@@ -0,0 +1 @@
+CREATE ALIAS IF NOT EXISTS SIMILARITY FOR "com.inktrack.infrastructure.persistence.H2TrigramFunctions.similarity";